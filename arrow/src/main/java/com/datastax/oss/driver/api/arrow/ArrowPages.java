@@ -0,0 +1,147 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.arrow;
+
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.internal.arrow.VectorWriter;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Consumer;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+
+/**
+ * Exports query results as Apache Arrow record batches, one batch per page.
+ *
+ * <p>Each page is first decoded column by column (see {@link
+ * AsyncResultSet#currentColumnarPage()}), then copied into off-heap vectors obtained from the
+ * caller's {@link BufferAllocator}. The schema of the batches is given by {@link
+ * ArrowSchemas#toSchema(ColumnDefinitions)}.
+ */
+public class ArrowPages {
+
+  /**
+   * Converts the remaining rows of the current page of a result set into a record batch.
+   *
+   * <p>This consumes the rows of the page. The caller owns the returned root, and must {@link
+   * VectorSchemaRoot#close() close} it to release its buffers.
+   *
+   * @throws IllegalArgumentException if the result set does not support columnar pages (this
+   *     never happens with the result sets returned by the driver).
+   */
+  @NonNull
+  public static VectorSchemaRoot toVectorSchemaRoot(
+      @NonNull AsyncResultSet resultSet, @NonNull BufferAllocator allocator) {
+    ColumnDefinitions definitions = resultSet.getColumnDefinitions();
+    ColumnarPage page =
+        resultSet
+            .currentColumnarPage()
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        resultSet.getClass().getName() + " does not support columnar pages"));
+    int rowCount = page.getRowCount();
+    VectorSchemaRoot root = VectorSchemaRoot.create(ArrowSchemas.toSchema(definitions), allocator);
+    try {
+      List<FieldVector> vectors = root.getFieldVectors();
+      for (int i = 0; i < vectors.size(); i++) {
+        FieldVector vector = vectors.get(i);
+        vector.setInitialCapacity(rowCount);
+        vector.allocateNew();
+        VectorWriter.write(page, i, definitions.get(i).getType(), vector);
+      }
+      root.setRowCount(rowCount);
+      return root;
+    } catch (Throwable t) {
+      root.close();
+      throw t;
+    }
+  }
+
+  /**
+   * Exports all the pages of a query, fetching them asynchronously.
+   *
+   * <p>Each page is converted with {@link #toVectorSchemaRoot(AsyncResultSet, BufferAllocator)}
+   * and passed to the consumer; the batch is closed as soon as the consumer returns, so it must
+   * not be retained (use {@link org.apache.arrow.vector.util.TransferPair transfer pairs} if the
+   * data needs to outlive the call).
+   *
+   * @return a stage that completes with the total number of exported rows, or fails if a page
+   *     can't be fetched or the consumer throws.
+   */
+  @NonNull
+  public static CompletionStage<Long> exportAll(
+      @NonNull CompletionStage<AsyncResultSet> firstPage,
+      @NonNull BufferAllocator allocator,
+      @NonNull Consumer<? super VectorSchemaRoot> consumer) {
+    CompletableFuture<Long> result = new CompletableFuture<>();
+    firstPage.whenComplete(
+        (resultSet, error) -> {
+          if (error != null) {
+            result.completeExceptionally(error);
+          } else {
+            exportPages(resultSet, 0, allocator, consumer, result);
+          }
+        });
+    return result;
+  }
+
+  private static void exportPages(
+      AsyncResultSet resultSet,
+      long previousRows,
+      BufferAllocator allocator,
+      Consumer<? super VectorSchemaRoot> consumer,
+      CompletableFuture<Long> result) {
+    long rows = previousRows;
+    // Loop as long as the next page is already available: chaining the callbacks instead would
+    // recurse once per page (and eventually overflow the stack if all the pages were prefetched).
+    while (true) {
+      try (VectorSchemaRoot root = toVectorSchemaRoot(resultSet, allocator)) {
+        consumer.accept(root);
+        rows += root.getRowCount();
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+        return;
+      }
+      if (!resultSet.hasMorePages()) {
+        result.complete(rows);
+        return;
+      }
+      CompletableFuture<AsyncResultSet> nextPage = resultSet.fetchNextPage().toCompletableFuture();
+      if (nextPage.isDone() && !nextPage.isCompletedExceptionally()) {
+        resultSet = nextPage.join();
+      } else {
+        long exportedRows = rows;
+        nextPage.whenComplete(
+            (next, error) -> {
+              if (error != null) {
+                result.completeExceptionally(error);
+              } else {
+                exportPages(next, exportedRows, allocator, consumer, result);
+              }
+            });
+        return;
+      }
+    }
+  }
+
+  private ArrowPages() {}
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.arrow;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.apache.arrow.vector.types.DateUnit;
+import org.apache.arrow.vector.types.FloatingPointPrecision;
+import org.apache.arrow.vector.types.TimeUnit;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.FieldType;
+import org.apache.arrow.vector.types.pojo.Schema;
+
+/**
+ * Derives Apache Arrow schemas from CQL result metadata.
+ *
+ * <p>CQL types are mapped as follows:
+ *
+ * <table summary="CQL to Arrow type mapping">
+ *   <tr><th>CQL type</th><th>Arrow type</th></tr>
+ *   <tr><td>tinyint, smallint, int, bigint, counter</td><td>signed Int(8, 16, 32, 64, 64)</td></tr>
+ *   <tr><td>float, double</td><td>FloatingPoint(SINGLE, DOUBLE)</td></tr>
+ *   <tr><td>boolean</td><td>Bool</td></tr>
+ *   <tr><td>timestamp</td><td>Timestamp(MILLISECOND, "UTC")</td></tr>
+ *   <tr><td>date</td><td>Date(DAY)</td></tr>
+ *   <tr><td>time</td><td>Time(NANOSECOND, 64)</td></tr>
+ *   <tr><td>text, varchar, ascii</td><td>Utf8</td></tr>
+ *   <tr><td>uuid, timeuuid</td><td>FixedSizeBinary(16)</td></tr>
+ *   <tr><td>any other type</td><td>Binary (the CQL encoded form of the value)</td></tr>
+ * </table>
+ *
+ * All fields are nullable. The CQL type of each column is also recorded in the field's metadata,
+ * under the key {@link #CQL_TYPE_METADATA_KEY}.
+ */
+public class ArrowSchemas {
+
+  /** The field metadata key under which the CQL type of the column is recorded. */
+  public static final String CQL_TYPE_METADATA_KEY = "cql.type";
+
+  /** Builds the Arrow schema corresponding to the given result metadata. */
+  @NonNull
+  public static Schema toSchema(@NonNull ColumnDefinitions definitions) {
+    List<Field> fields = new ArrayList<>(definitions.size());
+    for (ColumnDefinition definition : definitions) {
+      fields.add(toField(definition));
+    }
+    return new Schema(fields);
+  }
+
+  /** Builds the Arrow field corresponding to the given column. */
+  @NonNull
+  public static Field toField(@NonNull ColumnDefinition definition) {
+    DataType cqlType = definition.getType();
+    FieldType fieldType =
+        new FieldType(
+            true,
+            toArrowType(cqlType),
+            null,
+            Collections.singletonMap(CQL_TYPE_METADATA_KEY, cqlType.asCql(true, true)));
+    return new Field(definition.getName().asInternal(), fieldType, null);
+  }
+
+  /** Returns the Arrow type that the given CQL type is converted to. */
+  @NonNull
+  public static ArrowType toArrowType(@NonNull DataType cqlType) {
+    switch (cqlType.getProtocolCode()) {
+      case ProtocolConstants.DataType.TINYINT:
+        return new ArrowType.Int(8, true);
+      case ProtocolConstants.DataType.SMALLINT:
+        return new ArrowType.Int(16, true);
+      case ProtocolConstants.DataType.INT:
+        return new ArrowType.Int(32, true);
+      case ProtocolConstants.DataType.BIGINT:
+      case ProtocolConstants.DataType.COUNTER:
+        return new ArrowType.Int(64, true);
+      case ProtocolConstants.DataType.FLOAT:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.SINGLE);
+      case ProtocolConstants.DataType.DOUBLE:
+        return new ArrowType.FloatingPoint(FloatingPointPrecision.DOUBLE);
+      case ProtocolConstants.DataType.BOOLEAN:
+        return ArrowType.Bool.INSTANCE;
+      case ProtocolConstants.DataType.TIMESTAMP:
+        return new ArrowType.Timestamp(TimeUnit.MILLISECOND, "UTC");
+      case ProtocolConstants.DataType.DATE:
+        return new ArrowType.Date(DateUnit.DAY);
+      case ProtocolConstants.DataType.TIME:
+        return new ArrowType.Time(TimeUnit.NANOSECOND, 64);
+      case ProtocolConstants.DataType.VARCHAR:
+      case ProtocolConstants.DataType.ASCII:
+        return ArrowType.Utf8.INSTANCE;
+      case ProtocolConstants.DataType.UUID:
+      case ProtocolConstants.DataType.TIMEUUID:
+        return new ArrowType.FixedSizeBinary(16);
+      default:
+        return ArrowType.Binary.INSTANCE;
+    }
+  }
+
+  private ArrowSchemas() {}
+}
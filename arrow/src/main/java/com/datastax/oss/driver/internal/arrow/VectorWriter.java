@@ -0,0 +1,250 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.arrow;
+
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.util.Arrays;
+import java.util.BitSet;
+import net.jcip.annotations.ThreadSafe;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.Float8Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.SmallIntVector;
+import org.apache.arrow.vector.TimeNanoVector;
+import org.apache.arrow.vector.TimeStampMilliTZVector;
+import org.apache.arrow.vector.TinyIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+
+/**
+ * Copies one column of a {@link ColumnarPage} into the Arrow vector created for it by {@code
+ * ArrowSchemas}.
+ *
+ * <p>The vector must have been allocated with a capacity of at least the page's row count. Fixed
+ * width values are written with the unchecked setters; variable width values use the "safe"
+ * variants, since the size of the data buffer can't be known in advance.
+ */
+@ThreadSafe
+public class VectorWriter {
+
+  public static void write(ColumnarPage page, int column, DataType cqlType, FieldVector vector) {
+    int rowCount = page.getRowCount();
+    BitSet nulls = page.getNulls(column);
+    switch (cqlType.getProtocolCode()) {
+      case ProtocolConstants.DataType.INT:
+        {
+          IntVector target = (IntVector) vector;
+          int[] values = page.getInts(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.BIGINT:
+      case ProtocolConstants.DataType.COUNTER:
+        {
+          BigIntVector target = (BigIntVector) vector;
+          long[] values = page.getLongs(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.TIMESTAMP:
+        {
+          TimeStampMilliTZVector target = (TimeStampMilliTZVector) vector;
+          long[] values = page.getLongs(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.TIME:
+        {
+          TimeNanoVector target = (TimeNanoVector) vector;
+          long[] values = page.getLongs(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.FLOAT:
+        {
+          Float4Vector target = (Float4Vector) vector;
+          float[] values = page.getFloats(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.DOUBLE:
+        {
+          Float8Vector target = (Float8Vector) vector;
+          double[] values = page.getDoubles(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.BOOLEAN:
+        {
+          BitVector target = (BitVector) vector;
+          boolean[] values = page.getBooleans(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, values[i] ? 1 : 0);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.TINYINT:
+        {
+          TinyIntVector target = (TinyIntVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (isNull(nulls, offsets, i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, bytes[offsets[i]]);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.SMALLINT:
+        {
+          SmallIntVector target = (SmallIntVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (isNull(nulls, offsets, i)) {
+              target.setNull(i);
+            } else {
+              int o = offsets[i];
+              target.set(i, (short) ((bytes[o] << 8) | (bytes[o + 1] & 0xFF)));
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.DATE:
+        {
+          DateDayVector target = (DateDayVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (isNull(nulls, offsets, i)) {
+              target.setNull(i);
+            } else {
+              // CQL dates are unsigned day counts centered on the epoch (2^31 = 1970-01-01)
+              target.set(i, readInt(bytes, offsets[i]) + Integer.MIN_VALUE);
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.UUID:
+      case ProtocolConstants.DataType.TIMEUUID:
+        {
+          FixedSizeBinaryVector target = (FixedSizeBinaryVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (isNull(nulls, offsets, i)) {
+              target.setNull(i);
+            } else {
+              target.set(i, Arrays.copyOfRange(bytes, offsets[i], offsets[i] + 16));
+            }
+          }
+          break;
+        }
+      case ProtocolConstants.DataType.VARCHAR:
+      case ProtocolConstants.DataType.ASCII:
+        {
+          VarCharVector target = (VarCharVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.setSafe(i, bytes, offsets[i], offsets[i + 1] - offsets[i]);
+            }
+          }
+          break;
+        }
+      default:
+        {
+          VarBinaryVector target = (VarBinaryVector) vector;
+          int[] offsets = page.getOffsets(column);
+          byte[] bytes = page.getBytes(column);
+          for (int i = 0; i < rowCount; i++) {
+            if (nulls.get(i)) {
+              target.setNull(i);
+            } else {
+              target.setSafe(i, bytes, offsets[i], offsets[i + 1] - offsets[i]);
+            }
+          }
+          break;
+        }
+    }
+  }
+
+  // Fixed-size types stored as bytes: an empty cell can't be represented, treat it as null
+  private static boolean isNull(BitSet nulls, int[] offsets, int row) {
+    return nulls.get(row) || offsets[row] == offsets[row + 1];
+  }
+
+  private static int readInt(byte[] bytes, int offset) {
+    return (bytes[offset] & 0xFF) << 24
+        | (bytes[offset + 1] & 0xFF) << 16
+        | (bytes[offset + 2] & 0xFF) << 8
+        | (bytes[offset + 3] & 0xFF);
+  }
+
+  private VectorWriter() {}
+}
@@ -0,0 +1,198 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.arrow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.arrow.memory.BufferAllocator;
+import org.apache.arrow.memory.RootAllocator;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.types.pojo.ArrowType;
+import org.apache.arrow.vector.types.pojo.Field;
+import org.apache.arrow.vector.types.pojo.Schema;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ArrowPagesTest {
+
+  private BufferAllocator allocator;
+  private ColumnDefinitions definitions;
+
+  @Before
+  public void setup() {
+    allocator = new RootAllocator(Long.MAX_VALUE);
+    definitions =
+        definitions(
+            column("id", DataTypes.BIGINT),
+            column("name", DataTypes.TEXT),
+            column("tags", DataTypes.setOf(DataTypes.TEXT)));
+  }
+
+  @After
+  public void teardown() {
+    // Fails if any buffer was leaked
+    allocator.close();
+  }
+
+  @Test
+  public void should_derive_schema_from_column_definitions() {
+    Schema schema = ArrowSchemas.toSchema(definitions);
+
+    assertThat(schema.getFields()).hasSize(3);
+    Field id = schema.getFields().get(0);
+    assertThat(id.getName()).isEqualTo("id");
+    assertThat(id.isNullable()).isTrue();
+    assertThat(id.getType()).isEqualTo(new ArrowType.Int(64, true));
+    assertThat(schema.getFields().get(1).getType()).isEqualTo(ArrowType.Utf8.INSTANCE);
+    Field tags = schema.getFields().get(2);
+    assertThat(tags.getType()).isEqualTo(ArrowType.Binary.INSTANCE);
+    assertThat(tags.getMetadata()).containsEntry(ArrowSchemas.CQL_TYPE_METADATA_KEY, "set<text>");
+  }
+
+  @Test
+  public void should_convert_page_to_vectors() {
+    AsyncResultSet resultSet = page(false, 1L, "foo", 3L, "bar");
+
+    try (VectorSchemaRoot root = ArrowPages.toVectorSchemaRoot(resultSet, allocator)) {
+      assertThat(root.getRowCount()).isEqualTo(2);
+      BigIntVector ids = (BigIntVector) root.getVector("id");
+      assertThat(ids.get(0)).isEqualTo(1L);
+      assertThat(ids.get(1)).isEqualTo(3L);
+      VarCharVector names = (VarCharVector) root.getVector("name");
+      assertThat(new String(names.get(0), StandardCharsets.UTF_8)).isEqualTo("foo");
+      assertThat(new String(names.get(1), StandardCharsets.UTF_8)).isEqualTo("bar");
+      VarBinaryVector tags = (VarBinaryVector) root.getVector("tags");
+      assertThat(tags.isNull(0)).isTrue();
+      assertThat(tags.isNull(1)).isTrue();
+    }
+  }
+
+  @Test
+  public void should_export_all_pages() {
+    AsyncResultSet page2 = page(false, 3L, "bar");
+    AsyncResultSet page1 = page(true, 1L, "foo", 2L, "baz");
+    when(page1.fetchNextPage()).thenAnswer(i -> CompletableFuture.completedFuture(page2));
+    List<Long> exported = new ArrayList<>();
+
+    Long total =
+        ArrowPages.exportAll(
+                CompletableFuture.completedFuture(page1),
+                allocator,
+                root -> {
+                  BigIntVector ids = (BigIntVector) root.getVector("id");
+                  for (int i = 0; i < root.getRowCount(); i++) {
+                    exported.add(ids.get(i));
+                  }
+                })
+            .toCompletableFuture()
+            .join();
+
+    assertThat(total).isEqualTo(3L);
+    assertThat(exported).containsExactly(1L, 2L, 3L);
+  }
+
+  @Test
+  public void should_export_many_pages_that_are_already_available() {
+    int pageCount = 10_000;
+    AsyncResultSet resultSet = page(true, 1L, "foo");
+    AtomicInteger pagesLeft = new AtomicInteger(pageCount);
+    when(resultSet.hasMorePages()).thenAnswer(i -> pagesLeft.decrementAndGet() > 0);
+    when(resultSet.fetchNextPage()).thenAnswer(i -> CompletableFuture.completedFuture(resultSet));
+
+    Long total =
+        ArrowPages.exportAll(CompletableFuture.completedFuture(resultSet), allocator, root -> {})
+            .toCompletableFuture()
+            .join();
+
+    assertThat(total).isEqualTo((long) pageCount);
+  }
+
+  // Builds a mock page of (id, name, tags) rows where tags are always null
+  private AsyncResultSet page(boolean hasMorePages, Object... idsAndNames) {
+    int rowCount = idsAndNames.length / 2;
+    long[] ids = new long[rowCount];
+    String[] names = new String[rowCount];
+    int[] nameOffsets = new int[rowCount + 1];
+    StringBuilder nameBytes = new StringBuilder();
+    for (int i = 0; i < rowCount; i++) {
+      ids[i] = (Long) idsAndNames[i * 2];
+      names[i] = (String) idsAndNames[i * 2 + 1];
+      nameBytes.append(names[i]);
+      nameOffsets[i + 1] = nameBytes.length();
+    }
+    BitSet noNulls = new BitSet();
+    BitSet allNulls = new BitSet();
+    allNulls.set(0, rowCount);
+
+    ColumnarPage columnarPage = mock(ColumnarPage.class);
+    when(columnarPage.getColumnDefinitions()).thenReturn(definitions);
+    when(columnarPage.getRowCount()).thenReturn(rowCount);
+    when(columnarPage.getNulls(0)).thenReturn(noNulls);
+    when(columnarPage.getLongs(0)).thenReturn(ids);
+    when(columnarPage.getNulls(1)).thenReturn(noNulls);
+    when(columnarPage.getOffsets(1)).thenReturn(nameOffsets);
+    when(columnarPage.getBytes(1))
+        .thenReturn(nameBytes.toString().getBytes(StandardCharsets.UTF_8));
+    when(columnarPage.getNulls(2)).thenReturn(allNulls);
+    when(columnarPage.getOffsets(2)).thenReturn(new int[rowCount + 1]);
+    when(columnarPage.getBytes(2)).thenReturn(new byte[0]);
+
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.getColumnDefinitions()).thenReturn(definitions);
+    when(resultSet.currentColumnarPage()).thenReturn(Optional.of(columnarPage));
+    when(resultSet.hasMorePages()).thenReturn(hasMorePages);
+    return resultSet;
+  }
+
+  private static ColumnDefinition column(String name, DataType type) {
+    ColumnDefinition definition = mock(ColumnDefinition.class);
+    when(definition.getName()).thenReturn(CqlIdentifier.fromInternal(name));
+    when(definition.getType()).thenReturn(type);
+    return definition;
+  }
+
+  private static ColumnDefinitions definitions(ColumnDefinition... columns) {
+    List<ColumnDefinition> list = Arrays.asList(columns);
+    ColumnDefinitions definitions = mock(ColumnDefinitions.class);
+    when(definitions.size()).thenReturn(list.size());
+    when(definitions.get(anyInt()))
+        .thenAnswer(i -> list.get(i.getArgument(0)));
+    when(definitions.iterator()).thenAnswer(i -> list.iterator());
+    return definitions;
+  }
+}
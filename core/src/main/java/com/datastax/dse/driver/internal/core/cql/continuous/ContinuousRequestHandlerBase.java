@@ -1009,7 +1009,9 @@ public abstract class ContinuousRequestHandlerBase<StatementT extends Request, R
           logPrefix,
           Bytes.toHexString(idToReprepare),
           node);
-      RepreparePayload repreparePayload = session.getRepreparePayloads().get(idToReprepare);
+      RepreparePayload repreparePayload =
+          Conversions.findRepreparePayload(
+              idToReprepare, statement, session.getRepreparePayloads());
       if (repreparePayload == null) {
         throw new IllegalStateException(
             String.format(
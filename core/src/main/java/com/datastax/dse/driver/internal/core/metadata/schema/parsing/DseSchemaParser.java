@@ -32,6 +32,7 @@ import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.CassandraSchemaParser;
+import com.datastax.oss.driver.internal.core.metadata.schema.parsing.ParallelKeyspaceParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SimpleJsonParser;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.UserDefinedTypeParser;
@@ -41,8 +42,10 @@ import com.datastax.oss.driver.internal.core.util.NanoTime;
 import com.datastax.oss.driver.shaded.guava.common.base.MoreObjects;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.driver.shaded.guava.common.collect.Multimap;
+import io.netty.util.concurrent.EventExecutorGroup;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,6 +97,12 @@ public class DseSchemaParser implements SchemaParser {
     return refresh;
   }
 
+  @Override
+  public CompletionStage<SchemaRefresh> parseAsync(EventExecutorGroup executors) {
+    return ParallelKeyspaceParser.parse(
+        rows, this::parseKeyspace, this::parseVirtualKeyspace, executors, logPrefix, startTimeNs);
+  }
+
   private DseKeyspaceMetadata parseKeyspace(AdminRow keyspaceRow) {
 
     // Cassandra <= 2.2
@@ -808,6 +808,121 @@ public enum DefaultDriverOption implements DriverOption {
    * <p>Value-type: int
    */
   SESSION_LEAK_THRESHOLD("advanced.session-leak.threshold"),
+
+  /**
+   * The location of the local schema snapshot, used to initialize schema metadata without
+   * querying the system tables. If absent, snapshots are disabled.
+   *
+   * <p>Value-type: {@link String}
+   */
+  METADATA_SCHEMA_SNAPSHOT_PATH("advanced.metadata.schema.snapshot.path"),
+
+  /**
+   * The minimum number of node changes in a batch of debounced topology events that triggers a
+   * single full node list refresh, instead of individual node refreshes. 0 disables this.
+   *
+   * <p>Value-type: int
+   */
+  METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD(
+      "advanced.metadata.topology-event-debouncer.full-refresh-threshold"),
+
+  /**
+   * The maximum interval between schema agreement check attempts, when backing off.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL(
+      "advanced.control-connection.schema-agreement.max-interval"),
+
+  /**
+   * Whether schema agreement checks query each node directly, instead of reading system.peers
+   * on the control node.
+   *
+   * <p>Value-type: boolean
+   */
+  CONTROL_CONNECTION_AGREEMENT_QUERY_NODES(
+      "advanced.control-connection.schema-agreement.query-nodes-directly"),
+
+  /**
+   * The largest schema agreement duration that we expect to record.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  METRICS_SESSION_SCHEMA_AGREEMENT_HIGHEST(
+      "advanced.metrics.session.schema-agreement.highest-latency"),
+
+  /**
+   * The number of significant decimal digits to which internal structures will maintain value
+   * resolution and separation for schema agreement durations.
+   *
+   * <p>Value-type: int
+   */
+  METRICS_SESSION_SCHEMA_AGREEMENT_DIGITS(
+      "advanced.metrics.session.schema-agreement.significant-digits"),
+
+  /**
+   * The interval at which percentile data is refreshed for schema agreement durations.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  METRICS_SESSION_SCHEMA_AGREEMENT_INTERVAL(
+      "advanced.metrics.session.schema-agreement.refresh-interval"),
+
+  /**
+   * How often the driver refreshes the full node list, as a backstop for missed or partially
+   * applied topology events. 0 disables periodic refreshes.
+   *
+   * <p>Value-type: {@link java.time.Duration Duration}
+   */
+  METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL(
+      "advanced.metadata.topology-event-debouncer.full-refresh-interval"),
+
+  /**
+   * How many pages to fetch ahead of the one being consumed, when iterating a paged result set.
+   *
+   * <p>Value-type: int
+   */
+  REQUEST_PREFETCH_PAGES("advanced.request.prefetch-pages"),
+
+  /**
+   * The maximum number of entries in the driver-side cache of prepared statements.
+   *
+   * <p>Value-type: int
+   */
+  PREPARED_CACHE_MAX_SIZE("advanced.prepared-statements.prepared-cache.max-size"),
+
+  /**
+   * The maximum number of nodes that a statement is prepared on concurrently, when preparing on all
+   * nodes.
+   *
+   * <p>Value-type: int
+   */
+  PREPARE_ON_ALL_NODES_MAX_PARALLELISM(
+      "advanced.prepared-statements.prepare-on-all-nodes-max-parallelism"),
+
+  /**
+   * Whether prepare requests wait until the statement is prepared on all nodes, or complete as soon
+   * as the first node succeeds.
+   *
+   * <p>Value-type: boolean
+   */
+  PREPARE_ON_ALL_NODES_WAIT("advanced.prepared-statements.prepare-on-all-nodes-wait"),
+
+  /**
+   * The number of statements, most executed first, that must be reprepared before a node that came
+   * back up starts receiving queries.
+   *
+   * <p>Value-type: int
+   */
+  REPREPARE_READY_AFTER("advanced.prepared-statements.reprepare-on-up.ready-after"),
+
+  /**
+   * The location of the file where prepared statement metadata is persisted across restarts. If
+   * absent, persistence is disabled.
+   *
+   * <p>Value-type: {@link String}
+   */
+  PREPARED_CACHE_PERSISTENT_PATH("advanced.prepared-statements.prepared-cache.persistent-path"),
   ;
 
   private final String path;
@@ -284,6 +284,7 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.REQUEST_TRACE_INTERVAL, Duration.ofMillis(3));
     map.put(TypedDriverOption.REQUEST_TRACE_CONSISTENCY, "ONE");
     map.put(TypedDriverOption.REQUEST_LOG_WARNINGS, true);
+    map.put(TypedDriverOption.REQUEST_PREFETCH_PAGES, 0);
     map.put(TypedDriverOption.GRAPH_PAGING_ENABLED, "AUTO");
     map.put(TypedDriverOption.GRAPH_CONTINUOUS_PAGING_PAGE_SIZE, 5000);
     map.put(TypedDriverOption.GRAPH_CONTINUOUS_PAGING_MAX_PAGES, 0);
@@ -304,6 +305,9 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.METRICS_SESSION_THROTTLING_HIGHEST, Duration.ofSeconds(3));
     map.put(TypedDriverOption.METRICS_SESSION_THROTTLING_DIGITS, 3);
     map.put(TypedDriverOption.METRICS_SESSION_THROTTLING_INTERVAL, Duration.ofMinutes(5));
+    map.put(TypedDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_HIGHEST, Duration.ofSeconds(11));
+    map.put(TypedDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_DIGITS, 3);
+    map.put(TypedDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_INTERVAL, Duration.ofMinutes(5));
     map.put(
         TypedDriverOption.CONTINUOUS_PAGING_METRICS_SESSION_CQL_REQUESTS_HIGHEST,
         Duration.ofMinutes(2));
@@ -326,6 +330,8 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.HEARTBEAT_TIMEOUT, Duration.ofMillis(500));
     map.put(TypedDriverOption.METADATA_TOPOLOGY_WINDOW, Duration.ofSeconds(1));
     map.put(TypedDriverOption.METADATA_TOPOLOGY_MAX_EVENTS, 20);
+    map.put(TypedDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD, 5);
+    map.put(TypedDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL, Duration.ofMinutes(5));
     map.put(TypedDriverOption.METADATA_SCHEMA_ENABLED, true);
     map.put(TypedDriverOption.METADATA_SCHEMA_REQUEST_TIMEOUT, Duration.ofSeconds(2));
     map.put(TypedDriverOption.METADATA_SCHEMA_REQUEST_PAGE_SIZE, 5000);
@@ -334,13 +340,19 @@ public class OptionsMap implements Serializable {
     map.put(TypedDriverOption.METADATA_TOKEN_MAP_ENABLED, true);
     map.put(TypedDriverOption.CONTROL_CONNECTION_TIMEOUT, Duration.ofMillis(500));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL, Duration.ofMillis(200));
+    map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL, Duration.ofSeconds(1));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT, Duration.ofSeconds(10));
     map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_WARN, true);
+    map.put(TypedDriverOption.CONTROL_CONNECTION_AGREEMENT_QUERY_NODES, false);
     map.put(TypedDriverOption.PREPARE_ON_ALL_NODES, true);
+    map.put(TypedDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM, 0);
+    map.put(TypedDriverOption.PREPARE_ON_ALL_NODES_WAIT, true);
+    map.put(TypedDriverOption.PREPARED_CACHE_MAX_SIZE, 0);
     map.put(TypedDriverOption.REPREPARE_ENABLED, true);
     map.put(TypedDriverOption.REPREPARE_CHECK_SYSTEM_TABLE, false);
     map.put(TypedDriverOption.REPREPARE_MAX_STATEMENTS, 0);
     map.put(TypedDriverOption.REPREPARE_MAX_PARALLELISM, 100);
+    map.put(TypedDriverOption.REPREPARE_READY_AFTER, 0);
     map.put(TypedDriverOption.REPREPARE_TIMEOUT, Duration.ofMillis(500));
     map.put(TypedDriverOption.NETTY_DAEMON, false);
     map.put(TypedDriverOption.NETTY_IO_SIZE, 0);
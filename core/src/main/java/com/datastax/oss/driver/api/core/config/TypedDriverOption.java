@@ -553,6 +553,66 @@ public class TypedDriverOption<ValueT> {
   /** The maximum number of live sessions that are allowed to coexist in a given VM. */
   public static final TypedDriverOption<Integer> SESSION_LEAK_THRESHOLD =
       new TypedDriverOption<>(DefaultDriverOption.SESSION_LEAK_THRESHOLD, GenericType.INTEGER);
+  /** The location of the local schema snapshot. */
+  public static final TypedDriverOption<String> METADATA_SCHEMA_SNAPSHOT_PATH =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_PATH, GenericType.STRING);
+  /**
+   * The minimum number of node changes in a topology batch that triggers a full node list refresh.
+   */
+  public static final TypedDriverOption<Integer> METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD, GenericType.INTEGER);
+  /** The maximum interval between schema agreement check attempts. */
+  public static final TypedDriverOption<Duration> CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL, GenericType.DURATION);
+  /** Whether schema agreement checks query each node directly. */
+  public static final TypedDriverOption<Boolean> CONTROL_CONNECTION_AGREEMENT_QUERY_NODES =
+      new TypedDriverOption<>(
+          DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_QUERY_NODES, GenericType.BOOLEAN);
+  /** The largest schema agreement duration that we expect to record. */
+  public static final TypedDriverOption<Duration> METRICS_SESSION_SCHEMA_AGREEMENT_HIGHEST =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_HIGHEST, GenericType.DURATION);
+  /** The number of significant decimal digits for schema agreement durations. */
+  public static final TypedDriverOption<Integer> METRICS_SESSION_SCHEMA_AGREEMENT_DIGITS =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_DIGITS, GenericType.INTEGER);
+  /** The interval at which percentile data is refreshed for schema agreement durations. */
+  public static final TypedDriverOption<Duration> METRICS_SESSION_SCHEMA_AGREEMENT_INTERVAL =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_INTERVAL, GenericType.DURATION);
+  /** How often the driver refreshes the full node list. */
+  public static final TypedDriverOption<Duration> METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL =
+      new TypedDriverOption<>(
+          DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL, GenericType.DURATION);
+  /** How many pages to fetch ahead of the one being consumed. */
+  public static final TypedDriverOption<Integer> REQUEST_PREFETCH_PAGES =
+      new TypedDriverOption<>(DefaultDriverOption.REQUEST_PREFETCH_PAGES, GenericType.INTEGER);
+  /** The maximum number of entries in the driver-side cache of prepared statements. */
+  public static final TypedDriverOption<Integer> PREPARED_CACHE_MAX_SIZE =
+      new TypedDriverOption<>(DefaultDriverOption.PREPARED_CACHE_MAX_SIZE, GenericType.INTEGER);
+  /**
+   * The maximum number of nodes that a statement is prepared on concurrently, when preparing on
+   * all nodes.
+   */
+  public static final TypedDriverOption<Integer> PREPARE_ON_ALL_NODES_MAX_PARALLELISM =
+      new TypedDriverOption<>(
+          DefaultDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM, GenericType.INTEGER);
+  /** Whether prepare requests wait until the statement is prepared on all nodes. */
+  public static final TypedDriverOption<Boolean> PREPARE_ON_ALL_NODES_WAIT =
+      new TypedDriverOption<>(DefaultDriverOption.PREPARE_ON_ALL_NODES_WAIT, GenericType.BOOLEAN);
+  /**
+   * The number of statements that must be reprepared before a node that came back up starts
+   * receiving queries.
+   */
+  public static final TypedDriverOption<Integer> REPREPARE_READY_AFTER =
+      new TypedDriverOption<>(DefaultDriverOption.REPREPARE_READY_AFTER, GenericType.INTEGER);
+  /** The location of the file where prepared statement metadata is persisted across restarts. */
+  public static final TypedDriverOption<String> PREPARED_CACHE_PERSISTENT_PATH =
+      new TypedDriverOption<>(
+          DefaultDriverOption.PREPARED_CACHE_PERSISTENT_PATH, GenericType.STRING);
 
   /** The name of the application using the session. */
   public static final TypedDriverOption<String> APPLICATION_NAME =
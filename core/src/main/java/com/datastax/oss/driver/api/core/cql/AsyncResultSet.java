@@ -17,6 +17,8 @@ package com.datastax.oss.driver.api.core.cql;
 
 import com.datastax.oss.driver.api.core.AsyncPagingIterable;
 import com.datastax.oss.driver.api.core.CqlSession;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.Optional;
 
 /**
  * The result of an asynchronous CQL query.
@@ -40,4 +42,21 @@ public interface AsyncResultSet extends AsyncPagingIterable<Row, AsyncResultSet>
    */
   @Override
   boolean wasApplied();
+
+  /**
+   * Returns the remaining rows of the current page, decoded column by column.
+   *
+   * <p>This is an optional operation. The result sets returned by the driver always support it;
+   * the default implementation returns {@link Optional#empty()}, for backward compatibility with
+   * other implementations of this interface. In that case, nothing is consumed, and the rows can
+   * still be read with {@link #currentPage()}.
+   *
+   * <p>Otherwise, this consumes the rows: once this method returns, {@link #currentPage()} has no
+   * more elements, and {@link #remaining()} returns 0. If you need {@link #wasApplied()} as well,
+   * call it first.
+   */
+  @NonNull
+  default Optional<ColumnarPage> currentColumnarPage() {
+    return Optional.empty();
+  }
 }
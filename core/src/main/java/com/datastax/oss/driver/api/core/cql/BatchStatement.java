@@ -141,6 +141,20 @@ public interface BatchStatement extends Statement<BatchStatement>, Iterable<Batc
     return new BatchStatementBuilder(batchType);
   }
 
+  /**
+   * Returns a builder that encodes the values of its children as they are added, and tracks the
+   * accumulated size of the batch.
+   *
+   * <p>Note that this builder is mutable and not thread-safe.
+   *
+   * @see BatchStatementBuilder#BatchStatementBuilder(BatchType, DriverContext)
+   */
+  @NonNull
+  static BatchStatementBuilder builder(
+      @NonNull BatchType batchType, @NonNull DriverContext context) {
+    return new BatchStatementBuilder(batchType, context);
+  }
+
   /**
    * Returns a builder to create an instance of the default implementation, copying the fields of
    * the given statement.
@@ -197,6 +211,9 @@ public interface BatchStatement extends Statement<BatchStatement>, Iterable<Batc
    *
    * <p>The driver's built-in implementation is immutable, and returns a new instance from this
    * method. However custom implementations may choose to be mutable and return the same instance.
+   * Because the built-in implementation copies the existing children on each call, assembling a
+   * batch statement by statement is quadratic; use a {@linkplain #builder(BatchType) builder} for
+   * large batches.
    */
   @NonNull
   BatchStatement add(@NonNull BatchableStatement<?> statement);
@@ -16,17 +16,36 @@
 package com.datastax.oss.driver.api.core.cql;
 
 import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.cql.Conversions;
 import com.datastax.oss.driver.internal.core.cql.DefaultBatchStatement;
+import com.datastax.oss.driver.internal.core.cql.PreEncodedBatchStatement;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.collect.Iterables;
+import com.datastax.oss.protocol.internal.PrimitiveSizes;
+import com.datastax.oss.protocol.internal.request.query.Values;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import net.jcip.annotations.NotThreadSafe;
 
 /**
  * A builder to create a batch statement.
  *
+ * <p>Adding a statement to a builder is a constant-time operation, whereas {@link
+ * BatchStatement#add(BatchableStatement)} copies all the existing children: prefer a builder to
+ * assemble large batches.
+ *
+ * <p>If the builder is created with a {@link #BatchStatementBuilder(BatchType, DriverContext)
+ * driver context}, it also encodes the values of each child as soon as it is added, and keeps track
+ * of the accumulated size (see {@link #getSizeInBytes()}). The encoded values are reused when the
+ * resulting batch is executed.
+ *
  * <p>This class is mutable and not thread-safe.
  */
 @NotThreadSafe
@@ -37,9 +56,33 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
   @NonNull private ImmutableList.Builder<BatchableStatement<?>> statementsBuilder;
   private int statementsCount;
 
+  @Nullable private final ProtocolVersion protocolVersion;
+  @Nullable private final CodecRegistry codecRegistry;
+  // The encoded values of each child, or null if the builder does not encode (or has seen a child
+  // that it does not know how to encode)
+  @Nullable private List<List<ByteBuffer>> encodedValues;
+  private int sizeInBytes;
+
   public BatchStatementBuilder(@NonNull BatchType batchType) {
     this.batchType = batchType;
     this.statementsBuilder = ImmutableList.builder();
+    this.protocolVersion = null;
+    this.codecRegistry = null;
+  }
+
+  /**
+   * Creates a builder that encodes the values of its children as they are added, with the
+   * protocol version and codec registry of the given context.
+   *
+   * <p>Children with named values are rejected immediately, instead of failing when the batch is
+   * executed.
+   */
+  public BatchStatementBuilder(@NonNull BatchType batchType, @NonNull DriverContext context) {
+    this.batchType = batchType;
+    this.statementsBuilder = ImmutableList.builder();
+    this.protocolVersion = context.getProtocolVersion();
+    this.codecRegistry = context.getCodecRegistry();
+    this.encodedValues = new ArrayList<>();
   }
 
   public BatchStatementBuilder(@NonNull BatchStatement template) {
@@ -47,6 +90,8 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
     this.batchType = template.getBatchType();
     this.statementsBuilder = ImmutableList.<BatchableStatement<?>>builder().addAll(template);
     this.statementsCount = template.size();
+    this.protocolVersion = null;
+    this.codecRegistry = null;
   }
 
   /**
@@ -84,8 +129,7 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
       throw new IllegalStateException(
           "Batch statement cannot contain more than " + 0xFFFF + " statements.");
     }
-    statementsCount += 1;
-    statementsBuilder.add(statement);
+    append(statement, encode(statement));
     return this;
   }
 
@@ -102,8 +146,15 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
       throw new IllegalStateException(
           "Batch statement cannot contain more than " + 0xFFFF + " statements.");
     }
-    statementsCount += delta;
-    statementsBuilder.addAll(statements);
+    // Encode everything first, so that the builder is left unchanged if a statement is rejected
+    List<EncodedChild> encoded = new ArrayList<>(delta);
+    for (BatchableStatement<?> statement : statements) {
+      encoded.add(encode(statement));
+    }
+    int i = 0;
+    for (BatchableStatement<?> statement : statements) {
+      append(statement, encoded.get(i++));
+    }
     return this;
   }
 
@@ -127,6 +178,10 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
   public BatchStatementBuilder clearStatements() {
     statementsBuilder = ImmutableList.builder();
     statementsCount = 0;
+    if (protocolVersion != null) {
+      encodedValues = new ArrayList<>();
+    }
+    sizeInBytes = 0;
     return this;
   }
 
@@ -134,6 +189,31 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
   @Override
   @NonNull
   public BatchStatement build() {
+    if (encodedValues != null) {
+      return new PreEncodedBatchStatement(
+          batchType,
+          statementsBuilder.build(),
+          executionProfileName,
+          executionProfile,
+          keyspace,
+          routingKeyspace,
+          routingKey,
+          routingToken,
+          buildCustomPayload(),
+          idempotent,
+          tracing,
+          timestamp,
+          pagingState,
+          pageSize,
+          consistencyLevel,
+          serialConsistencyLevel,
+          timeout,
+          node,
+          nowInSeconds,
+          ImmutableList.copyOf(encodedValues),
+          protocolVersion,
+          codecRegistry);
+    }
     return new DefaultBatchStatement(
         batchType,
         statementsBuilder.build(),
@@ -159,4 +239,83 @@ public class BatchStatementBuilder extends StatementBuilder<BatchStatementBuilde
   public int getStatementsCount() {
     return this.statementsCount;
   }
+
+  /**
+   * Returns the accumulated size of the children added so far, as they will be serialized in the
+   * batch message: the query string or prepared statement id, and the encoded values of each
+   * child.
+   *
+   * <p>This can be used to cut batches before they reach a size limit, such as the server's {@code
+   * batch_size_warn_threshold_in_kb}. Note that the server computes its threshold from the size of
+   * the resulting mutations, so this is only an approximation.
+   *
+   * <p>This is only available if the builder was created with a {@link
+   * #BatchStatementBuilder(BatchType, DriverContext) driver context}; otherwise it always returns
+   * 0.
+   */
+  public int getSizeInBytes() {
+    return sizeInBytes;
+  }
+
+  // Computes the encoded values and size of a child statement, without modifying the builder.
+  // Returns null if pre-encoding is disabled.
+  @Nullable
+  private EncodedChild encode(BatchableStatement<?> statement) {
+    if (protocolVersion == null) {
+      return null;
+    }
+    List<ByteBuffer> values;
+    int size = PrimitiveSizes.BYTE; // the kind of the child: query string or prepared id
+    if (statement instanceof SimpleStatement) {
+      SimpleStatement simpleStatement = (SimpleStatement) statement;
+      if (!simpleStatement.getNamedValues().isEmpty()) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Batch statements cannot contain simple statements with named values "
+                    + "(offending statement: %s)",
+                simpleStatement.getQuery()));
+      }
+      values =
+          Conversions.encode(
+              simpleStatement.getPositionalValues(), codecRegistry, protocolVersion);
+      size += PrimitiveSizes.sizeOfLongString(simpleStatement.getQuery());
+    } else if (statement instanceof BoundStatement) {
+      BoundStatement boundStatement = (BoundStatement) statement;
+      values = boundStatement.getValues();
+      size += PrimitiveSizes.sizeOfShortBytes(boundStatement.getPreparedStatement().getId());
+    } else {
+      // Unknown implementation: it will be handled (or rejected) when the batch is executed
+      return EncodedChild.UNKNOWN;
+    }
+    size += Values.sizeOfPositionalValues(values);
+    return new EncodedChild(values, size);
+  }
+
+  private void append(BatchableStatement<?> statement, @Nullable EncodedChild encoded) {
+    statementsCount += 1;
+    statementsBuilder.add(statement);
+    if (encoded == null) {
+      return;
+    }
+    if (encoded == EncodedChild.UNKNOWN) {
+      encodedValues = null;
+    } else {
+      sizeInBytes += encoded.size;
+      if (encodedValues != null) {
+        encodedValues.add(encoded.values);
+      }
+    }
+  }
+
+  private static class EncodedChild {
+    private static final EncodedChild UNKNOWN = new EncodedChild(null, 0);
+
+    private final List<ByteBuffer> values;
+    private final int size;
+
+    private EncodedChild(List<ByteBuffer> values, int size) {
+      this.values = values;
+      this.size = size;
+    }
+  }
 }
@@ -22,11 +22,15 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.cql.DefaultBoundStatement;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Map;
 import net.jcip.annotations.NotThreadSafe;
 
@@ -34,6 +38,13 @@ import net.jcip.annotations.NotThreadSafe;
  * A builder to create a bound statement.
  *
  * <p>This class is mutable and not thread-safe.
+ *
+ * <p>A builder can be reused to bind multiple statements, for example in a loop that inserts many
+ * rows: after {@link #build()}, the values that are set next only apply to the statements built
+ * after them, and the others are kept from one statement to the next. The values array is only
+ * copied if it is modified after a statement was built from it, so binding a row costs one
+ * statement and one array, regardless of the number of values. Call {@link #reset()} to unset all
+ * the values before the next row.
  */
 @NotThreadSafe
 public class BoundStatementBuilder extends StatementBuilder<BoundStatementBuilder, BoundStatement>
@@ -41,7 +52,9 @@ public class BoundStatementBuilder extends StatementBuilder<BoundStatementBuilde
 
   @NonNull private final PreparedStatement preparedStatement;
   @NonNull private final ColumnDefinitions variableDefinitions;
-  @NonNull private final ByteBuffer[] values;
+  @NonNull private ByteBuffer[] values;
+  // Whether the current values array is referenced by a statement that we built
+  private boolean valuesShared;
   @NonNull private final CodecRegistry codecRegistry;
   @NonNull private final ProtocolVersion protocolVersion;
 
@@ -119,10 +132,57 @@ public class BoundStatementBuilder extends StatementBuilder<BoundStatementBuilde
   @NonNull
   @Override
   public BoundStatementBuilder setBytesUnsafe(int i, ByteBuffer v) {
+    if (valuesShared) {
+      values = values.clone();
+      valuesShared = false;
+    }
     values[i] = v;
     return this;
   }
 
+  // The next two methods reuse the codecs resolved for the previous statements bound from the same
+  // prepared statement, if the variable definitions support it.
+
+  @NonNull
+  @Override
+  public <ValueT> BoundStatementBuilder set(
+      int i, @Nullable ValueT v, @NonNull GenericType<ValueT> targetType) {
+    if (variableDefinitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) variableDefinitions;
+      return set(i, v, defaultDefinitions.codecFor(i, targetType, codecRegistry));
+    } else {
+      return Bindable.super.set(i, v, targetType);
+    }
+  }
+
+  @NonNull
+  @Override
+  public <ValueT> BoundStatementBuilder set(
+      int i, @Nullable ValueT v, @NonNull Class<ValueT> targetClass) {
+    if (variableDefinitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) variableDefinitions;
+      return set(i, v, defaultDefinitions.codecFor(i, targetClass, codecRegistry));
+    } else {
+      return Bindable.super.set(i, v, targetClass);
+    }
+  }
+
+  /**
+   * Unsets all the values, in order to bind the next statement. The other attributes (execution
+   * profile, consistency level, etc.) are preserved.
+   *
+   * <p>Statements that were previously built by this builder are not affected.
+   */
+  @NonNull
+  public BoundStatementBuilder reset() {
+    if (valuesShared) {
+      values = new ByteBuffer[values.length];
+      valuesShared = false;
+    }
+    Arrays.fill(values, ProtocolConstants.UNSET_VALUE);
+    return this;
+  }
+
   @Override
   public ByteBuffer getBytesUnsafe(int i) {
     return values[i];
@@ -154,6 +214,7 @@ public class BoundStatementBuilder extends StatementBuilder<BoundStatementBuilde
   @NonNull
   @Override
   public BoundStatement build() {
+    valuesShared = true;
     return new DefaultBoundStatement(
         preparedStatement,
         variableDefinitions,
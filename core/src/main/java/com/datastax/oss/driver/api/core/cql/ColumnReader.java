@@ -0,0 +1,91 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnReader;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+
+/**
+ * Reads a given column from rows, converting it to a given Java type.
+ *
+ * <p>This is an alternative to {@link Row#get(String, Class)} and similar getters, for code that
+ * reads the same columns by name from a large number of rows:
+ *
+ * <pre>{@code
+ * private static final ColumnReader<String> NAME = ColumnReader.of("name", String.class);
+ * private static final ColumnReader<Integer> AGE = ColumnReader.of("age", Integer.class);
+ *
+ * for (Row row : session.execute(boundStatement)) {
+ *   users.add(new User(NAME.read(row), AGE.read(row)));
+ * }
+ * }</pre>
+ *
+ * <p>A getter resolves the column index (a hash lookup on the name) and the codec (a codec
+ * registry lookup) every time it is invoked. A reader resolves them once for a given {@link
+ * ColumnDefinitions} instance, and reuses them for every subsequent row that shares that instance:
+ * all the rows of a page, and all the pages of a prepared statement's executions if the server
+ * does not send result metadata with each response.
+ *
+ * <p>Readers are immutable from the outside and thread-safe; they are meant to be created once and
+ * stored in constants. If a reader is used concurrently with rows that have different column
+ * definitions, it will still return correct results, but resolve the column more often.
+ */
+public interface ColumnReader<ValueT> {
+
+  /**
+   * Creates a reader for the column with the given name.
+   *
+   * <p>The name is interpreted with the same rules as {@link Row#get(String, Class)}.
+   */
+  @NonNull
+  static <ValueT> ColumnReader<ValueT> of(@NonNull String name, @NonNull Class<ValueT> javaClass) {
+    return new DefaultColumnReader<>(name, null, javaClass, GenericType.of(javaClass));
+  }
+
+  /** Creates a reader for the column with the given name, converting to a generic Java type. */
+  @NonNull
+  static <ValueT> ColumnReader<ValueT> of(
+      @NonNull String name, @NonNull GenericType<ValueT> javaType) {
+    return new DefaultColumnReader<>(name, null, null, javaType);
+  }
+
+  /** Creates a reader for the column with the given identifier. */
+  @NonNull
+  static <ValueT> ColumnReader<ValueT> of(
+      @NonNull CqlIdentifier id, @NonNull Class<ValueT> javaClass) {
+    return new DefaultColumnReader<>(null, id, javaClass, GenericType.of(javaClass));
+  }
+
+  /** Creates a reader for the column with the given identifier, converting to a generic type. */
+  @NonNull
+  static <ValueT> ColumnReader<ValueT> of(
+      @NonNull CqlIdentifier id, @NonNull GenericType<ValueT> javaType) {
+    return new DefaultColumnReader<>(null, id, null, javaType);
+  }
+
+  /**
+   * Reads the column from the given row.
+   *
+   * @throws IllegalArgumentException if the row does not contain the column.
+   * @throws CodecNotFoundException if no codec can perform the conversion.
+   */
+  @Nullable
+  ValueT read(@NonNull Row row);
+}
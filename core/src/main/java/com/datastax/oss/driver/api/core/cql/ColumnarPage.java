@@ -0,0 +1,115 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.BitSet;
+
+/**
+ * A page of results stored column by column, with fixed-size numeric types decoded into primitive
+ * arrays.
+ *
+ * <p>This is intended for analytics and export jobs that scan a lot of rows and process them
+ * column-wise: decoding a whole column at once avoids allocating a {@link Row} and boxing a value
+ * for each cell. Columns are stored as follows, depending on their CQL type:
+ *
+ * <ul>
+ *   <li>{@code int}: {@link #getInts(int)};
+ *   <li>{@code bigint} and {@code counter}: {@link #getLongs(int)};
+ *   <li>{@code timestamp}: {@link #getLongs(int)}, as milliseconds since the epoch;
+ *   <li>{@code time}: {@link #getLongs(int)}, as nanoseconds since midnight;
+ *   <li>{@code float}: {@link #getFloats(int)};
+ *   <li>{@code double}: {@link #getDoubles(int)};
+ *   <li>{@code boolean}: {@link #getBooleans(int)};
+ *   <li>any other type: the encoded bytes of each cell, concatenated in {@link #getBytes(int)} and
+ *       delimited by {@link #getOffsets(int)}. For textual types, {@link #getString(int, int)} is
+ *       a convenient way to decode a cell.
+ * </ul>
+ *
+ * For all types, null cells are indicated by {@link #getNulls(int)}; the corresponding entry of a
+ * primitive array is 0 (or {@code false}), and the corresponding byte range is empty.
+ *
+ * <p>The arrays returned by this class are not copied, they must not be modified.
+ *
+ * @see AsyncResultSet#currentColumnarPage()
+ */
+public interface ColumnarPage {
+
+  @NonNull
+  ColumnDefinitions getColumnDefinitions();
+
+  /** The number of rows in this page. */
+  int getRowCount();
+
+  /**
+   * The null cells of the given column: bit {@code i} is set if the value at row {@code i} is null.
+   */
+  @NonNull
+  BitSet getNulls(int column);
+
+  /** Whether the value of the given column is null for the given row. */
+  default boolean isNull(int column, int row) {
+    return getNulls(column).get(row);
+  }
+
+  /** @throws IllegalArgumentException if the column is not stored as {@code int[]}. */
+  @NonNull
+  int[] getInts(int column);
+
+  /** @throws IllegalArgumentException if the column is not stored as {@code long[]}. */
+  @NonNull
+  long[] getLongs(int column);
+
+  /** @throws IllegalArgumentException if the column is not stored as {@code float[]}. */
+  @NonNull
+  float[] getFloats(int column);
+
+  /** @throws IllegalArgumentException if the column is not stored as {@code double[]}. */
+  @NonNull
+  double[] getDoubles(int column);
+
+  /** @throws IllegalArgumentException if the column is not stored as {@code boolean[]}. */
+  @NonNull
+  boolean[] getBooleans(int column);
+
+  /**
+   * The offsets of each cell in {@link #getBytes(int)}: the value at row {@code i} is the byte
+   * range {@code [offsets[i], offsets[i + 1])}. The array contains {@code getRowCount() + 1}
+   * elements.
+   *
+   * @throws IllegalArgumentException if the column is not stored as bytes.
+   */
+  @NonNull
+  int[] getOffsets(int column);
+
+  /**
+   * The encoded bytes of all the cells of the given column, concatenated.
+   *
+   * @throws IllegalArgumentException if the column is not stored as bytes.
+   */
+  @NonNull
+  byte[] getBytes(int column);
+
+  /**
+   * Decodes a cell of a column stored as bytes as an UTF-8 string. This is intended for the {@code
+   * text}, {@code varchar} and {@code ascii} types.
+   *
+   * @throws IllegalArgumentException if the column is not stored as bytes.
+   */
+  @Nullable
+  String getString(int column, int row);
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * A parallel scan of all the rows of a table.
+ *
+ * <p>The token ring is split into subranges, and each subrange is read with a {@code SELECT ...
+ * WHERE token(pk) > ? AND token(pk) <= ?} query, routed to one of its local replicas. Subranges
+ * are grouped by replica, and the number of concurrent queries per replica is bounded:
+ *
+ * <pre>{@code
+ * TableScan scan =
+ *     TableScan.builder("ks", "user")
+ *         .withColumns("id", "name")
+ *         .withSplitsPerRange(4)
+ *         .withMaxConcurrencyPerNode(2)
+ *         .build();
+ * scan.executeAsync(session, (range, row) -> process(row));
+ * }</pre>
+ *
+ * <p>Scans require token metadata ({@code advanced.metadata.token-map.enabled}), and the schema
+ * of the scanned table.
+ *
+ * <p>Instances are immutable and can be executed multiple times.
+ */
+public interface TableScan {
+
+  @NonNull
+  static TableScanBuilder builder(@NonNull CqlIdentifier keyspace, @NonNull CqlIdentifier table) {
+    return new TableScanBuilder(keyspace, table);
+  }
+
+  /**
+   * Shortcut for {@link #builder(CqlIdentifier, CqlIdentifier)
+   * builder(CqlIdentifier.fromCql(keyspace), CqlIdentifier.fromCql(table))}.
+   */
+  @NonNull
+  static TableScanBuilder builder(@NonNull String keyspace, @NonNull String table) {
+    return builder(CqlIdentifier.fromCql(keyspace), CqlIdentifier.fromCql(table));
+  }
+
+  @NonNull
+  CqlIdentifier getKeyspace();
+
+  @NonNull
+  CqlIdentifier getTable();
+
+  /** The selected columns; an empty list means all columns. */
+  @NonNull
+  List<CqlIdentifier> getColumns();
+
+  /**
+   * Computes the subranges that this scan would query, against the current token map of the
+   * given session. Ranges completed in a previous run are excluded.
+   */
+  @NonNull
+  List<TokenRange> computeRanges(@NonNull CqlSession session);
+
+  /**
+   * Executes the scan asynchronously.
+   *
+   * <p>The returned stage completes when all the subranges have been read, or fails with the
+   * first error. After an error, no new subrange is started, but the queries that are already in
+   * flight run to completion.
+   */
+  @NonNull
+  CompletionStage<Void> executeAsync(
+      @NonNull CqlSession session, @NonNull TableScanListener listener);
+
+  /**
+   * Executes the scan synchronously.
+   *
+   * <p>This must not be called from a driver thread.
+   */
+  default void execute(@NonNull CqlSession session, @NonNull TableScanListener listener) {
+    BlockingOperation.checkNotDriverThread();
+    CompletableFutures.getUninterruptibly(executeAsync(session, listener));
+  }
+}
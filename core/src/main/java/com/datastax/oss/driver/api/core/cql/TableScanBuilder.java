@@ -0,0 +1,135 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.cql.DefaultTableScan;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import net.jcip.annotations.NotThreadSafe;
+
+/** A builder to create a {@link TableScan}. */
+@NotThreadSafe
+public class TableScanBuilder {
+
+  private final CqlIdentifier keyspace;
+  private final CqlIdentifier table;
+  private final ImmutableList.Builder<CqlIdentifier> columns = ImmutableList.builder();
+  private final ImmutableSet.Builder<TokenRange> completedRanges = ImmutableSet.builder();
+  private int splitsPerRange = 1;
+  private int maxConcurrencyPerNode = 1;
+  private int pageSize;
+  private String executionProfileName;
+
+  public TableScanBuilder(@NonNull CqlIdentifier keyspace, @NonNull CqlIdentifier table) {
+    this.keyspace = keyspace;
+    this.table = table;
+  }
+
+  /**
+   * Adds columns to the projection. If this method is never called, the scan selects all columns.
+   */
+  @NonNull
+  public TableScanBuilder withColumns(@NonNull CqlIdentifier... columns) {
+    this.columns.add(columns);
+    return this;
+  }
+
+  /** Shortcut for {@link #withColumns(CqlIdentifier...)} with CQL names. */
+  @NonNull
+  public TableScanBuilder withColumns(@NonNull String... columns) {
+    for (String column : columns) {
+      this.columns.add(CqlIdentifier.fromCql(column));
+    }
+    return this;
+  }
+
+  /**
+   * The number of subranges that each range of the token ring is split into (1 by default).
+   *
+   * <p>More splits mean smaller queries, and finer-grained checkpoints.
+   */
+  @NonNull
+  public TableScanBuilder withSplitsPerRange(int splitsPerRange) {
+    Preconditions.checkArgument(splitsPerRange > 0, "splitsPerRange must be strictly positive");
+    this.splitsPerRange = splitsPerRange;
+    return this;
+  }
+
+  /**
+   * The maximum number of subranges queried concurrently on each replica (1 by default).
+   *
+   * <p>Each subrange is assigned to one of its local replicas that are up, and its queries are sent
+   * to that node directly (see {@link Statement#setNode}). If that node can't be reached, the
+   * subrange is resumed on another local replica. Subranges that have no local replica up are
+   * routed by the load balancing policy, and are not subject to this limit.
+   */
+  @NonNull
+  public TableScanBuilder withMaxConcurrencyPerNode(int maxConcurrencyPerNode) {
+    Preconditions.checkArgument(
+        maxConcurrencyPerNode > 0, "maxConcurrencyPerNode must be strictly positive");
+    this.maxConcurrencyPerNode = maxConcurrencyPerNode;
+    return this;
+  }
+
+  /**
+   * The page size of each subrange query. If this is not set or zero, the value from the
+   * configuration is used.
+   */
+  @NonNull
+  public TableScanBuilder withPageSize(int pageSize) {
+    this.pageSize = pageSize;
+    return this;
+  }
+
+  /** The execution profile of each subrange query. If this is not set, the default is used. */
+  @NonNull
+  public TableScanBuilder withExecutionProfileName(@Nullable String executionProfileName) {
+    this.executionProfileName = executionProfileName;
+    return this;
+  }
+
+  /**
+   * Subranges that were completed by a previous execution, and will be skipped.
+   *
+   * <p>This is used to resume a scan from the ranges reported by {@link
+   * TableScanListener#onRangeCompleted(TokenRange)}. The subranges are matched exactly, so the
+   * scan must use the same number of splits, and the token ring must not have changed in the
+   * meantime.
+   */
+  @NonNull
+  public TableScanBuilder withCompletedRanges(@NonNull Iterable<TokenRange> completedRanges) {
+    this.completedRanges.addAll(completedRanges);
+    return this;
+  }
+
+  @NonNull
+  public TableScan build() {
+    return new DefaultTableScan(
+        keyspace,
+        table,
+        columns.build(),
+        splitsPerRange,
+        maxConcurrencyPerNode,
+        pageSize,
+        executionProfileName,
+        completedRanges.build());
+  }
+}
@@ -0,0 +1,45 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import edu.umd.cs.findbugs.annotations.NonNull;
+
+/**
+ * Receives the results of a {@link TableScan}.
+ *
+ * <p>Callbacks for a given range are invoked sequentially, but different ranges are scanned
+ * concurrently: implementations must be thread-safe. They are invoked on driver I/O threads, and
+ * should therefore never block.
+ */
+@FunctionalInterface
+public interface TableScanListener {
+
+  /** Invoked for each row returned by the scan, with the subrange that the row belongs to. */
+  void onRow(@NonNull TokenRange range, @NonNull Row row);
+
+  /**
+   * Invoked once all the rows of a subrange have been passed to {@link #onRow}.
+   *
+   * <p>This is the place to record progress: the ranges completed so far can be passed to {@link
+   * TableScanBuilder#withCompletedRanges(Iterable)} to resume an interrupted scan.
+   *
+   * <p>The default implementation does nothing.
+   */
+  default void onRangeCompleted(@NonNull TokenRange range) {
+    // nothing to do
+  }
+}
@@ -16,7 +16,9 @@
 package com.datastax.oss.driver.api.core.data;
 
 import com.datastax.oss.protocol.internal.util.Bytes;
+import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
 
 /**
  * A set of static utility methods to work with byte buffers (associated with CQL type {@code
@@ -85,5 +87,27 @@ public class ByteUtils {
     return Bytes.getArray(bytes);
   }
 
+  /**
+   * Maps a region of a file into memory, as a read-only buffer that can be bound as a blob value.
+   *
+   * <p>This is intended for large values: the file contents are not loaded on the heap, they are
+   * copied directly from the OS page cache into the outgoing network buffer when the request is
+   * sent. More generally, any direct buffer bound with {@link
+   * SettableByIndex#setByteBuffer(int, ByteBuffer) setByteBuffer} (or the equivalent by-name
+   * setters) is written to the network without intermediate copies.
+   *
+   * <p>Note that the mapping stays valid even if the channel is closed; it is released when the
+   * returned buffer becomes unreachable.
+   *
+   * @param channel the channel to map; must be readable.
+   * @param position the position in the file at which the region starts.
+   * @param size the size of the region. It must fit in an {@code int}, since CQL blobs can't be
+   *     larger.
+   * @throws IOException if the channel can't be mapped.
+   */
+  public static ByteBuffer map(FileChannel channel, long position, int size) throws IOException {
+    return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+  }
+
   private ByteUtils() {}
 }
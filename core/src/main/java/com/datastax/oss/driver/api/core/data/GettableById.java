@@ -398,6 +398,26 @@ public interface GettableById extends GettableByIndex, AccessibleById {
     return getByteBuffer(firstIndexOf(id));
   }
 
+  /**
+   * Returns the value for the first occurrence of {@code id} as a read-only view, sharing the
+   * contents of the buffer that holds it internally.
+   *
+   * <p>This works with CQL type {@code blob}; see {@link #getReadOnlyByteBuffer(int)} for details.
+   *
+   * <p>If an identifier appears multiple times, this can only be used to access the first value.
+   * For the other ones, use positional getters.
+   *
+   * <p>If you want to avoid the overhead of building a {@code CqlIdentifier}, use the variant of
+   * this method that takes a string argument.
+   *
+   * @throws IllegalArgumentException if the id is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not {@code blob}.
+   */
+  @Nullable
+  default ByteBuffer getReadOnlyByteBuffer(@NonNull CqlIdentifier id) {
+    return getReadOnlyByteBuffer(firstIndexOf(id));
+  }
+
   /**
    * Returns the value for the first occurrence of {@code id} as a Java string.
    *
@@ -416,6 +436,27 @@ public interface GettableById extends GettableByIndex, AccessibleById {
     return getString(firstIndexOf(id));
   }
 
+  /**
+   * Returns the value for the first occurrence of {@code id} as a view over its encoded bytes,
+   * without decoding or copying them.
+   *
+   * <p>This works with CQL types {@code text}, {@code varchar} and {@code ascii}; see {@link
+   * Utf8View} for details.
+   *
+   * <p>If an identifier appears multiple times, this can only be used to access the first value.
+   * For the other ones, use positional getters.
+   *
+   * <p>If you want to avoid the overhead of building a {@code CqlIdentifier}, use the variant of
+   * this method that takes a string argument.
+   *
+   * @throws IllegalArgumentException if the id is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not textual.
+   */
+  @Nullable
+  default Utf8View getUtf8View(@NonNull CqlIdentifier id) {
+    return getUtf8View(firstIndexOf(id));
+  }
+
   /**
    * Returns the value for the first occurrence of {@code id} as a Java big integer.
    *
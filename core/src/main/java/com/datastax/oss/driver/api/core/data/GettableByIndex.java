@@ -355,6 +355,28 @@ public interface GettableByIndex extends AccessibleByIndex {
     return get(i, ByteBuffer.class);
   }
 
+  /**
+   * Returns a read-only view of the {@code i}th value, sharing the contents of the buffer that
+   * holds it internally.
+   *
+   * <p>This works with CQL type {@code blob}, and bypasses the {@link #codecRegistry()}. Unlike
+   * {@link #getByteBuffer(int)} (where a custom codec could make a copy), the contents are never
+   * copied, which matters for large values; the view can't be used to modify the data stored in
+   * this object.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not {@code blob}.
+   */
+  @Nullable
+  default ByteBuffer getReadOnlyByteBuffer(int i) {
+    DataType cqlType = getType(i);
+    if (!DataTypes.BLOB.equals(cqlType)) {
+      throw new CodecNotFoundException(cqlType, GenericType.BYTE_BUFFER);
+    }
+    ByteBuffer bytes = getBytesUnsafe(i);
+    return (bytes == null) ? null : bytes.asReadOnlyBuffer();
+  }
+
   /**
    * Returns the {@code i}th value as a Java string.
    *
@@ -367,6 +389,27 @@ public interface GettableByIndex extends AccessibleByIndex {
     return get(i, String.class);
   }
 
+  /**
+   * Returns the {@code i}th value as a view over its encoded bytes, without decoding or copying
+   * them.
+   *
+   * <p>This works with CQL types {@code text}, {@code varchar} and {@code ascii}, and bypasses the
+   * {@link #codecRegistry()}. It is cheaper than {@link #getString(int)} if the value is only
+   * compared or hashed; see {@link Utf8View} for details.
+   *
+   * @throws IndexOutOfBoundsException if the index is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not textual.
+   */
+  @Nullable
+  default Utf8View getUtf8View(int i) {
+    DataType cqlType = getType(i);
+    if (!DataTypes.TEXT.equals(cqlType) && !DataTypes.ASCII.equals(cqlType)) {
+      throw new CodecNotFoundException(cqlType, GenericType.of(Utf8View.class));
+    }
+    ByteBuffer bytes = getBytesUnsafe(i);
+    return (bytes == null) ? null : Utf8View.wrap(bytes);
+  }
+
   /**
    * Returns the {@code i}th value as a Java big integer.
    *
@@ -394,6 +394,26 @@ public interface GettableByName extends GettableByIndex, AccessibleByName {
     return getByteBuffer(firstIndexOf(name));
   }
 
+  /**
+   * Returns the value for the first occurrence of {@code name} as a read-only view, sharing the
+   * contents of the buffer that holds it internally.
+   *
+   * <p>This works with CQL type {@code blob}; see {@link #getReadOnlyByteBuffer(int)} for details.
+   *
+   * <p>If an identifier appears multiple times, this can only be used to access the first value.
+   * For the other ones, use positional getters.
+   *
+   * <p>This method deals with case sensitivity in the way explained in the documentation of {@link
+   * AccessibleByName}.
+   *
+   * @throws IllegalArgumentException if the name is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not {@code blob}.
+   */
+  @Nullable
+  default ByteBuffer getReadOnlyByteBuffer(@NonNull String name) {
+    return getReadOnlyByteBuffer(firstIndexOf(name));
+  }
+
   /**
    * Returns the value for the first occurrence of {@code name} as a Java string.
    *
@@ -412,6 +432,27 @@ public interface GettableByName extends GettableByIndex, AccessibleByName {
     return getString(firstIndexOf(name));
   }
 
+  /**
+   * Returns the value for the first occurrence of {@code name} as a view over its encoded bytes,
+   * without decoding or copying them.
+   *
+   * <p>This works with CQL types {@code text}, {@code varchar} and {@code ascii}; see {@link
+   * Utf8View} for details.
+   *
+   * <p>If an identifier appears multiple times, this can only be used to access the first value.
+   * For the other ones, use positional getters.
+   *
+   * <p>This method deals with case sensitivity in the way explained in the documentation of {@link
+   * AccessibleByName}.
+   *
+   * @throws IllegalArgumentException if the name is invalid.
+   * @throws CodecNotFoundException if the CQL type of the value is not textual.
+   */
+  @Nullable
+  default Utf8View getUtf8View(@NonNull String name) {
+    return getUtf8View(firstIndexOf(name));
+  }
+
   /**
    * Returns the value for the first occurrence of {@code name} as a Java big integer.
    *
@@ -0,0 +1,213 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.data;
+
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A read-only view of an encoded CQL {@code text}, {@code varchar} or {@code ascii} value, that
+ * doesn't copy or decode the underlying bytes.
+ *
+ * <p>This is intended for callers that only compare or hash values: {@link #equals(Object)},
+ * {@link #hashCode()}, {@link #compareTo(Utf8View)} and {@link #contentEquals(String)} (for ASCII
+ * contents) work directly on the encoded form. Comparisons follow the lexicographic order of
+ * unsigned bytes, which for UTF-8 is the same as the order of Unicode code points.
+ *
+ * <p>The {@link CharSequence} methods are also supported; if the value contains non-ASCII
+ * characters, they decode it into a {@code String} on first use (the result is cached).
+ *
+ * <p>A view shares the buffer of the row it was obtained from: it must not be retained beyond the
+ * lifetime of that row if the buffer is recycled by the application.
+ *
+ * @see GettableByIndex#getUtf8View(int)
+ */
+@ThreadSafe
+public final class Utf8View implements CharSequence, Comparable<Utf8View> {
+
+  /**
+   * Wraps the remaining bytes of the given buffer. Neither the position nor the contents of the
+   * buffer are modified.
+   */
+  @NonNull
+  public static Utf8View wrap(@NonNull ByteBuffer bytes) {
+    return new Utf8View(bytes, bytes.position(), bytes.remaining());
+  }
+
+  private final ByteBuffer bytes;
+  private final int start;
+  private final int byteLength;
+
+  // Lazily computed. The races are benign: at worst they are computed multiple times.
+  private int hash;
+  private byte ascii; // 0 = unknown, 1 = yes, -1 = no
+  private String decoded;
+
+  private Utf8View(ByteBuffer bytes, int start, int byteLength) {
+    this.bytes = bytes;
+    this.start = start;
+    this.byteLength = byteLength;
+  }
+
+  /** The number of bytes in the encoded form of this value. */
+  public int byteLength() {
+    return byteLength;
+  }
+
+  /** Returns the {@code i}th byte of the encoded form of this value. */
+  public byte byteAt(int i) {
+    if (i < 0 || i >= byteLength) {
+      throw new IndexOutOfBoundsException(String.valueOf(i));
+    }
+    return bytes.get(start + i);
+  }
+
+  /** Returns a read-only buffer over the encoded form of this value (no copy is made). */
+  @NonNull
+  public ByteBuffer asByteBuffer() {
+    ByteBuffer view = bytes.asReadOnlyBuffer();
+    view.limit(start + byteLength).position(start);
+    return view.slice();
+  }
+
+  /** Whether all the characters of this value are ASCII. */
+  public boolean isAscii() {
+    byte result = ascii;
+    if (result == 0) {
+      result = 1;
+      for (int i = start, end = start + byteLength; i < end; i++) {
+        if (bytes.get(i) < 0) {
+          result = -1;
+          break;
+        }
+      }
+      ascii = result;
+    }
+    return result == 1;
+  }
+
+  /**
+   * Whether this value is equal to the given string. If this value is ASCII, the comparison is done
+   * without decoding it.
+   */
+  public boolean contentEquals(@NonNull String other) {
+    if (isAscii()) {
+      if (other.length() != byteLength) {
+        return false;
+      }
+      for (int i = 0; i < byteLength; i++) {
+        if (other.charAt(i) != bytes.get(start + i)) {
+          return false;
+        }
+      }
+      return true;
+    } else {
+      return toString().equals(other);
+    }
+  }
+
+  @Override
+  public int length() {
+    return isAscii() ? byteLength : toString().length();
+  }
+
+  @Override
+  public char charAt(int index) {
+    if (isAscii()) {
+      return (char) byteAt(index);
+    } else {
+      return toString().charAt(index);
+    }
+  }
+
+  @NonNull
+  @Override
+  public CharSequence subSequence(int start, int end) {
+    if (isAscii()) {
+      if (start < 0 || end > byteLength || start > end) {
+        throw new IndexOutOfBoundsException(
+            String.format("start: %d, end: %d, length: %d", start, end, byteLength));
+      }
+      return new Utf8View(bytes, this.start + start, end - start);
+    } else {
+      return toString().subSequence(start, end);
+    }
+  }
+
+  @Override
+  public int compareTo(@NonNull Utf8View other) {
+    int length = Math.min(byteLength, other.byteLength);
+    for (int i = 0; i < length; i++) {
+      int b1 = bytes.get(start + i) & 0xFF;
+      int b2 = other.bytes.get(other.start + i) & 0xFF;
+      if (b1 != b2) {
+        return b1 - b2;
+      }
+    }
+    return byteLength - other.byteLength;
+  }
+
+  @Override
+  public boolean equals(Object other) {
+    if (other == this) {
+      return true;
+    } else if (other instanceof Utf8View) {
+      Utf8View that = (Utf8View) other;
+      if (this.byteLength != that.byteLength) {
+        return false;
+      }
+      for (int i = 0; i < byteLength; i++) {
+        if (this.bytes.get(this.start + i) != that.bytes.get(that.start + i)) {
+          return false;
+        }
+      }
+      return true;
+    } else {
+      return false;
+    }
+  }
+
+  @Override
+  public int hashCode() {
+    int result = hash;
+    if (result == 0) {
+      result = 1;
+      for (int i = start, end = start + byteLength; i < end; i++) {
+        result = 31 * result + bytes.get(i);
+      }
+      hash = result;
+    }
+    return result;
+  }
+
+  /** Decodes this value (the result is cached). */
+  @NonNull
+  @Override
+  public String toString() {
+    String result = decoded;
+    if (result == null) {
+      byte[] array = new byte[byteLength];
+      ByteBuffer source = bytes.duplicate();
+      source.position(start);
+      source.get(array);
+      result = new String(array, StandardCharsets.UTF_8);
+      decoded = result;
+    }
+    return result;
+  }
+}
@@ -30,6 +30,14 @@ public enum DefaultSessionMetric implements SessionMetric {
   THROTTLING_QUEUE_SIZE("throttling.queue-size"),
   THROTTLING_ERRORS("throttling.errors"),
   CQL_PREPARED_CACHE_SIZE("cql-prepared-cache-size"),
+  CQL_PREPARED_CACHE_HITS("cql-prepared-cache-hits"),
+  CQL_PREPARED_CACHE_MISSES("cql-prepared-cache-misses"),
+  CQL_PREPARED_CACHE_EVICTIONS("cql-prepared-cache-evictions"),
+  PREPARE_ON_ALL_NODES_PENDING("prepare-on-all-nodes.pending"),
+  PREPARE_ON_ALL_NODES_ERRORS("prepare-on-all-nodes.errors"),
+  REPREPARE_ON_UP_PENDING("reprepare-on-up.pending"),
+  REPREPARE_ON_UP_ERRORS("reprepare-on-up.errors"),
+  SCHEMA_AGREEMENT("schema-agreement"),
   ;
 
   private static final Map<String, DefaultSessionMetric> BY_PATH = sortByPath();
@@ -16,13 +16,27 @@
 package com.datastax.oss.driver.api.core.paging;
 
 import com.datastax.oss.driver.api.core.AsyncPagingIterable;
+import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
 import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.internal.core.util.concurrent.BlockingOperation;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.cache.Cache;
+import com.datastax.oss.driver.shaded.guava.common.cache.CacheBuilder;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Objects;
@@ -86,6 +100,26 @@ import net.jcip.annotations.ThreadSafe;
  * It happens under the hood, and is completely transparent for offset paging: this class will work
  * the same no matter how many network roundtrips were needed to fetch the result. You don't need to
  * set the protocol page size and the logical page size to the same value.
+ *
+ * <h3>Executing the query from the pager</h3>
+ *
+ * If you let the pager execute the statement itself (see {@link #getPage(CqlSession, Statement,
+ * int)}), it can avoid some of the linear cost:
+ *
+ * <ul>
+ *   <li>protocol pages that end before the requested offset are skipped as a whole, without
+ *       iterating their rows. The pager aligns the protocol page size on the logical page size (it
+ *       keeps the statement's own page size if it is already a multiple of it);
+ *   <li>if the pager was created with a paging state cache (see {@link #OffsetPager(int, int)}),
+ *       it remembers the paging state at the start of every logical page it walks past. Jumping to
+ *       page N then resumes the query from the closest known page before N, instead of restarting
+ *       from the beginning.
+ * </ul>
+ *
+ * Skipped protocol pages are still transferred over the network, since the server only hands out
+ * the paging state of a page along with its rows. Cached paging states are only valid for the exact
+ * same statement (same query string and values); if the underlying data changes, pages served from
+ * a cached state reflect the new data from that point on, like regular protocol-level paging.
  */
 @ThreadSafe
 public class OffsetPager {
@@ -111,6 +145,7 @@ public class OffsetPager {
   }
 
   private final int pageSize;
+  private final Cache<PageKey, ByteBuffer> pagingStates;
 
   /**
    * Creates a new instance.
@@ -118,10 +153,31 @@ public class OffsetPager {
    * @param pageSize the number of elements per page. Must be greater than or equal to 1.
    */
   public OffsetPager(int pageSize) {
+    this(pageSize, 0);
+  }
+
+  /**
+   * Creates a new instance that caches paging states for {@link #getPage(CqlSession, Statement,
+   * int)}.
+   *
+   * @param pageSize the number of elements per page. Must be greater than or equal to 1.
+   * @param maxCachedPagingStates the maximum number of paging states to remember, across all
+   *     statements (the least recently used ones are evicted first). 0 disables the cache.
+   */
+  public OffsetPager(int pageSize, int maxCachedPagingStates) {
     if (pageSize < 1) {
       throw new IllegalArgumentException("Invalid pageSize, expected >=1, got " + pageSize);
     }
+    if (maxCachedPagingStates < 0) {
+      throw new IllegalArgumentException(
+          "Invalid maxCachedPagingStates, expected >=0, got " + maxCachedPagingStates);
+    }
     this.pageSize = pageSize;
+    if (maxCachedPagingStates == 0) {
+      this.pagingStates = null;
+    } else {
+      this.pagingStates = CacheBuilder.newBuilder().maximumSize(maxCachedPagingStates).build();
+    }
   }
 
   /**
@@ -197,6 +253,62 @@ public class OffsetPager {
     return pageFuture;
   }
 
+  /**
+   * Executes a statement and extracts a page from the result, skipping whole protocol pages and
+   * resuming from cached paging states where possible.
+   *
+   * <p>This must not be called from a driver thread.
+   *
+   * @param session the session to execute the statement with.
+   * @param statement the statement to execute. It must be a {@link SimpleStatement} or a {@link
+   *     BoundStatement}. Its paging state is ignored, and its page size may be overridden (see the
+   *     class-level javadocs).
+   * @param targetPageNumber the page to return (1 for the first page, 2 for the second page, etc).
+   *     Must be greater than or equal to 1.
+   * @return the requested page, or the last page if the requested page was past the end of the
+   *     result set.
+   * @throws IllegalArgumentException if the conditions on the arguments are not respected.
+   */
+  @NonNull
+  public Page<Row> getPage(
+      @NonNull CqlSession session, @NonNull Statement<?> statement, final int targetPageNumber) {
+    BlockingOperation.checkNotDriverThread();
+    return CompletableFutures.getUninterruptibly(
+        getPageAsync(session, statement, targetPageNumber));
+  }
+
+  /**
+   * Executes a statement asynchronously and extracts a page from the result, skipping whole
+   * protocol pages and resuming from cached paging states where possible.
+   *
+   * @param session the session to execute the statement with.
+   * @param statement the statement to execute. It must be a {@link SimpleStatement} or a {@link
+   *     BoundStatement}. Its paging state is ignored, and its page size may be overridden (see the
+   *     class-level javadocs).
+   * @param targetPageNumber the page to return (1 for the first page, 2 for the second page, etc).
+   *     Must be greater than or equal to 1.
+   * @return a stage that will complete with the requested page, or the last page if the requested
+   *     page was past the end of the result set.
+   * @throws IllegalArgumentException if the conditions on the arguments are not respected.
+   */
+  @NonNull
+  public CompletionStage<Page<Row>> getPageAsync(
+      @NonNull CqlSession session, @NonNull Statement<?> statement, final int targetPageNumber) {
+
+    Objects.requireNonNull(session);
+    throwIfIllegalArguments(statement, targetPageNumber);
+    Object statementKey = (pagingStates == null) ? null : statementKey(statement);
+
+    int fetchSize = statement.getPageSize();
+    if (fetchSize <= 0 || fetchSize % pageSize != 0) {
+      statement = statement.setPageSize(pageSize);
+    }
+
+    CompletableFuture<Page<Row>> pageFuture = new CompletableFuture<>();
+    execute(session, statement, statementKey, targetPageNumber, false, pageFuture);
+    return pageFuture;
+  }
+
   private void throwIfIllegalArguments(@NonNull Object iterable, int targetPageNumber) {
     Objects.requireNonNull(iterable);
     if (targetPageNumber < 1) {
@@ -289,6 +401,261 @@ public class OffsetPager {
     }
   }
 
+  /**
+   * Starts (or resumes) the query for the session-based methods: if we know the paging state of the
+   * target page or of any page before it, start from there, otherwise from the beginning.
+   */
+  private void execute(
+      @NonNull CqlSession session,
+      @NonNull Statement<?> statement,
+      @Nullable Object statementKey,
+      final int targetPageNumber,
+      boolean restarted,
+      @NonNull CompletableFuture<Page<Row>> pageFuture) {
+
+    ByteBuffer pagingState = null;
+    int startPageNumber = 1;
+    if (statementKey != null) {
+      for (int pageNumber = targetPageNumber; pageNumber > 1; pageNumber--) {
+        pagingState = pagingStates.getIfPresent(new PageKey(statementKey, pageNumber));
+        if (pagingState != null) {
+          startPageNumber = pageNumber;
+          break;
+        }
+      }
+    }
+    int startOffset = (startPageNumber - 1) * pageSize;
+    session
+        .executeAsync(
+            statement.setPagingState(pagingState == null ? null : pagingState.duplicate()))
+        .whenComplete(
+            (resultSet, throwable) -> {
+              if (throwable != null) {
+                pageFuture.completeExceptionally(throwable);
+              } else {
+                onPage(
+                    session,
+                    statement,
+                    statementKey,
+                    resultSet,
+                    targetPageNumber,
+                    startOffset,
+                    new ArrayList<>(),
+                    new ArrayDeque<>(),
+                    restarted,
+                    pageFuture);
+              }
+            });
+  }
+
+  /**
+   * Processes a protocol page for the session-based methods.
+   *
+   * @param offset the number of rows in the result set before this protocol page.
+   * @param skipped the most recent protocol pages that were skipped without iterating their rows,
+   *     enough to cover a logical page. If the target page turns out to be past the end, the last
+   *     page is extracted from them.
+   * @param restarted whether the query was already re-executed because the target page was past
+   *     the end.
+   */
+  private void onPage(
+      @NonNull CqlSession session,
+      @NonNull Statement<?> statement,
+      @Nullable Object statementKey,
+      @NonNull AsyncResultSet resultSet,
+      final int targetPageNumber,
+      int offset,
+      @NonNull List<Row> targetPageElements,
+      @NonNull Deque<AsyncResultSet> skipped,
+      boolean restarted,
+      @NonNull CompletableFuture<Page<Row>> pageFuture) {
+
+    int rows = resultSet.remaining();
+    int endOffset = offset + rows;
+    if (statementKey != null && rows > 0 && endOffset % pageSize == 0) {
+      ByteBuffer pagingState = resultSet.getExecutionInfo().getPagingState();
+      if (pagingState != null) {
+        pagingStates.put(
+            new PageKey(statementKey, endOffset / pageSize + 1), pagingState.asReadOnlyBuffer());
+      }
+    }
+
+    int targetOffset = (targetPageNumber - 1) * pageSize;
+    if (endOffset <= targetOffset) {
+      // The whole protocol page is before the target page, skip it without iterating
+      int skippedRows = skip(resultSet, skipped);
+      if (resultSet.hasMorePages()) {
+        resultSet
+            .fetchNextPage()
+            .whenComplete(
+                (nextResultSet, throwable) -> {
+                  if (throwable != null) {
+                    pageFuture.completeExceptionally(throwable);
+                  } else {
+                    onPage(
+                        session,
+                        statement,
+                        statementKey,
+                        nextResultSet,
+                        targetPageNumber,
+                        endOffset,
+                        targetPageElements,
+                        skipped,
+                        restarted,
+                        pageFuture);
+                  }
+                });
+        return;
+      }
+      // Past the end, the last page is in the protocol pages that we've just skipped
+      int lastPageNumber = Math.max(1, (endOffset + pageSize - 1) / pageSize);
+      int lastPageOffset = (lastPageNumber - 1) * pageSize;
+      int position = endOffset - skippedRows;
+      if (position > lastPageOffset && !restarted) {
+        // We resumed from a cached paging state, and the result set has shrunk since: the rows of
+        // the last page were never fetched, so we need to query it again.
+        execute(session, statement, statementKey, lastPageNumber, true, pageFuture);
+        return;
+      }
+      for (AsyncResultSet skippedResultSet : skipped) {
+        for (Row row : skippedResultSet.currentPage()) {
+          if (position >= lastPageOffset) {
+            targetPageElements.add(row);
+          }
+          position += 1;
+        }
+      }
+      pageFuture.complete(new DefaultPage<>(targetPageElements, lastPageNumber, true));
+      return;
+    }
+    // We've reached the target page, we won't need the skipped pages anymore
+    skipped.clear();
+
+    Iterator<Row> currentFrame = resultSet.currentPage().iterator();
+    int position = offset;
+    while (currentFrame.hasNext()) {
+      Row row = currentFrame.next();
+      if (position >= targetOffset) {
+        targetPageElements.add(row);
+      }
+      position += 1;
+      if (targetPageElements.size() == pageSize) {
+        if (currentFrame.hasNext()) {
+          pageFuture.complete(new DefaultPage<>(targetPageElements, targetPageNumber, false));
+        } else if (!resultSet.hasMorePages()) {
+          pageFuture.complete(new DefaultPage<>(targetPageElements, targetPageNumber, true));
+        } else {
+          // The server might return an empty last frame, fetch it to know for sure
+          resultSet
+              .fetchNextPage()
+              .whenComplete(
+                  (nextResultSet, throwable) -> {
+                    if (throwable != null) {
+                      pageFuture.completeExceptionally(throwable);
+                    } else {
+                      boolean isLastPage = nextResultSet.remaining() == 0;
+                      pageFuture.complete(
+                          new DefaultPage<>(targetPageElements, targetPageNumber, isLastPage));
+                    }
+                  });
+        }
+        return;
+      }
+    }
+
+    if (resultSet.hasMorePages()) {
+      int finalPosition = position;
+      resultSet
+          .fetchNextPage()
+          .whenComplete(
+              (nextResultSet, throwable) -> {
+                if (throwable != null) {
+                  pageFuture.completeExceptionally(throwable);
+                } else {
+                  onPage(
+                      session,
+                      statement,
+                      statementKey,
+                      nextResultSet,
+                      targetPageNumber,
+                      finalPosition,
+                      targetPageElements,
+                      skipped,
+                      restarted,
+                      pageFuture);
+                }
+              });
+    } else {
+      pageFuture.complete(new DefaultPage<>(targetPageElements, targetPageNumber, true));
+    }
+  }
+
+  /**
+   * Records a protocol page that was skipped, and forgets the oldest ones that are not needed to
+   * cover the last {@code pageSize} rows.
+   *
+   * @return the number of rows in the remaining skipped pages.
+   */
+  private int skip(@NonNull AsyncResultSet resultSet, @NonNull Deque<AsyncResultSet> skipped) {
+    if (resultSet.remaining() > 0) {
+      skipped.addLast(resultSet);
+    }
+    int skippedRows = 0;
+    for (AsyncResultSet skippedResultSet : skipped) {
+      skippedRows += skippedResultSet.remaining();
+    }
+    while (!skipped.isEmpty() && skippedRows - skipped.getFirst().remaining() >= pageSize) {
+      skippedRows -= skipped.removeFirst().remaining();
+    }
+    return skippedRows;
+  }
+
+  @NonNull
+  private static Object statementKey(@NonNull Statement<?> statement) {
+    if (statement instanceof SimpleStatement) {
+      SimpleStatement simpleStatement = (SimpleStatement) statement;
+      return Arrays.asList(
+          simpleStatement.getQuery(),
+          simpleStatement.getPositionalValues(),
+          simpleStatement.getNamedValues(),
+          simpleStatement.getKeyspace());
+    } else if (statement instanceof BoundStatement) {
+      BoundStatement boundStatement = (BoundStatement) statement;
+      return Arrays.asList(
+          boundStatement.getPreparedStatement().getId(), boundStatement.getValues());
+    } else {
+      throw new IllegalArgumentException(
+          "Unsupported statement type for paging state caching: " + statement.getClass().getName());
+    }
+  }
+
+  private static class PageKey {
+    private final Object statementKey;
+    private final int pageNumber;
+
+    PageKey(@NonNull Object statementKey, int pageNumber) {
+      this.statementKey = statementKey;
+      this.pageNumber = pageNumber;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) {
+        return true;
+      } else if (other instanceof PageKey) {
+        PageKey that = (PageKey) other;
+        return this.pageNumber == that.pageNumber && this.statementKey.equals(that.statementKey);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(statementKey, pageNumber);
+    }
+  }
+
   private static class DefaultPage<ElementT> implements Page<ElementT> {
     private final List<ElementT> elements;
     private final int pageNumber;
@@ -35,6 +35,9 @@ import com.datastax.oss.driver.internal.core.type.codec.DoubleCodec;
 import com.datastax.oss.driver.internal.core.type.codec.FloatCodec;
 import com.datastax.oss.driver.internal.core.type.codec.InetCodec;
 import com.datastax.oss.driver.internal.core.type.codec.IntCodec;
+import com.datastax.oss.driver.internal.core.type.codec.InterningStringCodec;
+import com.datastax.oss.driver.internal.core.type.codec.LazyListCodec;
+import com.datastax.oss.driver.internal.core.type.codec.LazyMapCodec;
 import com.datastax.oss.driver.internal.core.type.codec.ListCodec;
 import com.datastax.oss.driver.internal.core.type.codec.MapCodec;
 import com.datastax.oss.driver.internal.core.type.codec.SetCodec;
@@ -143,6 +146,33 @@ public class TypeCodecs {
         DataTypes.mapOf(keyCodec.getCqlType(), valueCodec.getCqlType()), keyCodec, valueCodec);
   }
 
+  /**
+   * Returns a list codec that decodes lazily: the decoded list is an unmodifiable view over the
+   * encoded bytes, and each element is decoded when it is accessed (every time it is accessed).
+   *
+   * <p>This avoids materializing large collections when only a few elements are read, or when
+   * they are iterated only once. Pass the codec explicitly to the getters, for example {@code
+   * row.get("blobs", TypeCodecs.lazyListOf(TypeCodecs.BLOB))}.
+   */
+  @NonNull
+  public static <T> TypeCodec<List<T>> lazyListOf(@NonNull TypeCodec<T> elementCodec) {
+    return new LazyListCodec<>(DataTypes.listOf(elementCodec.getCqlType()), elementCodec);
+  }
+
+  /**
+   * Returns a map codec that decodes lazily: the decoded map is an unmodifiable view over the
+   * encoded bytes, and entries are decoded when they are accessed.
+   *
+   * <p>Lookups by key compare the encoded form of the keys, so they don't need to decode them.
+   * See {@link #lazyListOf(TypeCodec)} for more explanations.
+   */
+  @NonNull
+  public static <K, V> TypeCodec<Map<K, V>> lazyMapOf(
+      @NonNull TypeCodec<K> keyCodec, @NonNull TypeCodec<V> valueCodec) {
+    return new LazyMapCodec<>(
+        DataTypes.mapOf(keyCodec.getCqlType(), valueCodec.getCqlType()), keyCodec, valueCodec);
+  }
+
   @NonNull
   public static TypeCodec<TupleValue> tupleOf(@NonNull TupleType cqlType) {
     return new TupleCodec(cqlType);
@@ -168,4 +198,19 @@ public class TypeCodecs {
   public static TypeCodec<ZonedDateTime> zonedTimestampAt(@NonNull ZoneId timeZone) {
     return new ZonedTimestampCodec(timeZone);
   }
+
+  /**
+   * Returns a codec for CQL type {@code text} that reuses the {@code String} instances of recently
+   * decoded values, instead of allocating a new one for each cell.
+   *
+   * <p>This is worth it for low-cardinality columns, such as statuses, country codes or enum-like
+   * values. The codec keeps a bounded table of at most {@code maxEntries} values (rounded up to the
+   * next power of two); only short values are cached. To apply it to specific columns, pass it
+   * explicitly to the getters (for example {@code row.get("status", codec)}). If it is registered
+   * in the codec registry instead, it will apply to all text columns.
+   */
+  @NonNull
+  public static TypeCodec<String> internedText(int maxEntries) {
+    return new InterningStringCodec(DataTypes.TEXT, Charsets.UTF_8, maxEntries);
+  }
 }
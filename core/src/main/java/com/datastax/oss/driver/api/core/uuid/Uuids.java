@@ -38,7 +38,7 @@ import java.util.Random;
 import java.util.Set;
 import java.util.TimeZone;
 import java.util.UUID;
-import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -154,7 +154,8 @@ public final class Uuids {
   private static final long MIN_CLOCK_SEQ_AND_NODE = 0x8080808080808080L;
   private static final long MAX_CLOCK_SEQ_AND_NODE = 0x7f7f7f7f7f7f7f7fL;
 
-  private static final AtomicLong lastTimestamp = new AtomicLong(0L);
+  // A single slot, shared by all the threads that call timeBased()
+  private static final AtomicLongArray lastTimestamp = new AtomicLongArray(1);
 
   private static long makeEpoch() {
     // UUID v1 timestamps must be in 100-nanoseconds interval since 00:00:00.000 15 Oct 1582.
@@ -465,7 +466,28 @@ public final class Uuids {
    */
   @NonNull
   public static UUID timeBased() {
-    return new UUID(makeMsb(getCurrentTimestamp()), CLOCK_SEQ_AND_NODE.get());
+    return new UUID(makeMsb(getCurrentTimestamp(lastTimestamp, 0)), CLOCK_SEQ_AND_NODE.get());
+  }
+
+  /**
+   * Creates a new time-based (version 1) UUID, using a generator that scales better when called
+   * concurrently from many threads.
+   *
+   * <p>{@link #timeBased()} guarantees uniqueness by making all threads increment a single shared
+   * timestamp, which becomes a contention point under very high generation rates, and caps the
+   * throughput at 10,000 UUIDs per millisecond for the whole process. This method partitions the
+   * clock sequence instead: threads are spread over a fixed number of stripes (proportional to the
+   * number of available processors), each with its own clock sequence and timestamp. UUIDs remain
+   * unique, and each stripe can generate up to 10,000 UUIDs per millisecond.
+   *
+   * <p>The trade-off is ordering: the UUIDs generated by a given thread have strictly increasing
+   * timestamps, but UUIDs generated concurrently by different threads may share the same
+   * timestamp, or be out of order by less than a millisecond. UUIDs generated by this method and
+   * {@link #timeBased()} never collide.
+   */
+  @NonNull
+  public static UUID stripedTimeBased() {
+    return StripedGenerator.INSTANCE.next();
   }
 
   /**
@@ -545,31 +567,75 @@ public final class Uuids {
   // millisecond (which, while admittedly unlikely in a real application, is very achievable on even
   // modest machines), then we stall the generator (busy spin) until the next millisecond as
   // required by the RFC.
-  private static long getCurrentTimestamp() {
+  // The last timestamp is read from the given slot of the array (this allows the striped generator
+  // to reuse the same logic).
+  private static long getCurrentTimestamp(AtomicLongArray timestamps, int slot) {
     while (true) {
       long now = fromUnixTimestamp(System.currentTimeMillis());
-      long last = lastTimestamp.get();
+      long last = timestamps.get(slot);
       if (now > last) {
-        if (lastTimestamp.compareAndSet(last, now)) {
+        if (timestamps.compareAndSet(slot, last, now)) {
           return now;
         }
       } else {
         long lastMillis = millisOf(last);
         // If the clock went back in time, bail out
         if (millisOf(now) < millisOf(last)) {
-          return lastTimestamp.incrementAndGet();
+          return timestamps.incrementAndGet(slot);
         }
         long candidate = last + 1;
         // If we've generated more than 10k uuid in that millisecond, restart the whole process
         // until we get to the next millis. Otherwise, we try use our candidate ... unless we've
         // been beaten by another thread in which case we try again.
-        if (millisOf(candidate) == lastMillis && lastTimestamp.compareAndSet(last, candidate)) {
+        if (millisOf(candidate) == lastMillis
+            && timestamps.compareAndSet(slot, last, candidate)) {
           return candidate;
         }
       }
     }
   }
 
+  // Initialized on first use, for the same reasons as CLOCK_SEQ_AND_NODE.
+  private static class StripedGenerator {
+
+    private static final StripedGenerator INSTANCE = new StripedGenerator();
+
+    private static final int MAX_STRIPES = 64;
+
+    // Space the timestamps of the stripes 128 bytes apart, to avoid false sharing
+    private static final int PADDING = 16;
+
+    private final int mask;
+    private final long[] clockSeqAndNodes;
+    private final AtomicLongArray timestamps;
+
+    private StripedGenerator() {
+      int stripes =
+          Math.min(
+              MAX_STRIPES,
+              Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors())) * 2);
+      this.mask = stripes - 1;
+      this.clockSeqAndNodes = new long[stripes];
+      this.timestamps = new AtomicLongArray(stripes * PADDING);
+
+      long base = CLOCK_SEQ_AND_NODE.get();
+      long baseClockSeq = (base >>> 48) & 0x3FFFL;
+      for (int i = 0; i < stripes; i++) {
+        // Offset by one, so that no stripe uses the same clock sequence as timeBased()
+        long clockSeq = (baseClockSeq + 1 + i) & 0x3FFFL;
+        clockSeqAndNodes[i] = (base & ~(0x3FFFL << 48)) | (clockSeq << 48);
+      }
+    }
+
+    private UUID next() {
+      // A given thread always uses the same stripe, so its timestamps are strictly increasing.
+      // Thread ids are sequential, so this distributes consecutive threads across stripes.
+      int stripe = (int) Thread.currentThread().getId() & mask;
+      long timestamp = getCurrentTimestamp(timestamps, stripe * PADDING);
+      return new UUID(makeMsb(timestamp), clockSeqAndNodes[stripe]);
+    }
+  }
+
   @VisibleForTesting
   static long fromUnixTimestamp(long tstamp) {
     return (tstamp - START_EPOCH) * 10000;
@@ -51,6 +51,16 @@ public class AdminRow {
     this.protocolVersion = protocolVersion;
   }
 
+  /** The metadata of the columns of this row, indexed by name. */
+  public Map<String, ColumnSpec> getColumnSpecs() {
+    return columnSpecs;
+  }
+
+  /** The raw (encoded) values of this row, in the order of the column indices. */
+  public List<ByteBuffer> getRawData() {
+    return data;
+  }
+
   @Nullable
   public Boolean getBoolean(String columnName) {
     return get(columnName, TypeCodecs.BOOLEAN);
@@ -64,6 +64,7 @@ import com.datastax.oss.driver.internal.core.cql.CqlPrepareAsyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlPrepareSyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlRequestAsyncProcessor;
 import com.datastax.oss.driver.internal.core.cql.CqlRequestSyncProcessor;
+import com.datastax.oss.driver.internal.core.cql.PreparedStatementStore;
 import com.datastax.oss.driver.internal.core.metadata.CloudTopologyMonitor;
 import com.datastax.oss.driver.internal.core.metadata.DefaultTopologyMonitor;
 import com.datastax.oss.driver.internal.core.metadata.LoadBalancingPolicyWrapper;
@@ -92,7 +93,7 @@ import com.datastax.oss.driver.internal.core.ssl.JdkSslHandlerFactory;
 import com.datastax.oss.driver.internal.core.ssl.SslHandlerFactory;
 import com.datastax.oss.driver.internal.core.tracker.NoopRequestTracker;
 import com.datastax.oss.driver.internal.core.tracker.RequestLogFormatter;
-import com.datastax.oss.driver.internal.core.type.codec.registry.DefaultCodecRegistry;
+import com.datastax.oss.driver.internal.core.type.codec.registry.LockFreeCodecRegistry;
 import com.datastax.oss.driver.internal.core.util.DependencyCheck;
 import com.datastax.oss.driver.internal.core.util.Reflection;
 import com.datastax.oss.driver.internal.core.util.concurrent.CycleDetector;
@@ -105,6 +106,7 @@ import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import io.netty.buffer.ByteBuf;
 import java.net.InetSocketAddress;
+import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -514,7 +516,17 @@ public class DefaultDriverContext implements InternalDriverContext {
     processors.add(cqlRequestSyncProcessor);
 
     // prepare requests (sync and async)
-    CqlPrepareAsyncProcessor cqlPrepareAsyncProcessor = new CqlPrepareAsyncProcessor();
+    DriverExecutionProfile defaultProfile = getConfig().getDefaultProfile();
+    CqlPrepareAsyncProcessor cqlPrepareAsyncProcessor =
+        new CqlPrepareAsyncProcessor(
+            defaultProfile.getInt(DefaultDriverOption.PREPARED_CACHE_MAX_SIZE, 0),
+            defaultProfile.isDefined(DefaultDriverOption.PREPARED_CACHE_PERSISTENT_PATH)
+                ? new PreparedStatementStore(
+                    this,
+                    Paths.get(
+                        defaultProfile.getString(
+                            DefaultDriverOption.PREPARED_CACHE_PERSISTENT_PATH)))
+                : null);
     CqlPrepareSyncProcessor cqlPrepareSyncProcessor =
         new CqlPrepareSyncProcessor(cqlPrepareAsyncProcessor);
     processors.add(cqlPrepareAsyncProcessor);
@@ -564,7 +576,7 @@ public class DefaultDriverContext implements InternalDriverContext {
   }
 
   protected CodecRegistry buildCodecRegistry(String logPrefix, List<TypeCodec<?>> codecs) {
-    MutableCodecRegistry registry = new DefaultCodecRegistry(logPrefix);
+    MutableCodecRegistry registry = new LockFreeCodecRegistry(logPrefix);
     registry.register(codecs);
     registry.register(DseTypeCodecs.DATE_RANGE);
     if (DependencyCheck.ESRI.isPresent()) {
@@ -31,6 +31,7 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import io.netty.util.HashedWheelTimer;
 import io.netty.util.Timer;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.DefaultPromise;
 import io.netty.util.concurrent.EventExecutorGroup;
 import io.netty.util.concurrent.Future;
@@ -51,6 +52,7 @@ public class DefaultNettyOptions implements NettyOptions {
   private final DriverExecutionProfile config;
   private final EventLoopGroup ioEventLoopGroup;
   private final EventLoopGroup adminEventLoopGroup;
+  private final EventExecutorGroup blockingEventExecutorGroup;
   private final int ioShutdownQuietPeriod;
   private final int ioShutdownTimeout;
   private final TimeUnit ioShutdownUnit;
@@ -90,6 +92,16 @@ public class DefaultNettyOptions implements NettyOptions {
             .setDaemon(daemon)
             .build();
     this.adminEventLoopGroup = new DefaultEventLoopGroup(adminGroupSize, adminThreadFactory);
+
+    // A single thread is enough for the few blocking tasks (it's only started on the first one),
+    // and it guarantees that writes to the same file never overlap.
+    ThreadFactory blockingThreadFactory =
+        new ThreadFactoryBuilder()
+            .setThreadFactory(safeFactory)
+            .setNameFormat(context.getSessionName() + "-blocking-%d")
+            .setDaemon(daemon)
+            .build();
+    this.blockingEventExecutorGroup = new DefaultEventExecutorGroup(1, blockingThreadFactory);
     // setup the Timer
     ThreadFactory timerThreadFactory =
         new ThreadFactoryBuilder()
@@ -126,6 +138,11 @@ public class DefaultNettyOptions implements NettyOptions {
     return adminEventLoopGroup;
   }
 
+  @Override
+  public EventExecutorGroup blockingEventExecutorGroup() {
+    return blockingEventExecutorGroup;
+  }
+
   @Override
   public Class<? extends Channel> channelClass() {
     return NioSocketChannel.class;
@@ -183,6 +200,8 @@ public class DefaultNettyOptions implements NettyOptions {
                 closeFuture,
                 adminEventLoopGroup.shutdownGracefully(
                     adminShutdownQuietPeriod, adminShutdownTimeout, adminShutdownUnit),
+                blockingEventExecutorGroup.shutdownGracefully(
+                    adminShutdownQuietPeriod, adminShutdownTimeout, adminShutdownUnit),
                 ioEventLoopGroup.shutdownGracefully(
                     ioShutdownQuietPeriod, ioShutdownTimeout, ioShutdownUnit)));
     closeFuture.addListener(f -> timer.stop());
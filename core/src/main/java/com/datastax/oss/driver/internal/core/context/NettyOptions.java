@@ -55,6 +55,18 @@ public interface NettyOptions {
    */
   EventExecutorGroup adminEventExecutorGroup();
 
+  /**
+   * An event executor group that will be used for tasks that block, typically local file I/O (for
+   * example schema snapshots). Running them on {@link #adminEventExecutorGroup()} would delay
+   * cluster events and metadata refreshes.
+   *
+   * <p>This must always return the same instance. The default implementation returns {@link
+   * #adminEventExecutorGroup()}, for backward compatibility with existing implementations.
+   */
+  default EventExecutorGroup blockingEventExecutorGroup() {
+    return adminEventExecutorGroup();
+  }
+
   /**
    * The byte buffer allocator to use. This must always return the same instance. Note that this is
    * also used by the default implementation of {@link InternalDriverContext#getFrameCodec()}, and
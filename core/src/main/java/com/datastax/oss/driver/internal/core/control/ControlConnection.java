@@ -224,6 +224,8 @@ public class ControlConnection implements EventCallback, AsyncAutoCloseable {
 
   private void processSchemaChange(Event event) {
     SchemaChangeEvent sce = (SchemaChangeEvent) event;
+    // Wake up any pending schema agreement check
+    context.getEventBus().fire(sce);
     context
         .getMetadataManager()
         .refreshSchema(sce.keyspace, false, false)
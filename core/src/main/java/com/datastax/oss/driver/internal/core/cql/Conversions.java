@@ -65,6 +65,7 @@ import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metadata.token.ByteOrderedToken;
 import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
 import com.datastax.oss.driver.internal.core.metadata.token.RandomToken;
+import com.datastax.oss.driver.internal.core.session.RepreparePayload;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.primitives.Ints;
@@ -89,6 +90,7 @@ import com.datastax.oss.protocol.internal.response.result.RowsMetadata;
 import com.datastax.oss.protocol.internal.util.Bytes;
 import com.datastax.oss.protocol.internal.util.collection.NullAllowingImmutableList;
 import com.datastax.oss.protocol.internal.util.collection.NullAllowingImmutableMap;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -216,8 +218,20 @@ public class Conversions {
       }
       List<Object> queriesOrIds = new ArrayList<>(batchStatement.size());
       List<List<ByteBuffer>> values = new ArrayList<>(batchStatement.size());
+      List<List<ByteBuffer>> encodedValues =
+          (batchStatement instanceof PreEncodedBatchStatement)
+              ? ((PreEncodedBatchStatement) batchStatement)
+                  .getEncodedValues(protocolVersion, codecRegistry)
+              : null;
       for (BatchableStatement<?> child : batchStatement) {
-        if (child instanceof SimpleStatement) {
+        if (encodedValues != null) {
+          // The children were validated and encoded when they were added to the builder
+          queriesOrIds.add(
+              (child instanceof SimpleStatement)
+                  ? ((SimpleStatement) child).getQuery()
+                  : Bytes.getArray(((BoundStatement) child).getPreparedStatement().getId()));
+          values.add(encodedValues.get(values.size()));
+        } else if (child instanceof SimpleStatement) {
           SimpleStatement simpleStatement = (SimpleStatement) child;
           if (simpleStatement.getNamedValues().size() > 0) {
             throw new IllegalArgumentException(
@@ -317,6 +331,67 @@ public class Conversions {
     }
   }
 
+  /**
+   * Finds the data to reprepare the statement with the given id, after a node replied that it
+   * doesn't know it.
+   *
+   * <p>The session's payloads are looked up first. If the statement was evicted from the prepared
+   * statement cache, the session forgot it; but if we are executing it, the request itself (or one
+   * of its children for a batch) still references its payload.
+   */
+  @Nullable
+  public static RepreparePayload findRepreparePayload(
+      ByteBuffer id, Request request, Map<ByteBuffer, RepreparePayload> payloads) {
+    RepreparePayload payload = payloads.get(id);
+    if (payload != null) {
+      return payload;
+    }
+    if (request instanceof BoundStatement) {
+      return findRepreparePayload(id, ((BoundStatement) request).getPreparedStatement());
+    } else if (request instanceof BatchStatement) {
+      for (BatchableStatement<?> child : (BatchStatement) request) {
+        if (child instanceof BoundStatement) {
+          payload = findRepreparePayload(id, ((BoundStatement) child).getPreparedStatement());
+          if (payload != null) {
+            return payload;
+          }
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Records an execution of the prepared statements in the given request, if there are any. */
+  public static void recordExecution(Request request) {
+    if (request instanceof BoundStatement) {
+      recordExecution(((BoundStatement) request).getPreparedStatement());
+    } else if (request instanceof BatchStatement) {
+      for (BatchableStatement<?> child : (BatchStatement) request) {
+        if (child instanceof BoundStatement) {
+          recordExecution(((BoundStatement) child).getPreparedStatement());
+        }
+      }
+    }
+  }
+
+  private static void recordExecution(PreparedStatement preparedStatement) {
+    if (preparedStatement instanceof DefaultPreparedStatement) {
+      RepreparePayload payload =
+          ((DefaultPreparedStatement) preparedStatement).getRepreparePayload();
+      if (payload != null) {
+        payload.recordExecution();
+      }
+    }
+  }
+
+  private static RepreparePayload findRepreparePayload(
+      ByteBuffer id, PreparedStatement preparedStatement) {
+    return (preparedStatement instanceof DefaultPreparedStatement
+            && preparedStatement.getId().equals(id))
+        ? ((DefaultPreparedStatement) preparedStatement).getRepreparePayload()
+        : null;
+  }
+
   public static void ensureAllSet(BatchStatement batchStatement) {
     for (BatchableStatement<?> batchableStatement : batchStatement) {
       if (batchableStatement instanceof BoundStatement) {
@@ -21,10 +21,17 @@ import com.datastax.oss.driver.api.core.session.Request;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.session.DefaultSession;
+import com.datastax.oss.driver.internal.core.session.RepreparePayload;
 import com.datastax.oss.driver.internal.core.session.RequestProcessor;
 import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.shaded.guava.common.cache.Cache;
 import com.datastax.oss.driver.shaded.guava.common.cache.CacheBuilder;
+import com.datastax.oss.driver.shaded.guava.common.cache.RemovalCause;
+import com.datastax.oss.driver.shaded.guava.common.cache.RemovalListener;
+import com.datastax.oss.protocol.internal.response.result.Prepared;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutionException;
@@ -35,14 +42,55 @@ public class CqlPrepareAsyncProcessor
     implements RequestProcessor<PrepareRequest, CompletionStage<PreparedStatement>> {
 
   protected final Cache<PrepareRequest, CompletableFuture<PreparedStatement>> cache;
+  private final PreparedStatementStore store;
+
+  // The session's reprepare payloads, captured on the first request (the processor is only used by
+  // one session). Statements evicted from the cache are removed from it.
+  private volatile Map<ByteBuffer, RepreparePayload> repreparePayloads;
 
   public CqlPrepareAsyncProcessor() {
-    this(CacheBuilder.newBuilder().weakValues().build());
+    this(0);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxSize the maximum number of entries in the cache. If it is 0 or less, the cache is
+   *     unbounded, but holds its values weakly. Otherwise, the least recently used entries are
+   *     evicted when the cache is full.
+   */
+  public CqlPrepareAsyncProcessor(int maxSize) {
+    this(maxSize, null);
+  }
+
+  /**
+   * Creates a new instance.
+   *
+   * @param maxSize the maximum number of entries in the cache, see {@link
+   *     #CqlPrepareAsyncProcessor(int)}.
+   * @param store if not null, a persistent store that is looked up before sending a prepare
+   *     request to the server, and that records the server's responses.
+   */
+  public CqlPrepareAsyncProcessor(int maxSize, PreparedStatementStore store) {
+    this.store = store;
+    CacheBuilder<Object, Object> builder = CacheBuilder.newBuilder().recordStats();
+    if (maxSize > 0) {
+      RemovalListener<PrepareRequest, CompletableFuture<PreparedStatement>> listener =
+          notification -> {
+            if (notification.getCause() == RemovalCause.SIZE) {
+              onEvicted(notification.getValue());
+            }
+          };
+      this.cache = builder.maximumSize(maxSize).removalListener(listener).build();
+    } else {
+      this.cache = builder.weakValues().build();
+    }
   }
 
   protected CqlPrepareAsyncProcessor(
       Cache<PrepareRequest, CompletableFuture<PreparedStatement>> cache) {
     this.cache = cache;
+    this.store = null;
   }
 
   @Override
@@ -57,24 +105,38 @@ public class CqlPrepareAsyncProcessor
       InternalDriverContext context,
       String sessionLogPrefix) {
 
+    if (repreparePayloads == null) {
+      repreparePayloads = session.getRepreparePayloads();
+    }
     try {
-      CompletableFuture<PreparedStatement> result = cache.getIfPresent(request);
-      if (result == null) {
-        CompletableFuture<PreparedStatement> mine = new CompletableFuture<>();
-        result = cache.get(request, () -> mine);
-        if (result == mine) {
-          new CqlPrepareHandler(request, session, context, sessionLogPrefix)
-              .handle()
-              .whenComplete(
-                  (preparedStatement, error) -> {
-                    if (error != null) {
-                      mine.completeExceptionally(error);
-                      cache.invalidate(request); // Make sure failure isn't cached indefinitely
-                    } else {
-                      mine.complete(preparedStatement);
-                    }
-                  });
+      // Always go through get(), so that every call is counted exactly once in the cache stats
+      CompletableFuture<PreparedStatement> mine = new CompletableFuture<>();
+      CompletableFuture<PreparedStatement> result = cache.get(request, () -> mine);
+      if (result == mine) {
+        Prepared persisted =
+            (store == null) ? null : store.get(request, session.getKeyspace().orElse(null));
+        if (persisted != null) {
+          // Trust the persisted response, if a node doesn't know the statement it will be
+          // reprepared on the fly when it gets executed
+          DefaultPreparedStatement preparedStatement =
+              Conversions.toPreparedStatement(persisted, request, context);
+          session
+              .getRepreparePayloads()
+              .put(preparedStatement.getId(), preparedStatement.getRepreparePayload());
+          mine.complete(preparedStatement);
+          return result;
         }
+        new CqlPrepareHandler(request, session, context, sessionLogPrefix, store)
+            .handle()
+            .whenComplete(
+                (preparedStatement, error) -> {
+                  if (error != null) {
+                    mine.completeExceptionally(error);
+                    cache.invalidate(request); // Make sure failure isn't cached indefinitely
+                  } else {
+                    mine.complete(preparedStatement);
+                  }
+                });
       }
       return result;
     } catch (ExecutionException e) {
@@ -90,4 +152,26 @@ public class CqlPrepareAsyncProcessor
   public Cache<PrepareRequest, CompletableFuture<PreparedStatement>> getCache() {
     return cache;
   }
+
+  /** The persistent store that backs this processor, or {@code null} if there is none. */
+  @Nullable
+  public PreparedStatementStore getStore() {
+    return store;
+  }
+
+  private void onEvicted(CompletableFuture<PreparedStatement> future) {
+    Map<ByteBuffer, RepreparePayload> payloads = repreparePayloads;
+    if (payloads != null
+        && future != null
+        && future.isDone()
+        && !future.isCompletedExceptionally()) {
+      PreparedStatement preparedStatement = future.join();
+      if (preparedStatement instanceof DefaultPreparedStatement) {
+        // Conditional removal: the same query might have been prepared again since
+        payloads.remove(
+            preparedStatement.getId(),
+            ((DefaultPreparedStatement) preparedStatement).getRepreparePayload());
+      }
+    }
+  }
 }
@@ -65,6 +65,7 @@ import java.util.Queue;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeUnit;
 import net.jcip.annotations.ThreadSafe;
@@ -92,6 +93,9 @@ public class CqlPrepareHandler implements Throttled {
   private final RetryPolicy retryPolicy;
   private final RequestThrottler throttler;
   private final Boolean prepareOnAllNodes;
+  private final int prepareOnAllNodesMaxParallelism;
+  private final boolean prepareOnAllNodesWait;
+  private final PreparedStatementStore store;
   private volatile InitialPrepareCallback initialCallback;
 
   // The errors on the nodes that were already tried (lazily initialized on the first error).
@@ -103,6 +107,19 @@ public class CqlPrepareHandler implements Throttled {
       DefaultSession session,
       InternalDriverContext context,
       String sessionLogPrefix) {
+    this(request, session, context, sessionLogPrefix, null);
+  }
+
+  /**
+   * @param store if not null, the response of the server will be recorded in it, so that future
+   *     sessions can reuse it.
+   */
+  protected CqlPrepareHandler(
+      PrepareRequest request,
+      DefaultSession session,
+      InternalDriverContext context,
+      String sessionLogPrefix,
+      PreparedStatementStore store) {
 
     this.startTimeNanos = System.nanoTime();
     this.logPrefix = sessionLogPrefix + "|" + this.hashCode();
@@ -111,6 +128,7 @@ public class CqlPrepareHandler implements Throttled {
     this.request = request;
     this.session = session;
     this.context = context;
+    this.store = store;
     this.executionProfile = Conversions.resolveExecutionProfile(request, context);
     this.queryPlan =
         context
@@ -148,6 +166,13 @@ public class CqlPrepareHandler implements Throttled {
             : executionProfile.getDuration(DefaultDriverOption.REQUEST_TIMEOUT);
     this.scheduledTimeout = scheduleTimeout(timeout);
     this.prepareOnAllNodes = executionProfile.getBoolean(DefaultDriverOption.PREPARE_ON_ALL_NODES);
+    this.prepareOnAllNodesMaxParallelism =
+        executionProfile.isDefined(DefaultDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM)
+            ? executionProfile.getInt(DefaultDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM)
+            : 0;
+    this.prepareOnAllNodesWait =
+        !executionProfile.isDefined(DefaultDriverOption.PREPARE_ON_ALL_NODES_WAIT)
+            || executionProfile.getBoolean(DefaultDriverOption.PREPARE_ON_ALL_NODES_WAIT);
 
     this.throttler = context.getRequestThrottler();
     this.throttler.register(this);
@@ -242,7 +267,15 @@ public class CqlPrepareHandler implements Throttled {
     session
         .getRepreparePayloads()
         .put(preparedStatement.getId(), preparedStatement.getRepreparePayload());
-    if (prepareOnAllNodes) {
+    if (store != null) {
+      store.put(request, session.getKeyspace().orElse(null), prepared);
+    }
+    if (prepareOnAllNodes && !prepareOnAllNodesWait) {
+      LOG.trace(
+          "[{}] Completing the request, repreparing on other nodes in the background", logPrefix);
+      result.complete(preparedStatement);
+      prepareOnOtherNodes();
+    } else if (prepareOnAllNodes) {
       prepareOnOtherNodes()
           .thenRun(
               () -> {
@@ -262,15 +295,32 @@ public class CqlPrepareHandler implements Throttled {
   }
 
   private CompletionStage<Void> prepareOnOtherNodes() {
-    List<CompletionStage<Void>> otherNodesFutures = new ArrayList<>();
     // Only process the rest of the query plan. Any node before that is either the coordinator, or
     // a node that failed (we assume that retrying right now has little chance of success).
+    Queue<Node> otherNodes = new ConcurrentLinkedQueue<>();
     for (Node node : queryPlan) {
-      otherNodesFutures.add(prepareOnOtherNode(node));
+      otherNodes.add(node);
+    }
+    int parallelism = otherNodes.size();
+    if (prepareOnAllNodesMaxParallelism > 0) {
+      parallelism = Math.min(parallelism, prepareOnAllNodesMaxParallelism);
+    }
+    List<CompletionStage<Void>> otherNodesFutures = new ArrayList<>(parallelism);
+    for (int i = 0; i < parallelism; i++) {
+      otherNodesFutures.add(prepareOnNextNodes(otherNodes));
     }
     return CompletableFutures.allDone(otherNodesFutures);
   }
 
+  // Prepares on the remaining nodes sequentially; the number of concurrent invocations of this
+  // method bounds the parallelism.
+  private CompletionStage<Void> prepareOnNextNodes(Queue<Node> otherNodes) {
+    Node node = otherNodes.poll();
+    return (node == null)
+        ? CompletableFuture.completedFuture(null)
+        : prepareOnOtherNode(node).thenCompose(v -> prepareOnNextNodes(otherNodes));
+  }
+
   // Try to reprepare on another node, after the initial query has succeeded. Errors are not
   // blocking, the preparation will be retried later on that node. Simply warn and move on.
   private CompletionStage<Void> prepareOnOtherNode(Node node) {
@@ -290,13 +340,25 @@ public class CqlPrepareHandler implements Throttled {
               throttler,
               session.getMetricUpdater(),
               logPrefix);
+      String profileName = executionProfile.getName();
+      session
+          .getMetricUpdater()
+          .incrementCounter(DefaultSessionMetric.PREPARE_ON_ALL_NODES_PENDING, profileName);
       return handler
           .start()
           .handle(
               (result, error) -> {
+                session
+                    .getMetricUpdater()
+                    .incrementCounter(
+                        DefaultSessionMetric.PREPARE_ON_ALL_NODES_PENDING, profileName, -1);
                 if (error == null) {
                   LOG.trace("[{}] Successfully reprepared on {}", logPrefix, node);
                 } else {
+                  session
+                      .getMetricUpdater()
+                      .incrementCounter(
+                          DefaultSessionMetric.PREPARE_ON_ALL_NODES_ERRORS, profileName);
                   Loggers.warnWithException(
                       LOG, "[{}] Error while repreparing on {}", node, logPrefix, error);
                 }
@@ -171,6 +171,7 @@ public class CqlRequestHandler implements Throttled {
           return null;
         });
     this.message = Conversions.toMessage(statement, executionProfile, context);
+    Conversions.recordExecution(statement);
     this.timer = context.getNettyOptions().getTimer();
 
     this.timeout =
@@ -319,6 +320,20 @@ public class CqlRequestHandler implements Throttled {
     }
   }
 
+  // Read-ahead is started from the first page only; for the following pages, it is driven by the
+  // result set itself (see DefaultAsyncResultSet.fetchNextPage).
+  private void maybeStartPrefetch(AsyncResultSet resultSet) {
+    if (statement.getPagingState() == null
+        && resultSet.hasMorePages()
+        && resultSet instanceof DefaultAsyncResultSet
+        && executionProfile.isDefined(DefaultDriverOption.REQUEST_PREFETCH_PAGES)) {
+      int prefetchPages = executionProfile.getInt(DefaultDriverOption.REQUEST_PREFETCH_PAGES);
+      if (prefetchPages > 0) {
+        ((DefaultAsyncResultSet) resultSet).startPrefetch(prefetchPages);
+      }
+    }
+  }
+
   private void setFinalResult(
       Result resultMessage,
       Frame responseFrame,
@@ -332,6 +347,7 @@ public class CqlRequestHandler implements Throttled {
       if (result.complete(resultSet)) {
         cancelScheduledTasks();
         throttler.signalSuccess(this);
+        maybeStartPrefetch(resultSet);
 
         // Only call nanoTime() if we're actually going to use it
         long completionTimeNanos = NANOTIME_NOT_MEASURED_YET,
@@ -661,7 +677,9 @@ public class CqlRequestHandler implements Throttled {
             logPrefix,
             Bytes.toHexString(idToReprepare),
             node);
-        RepreparePayload repreparePayload = session.getRepreparePayloads().get(idToReprepare);
+        RepreparePayload repreparePayload =
+            Conversions.findRepreparePayload(
+                idToReprepare, statement, session.getRepreparePayloads());
         if (repreparePayload == null) {
           throw new IllegalStateException(
               String.format(
@@ -18,6 +18,7 @@ package com.datastax.oss.driver.internal.core.cql;
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.Statement;
@@ -26,10 +27,13 @@ import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.util.CountingIterator;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.CompletionStage;
+import net.jcip.annotations.GuardedBy;
 import net.jcip.annotations.NotThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,9 +46,22 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
   private final ColumnDefinitions definitions;
   private final ExecutionInfo executionInfo;
   private final CqlSession session;
-  private final CountingIterator<Row> iterator;
+  private final Queue<List<ByteBuffer>> data;
+  private final RowIterator iterator;
   private final Iterable<Row> currentPage;
 
+  // Pages can be requested both by the client and by the read-ahead logic (from a driver thread),
+  // so this part of the state is thread-safe.
+  // The next page, if it was prefetched and not handed to the client yet. The reference is cleared
+  // after that, so that a page doesn't retain its successors.
+  @GuardedBy("this")
+  private CompletionStage<AsyncResultSet> nextPage;
+  // Whether the client has already called fetchNextPage (prefetching must not re-request the page)
+  @GuardedBy("this")
+  private boolean nextPageTaken;
+  // How many pages to read ahead of the page that the client is currently consuming (0 = disabled)
+  private volatile int prefetchPages;
+
   public DefaultAsyncResultSet(
       ColumnDefinitions definitions,
       ExecutionInfo executionInfo,
@@ -54,14 +71,8 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
     this.definitions = definitions;
     this.executionInfo = executionInfo;
     this.session = session;
-    this.iterator =
-        new CountingIterator<Row>(data.size()) {
-          @Override
-          protected Row computeNext() {
-            List<ByteBuffer> rowData = data.poll();
-            return (rowData == null) ? endOfData() : new DefaultRow(definitions, rowData, context);
-          }
-        };
+    this.data = data;
+    this.iterator = new RowIterator(definitions, data, context);
     this.currentPage = () -> iterator;
   }
 
@@ -96,11 +107,77 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
   @NonNull
   @Override
   public CompletionStage<AsyncResultSet> fetchNextPage() throws IllegalStateException {
-    ByteBuffer nextState = executionInfo.getPagingState();
-    if (nextState == null) {
+    if (!hasMorePages()) {
       throw new IllegalStateException(
           "No next page. Use #hasMorePages before calling this method to avoid this error.");
     }
+    int pages = prefetchPages;
+    if (pages == 0) {
+      return executeNextPage();
+    }
+    // The client is moving to the next page: slide the read-ahead window
+    return takeNextPage()
+        .thenApply(
+            page -> {
+              if (page instanceof DefaultAsyncResultSet) {
+                ((DefaultAsyncResultSet) page).startPrefetch(pages);
+              }
+              return page;
+            });
+  }
+
+  /**
+   * Starts reading ahead: fetches the next pages of this result set in the background, so that the
+   * client doesn't have to wait for a round trip at each page boundary. At any time, up to {@code
+   * pages} pages are fetched ahead of the one being consumed.
+   */
+  public void startPrefetch(int pages) {
+    this.prefetchPages = pages;
+    prefetch(pages);
+  }
+
+  private void prefetch(int depth) {
+    if (depth <= 0 || !hasMorePages()) {
+      return;
+    }
+    CompletionStage<AsyncResultSet> nextStage = prefetchNextPage();
+    if (nextStage != null) {
+      nextStage.thenAccept(
+          page -> {
+            if (page instanceof DefaultAsyncResultSet) {
+              DefaultAsyncResultSet next = (DefaultAsyncResultSet) page;
+              next.prefetchPages = prefetchPages;
+              next.prefetch(depth - 1);
+            }
+          });
+    }
+  }
+
+  // Returns the prefetched page if there is one (unless it failed), and forgets it.
+  private synchronized CompletionStage<AsyncResultSet> takeNextPage() {
+    CompletionStage<AsyncResultSet> result =
+        (nextPage == null || nextPage.toCompletableFuture().isCompletedExceptionally())
+            ? executeNextPage()
+            : nextPage;
+    nextPage = null;
+    nextPageTaken = true;
+    return result;
+  }
+
+  // Requests the next page ahead of the client, at most once (unless the previous attempt failed).
+  // Returns null if the client already took it.
+  private synchronized CompletionStage<AsyncResultSet> prefetchNextPage() {
+    if (nextPageTaken) {
+      return null;
+    }
+    if (nextPage == null || nextPage.toCompletableFuture().isCompletedExceptionally()) {
+      nextPage = executeNextPage();
+    }
+    return nextPage;
+  }
+
+  private CompletionStage<AsyncResultSet> executeNextPage() {
+    ByteBuffer nextState = executionInfo.getPagingState();
     Statement<?> statement = (Statement<?>) executionInfo.getRequest();
     LOG.trace("Fetching next page for {}", statement);
     Statement<?> nextStatement = statement.copy(nextState);
@@ -124,6 +201,18 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
     }
   }
 
+  @NonNull
+  @Override
+  public Optional<ColumnarPage> currentColumnarPage() {
+    // Decode straight from the raw data, but don't lose the row that might have been peeked already
+    List<ByteBuffer> firstRow = iterator.takeComputedRowData();
+    ColumnarPage page =
+        DefaultColumnarPage.decode(
+            definitions, firstRow, data, (firstRow == null) ? remaining() : remaining() + 1);
+    iterator.exhaust();
+    return Optional.of(page);
+  }
+
   static AsyncResultSet empty(final ExecutionInfo executionInfo) {
     return new AsyncResultSet() {
       @NonNull
@@ -165,6 +254,60 @@ public class DefaultAsyncResultSet implements AsyncResultSet {
       public boolean wasApplied() {
         return true;
       }
+
+      @NonNull
+      @Override
+      public Optional<ColumnarPage> currentColumnarPage() {
+        return Optional.of(
+            DefaultColumnarPage.decode(
+                EmptyColumnDefinitions.INSTANCE, null, new ArrayDeque<>(), 0));
+      }
     };
   }
+
+  @NotThreadSafe
+  private static class RowIterator extends CountingIterator<Row> {
+
+    private final ColumnDefinitions definitions;
+    private final Queue<List<ByteBuffer>> data;
+    private final InternalDriverContext context;
+    // The raw data of the row that was computed last (same lifecycle as the parent's next element)
+    private List<ByteBuffer> computedRowData;
+
+    private RowIterator(
+        ColumnDefinitions definitions,
+        Queue<List<ByteBuffer>> data,
+        InternalDriverContext context) {
+      super(data.size());
+      this.definitions = definitions;
+      this.data = data;
+      this.context = context;
+    }
+
+    @Override
+    protected Row computeNext() {
+      computedRowData = data.poll();
+      return (computedRowData == null)
+          ? endOfData()
+          : new DefaultRow(definitions, computedRowData, context);
+    }
+
+    /**
+     * If a row was computed but not returned yet, consumes it and returns its raw data. Otherwise
+     * returns null.
+     */
+    private List<ByteBuffer> takeComputedRowData() {
+      if (!isNextComputed()) {
+        return null;
+      }
+      List<ByteBuffer> result = computedRowData;
+      next();
+      return result;
+    }
+
+    private void exhaust() {
+      computedRowData = null;
+      remaining = 0;
+    }
+  }
 }
@@ -26,7 +26,11 @@ import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenFactory;
+import com.datastax.oss.driver.internal.core.metadata.token.TokenFactory;
 import com.datastax.oss.driver.internal.core.util.RoutingKey;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
@@ -60,6 +64,8 @@ public class DefaultBoundStatement implements BoundStatement {
   private final ProtocolVersion protocolVersion;
   private final Node node;
   private final int nowInSeconds;
+  // Lazily computed by computeRoutingToken. Benign race: concurrent callers compute the same value.
+  private volatile Token computedRoutingToken;
 
   public DefaultBoundStatement(
       PreparedStatement preparedStatement,
@@ -181,6 +187,33 @@ public class DefaultBoundStatement implements BoundStatement {
         nowInSeconds);
   }
 
+  // The next two methods reuse the codecs resolved for the previous statements bound from the same
+  // prepared statement, if the variable definitions support it.
+
+  @NonNull
+  @Override
+  public <ValueT> BoundStatement set(
+      int i, @Nullable ValueT v, @NonNull GenericType<ValueT> targetType) {
+    if (variableDefinitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) variableDefinitions;
+      return set(i, v, defaultDefinitions.codecFor(i, targetType, codecRegistry));
+    } else {
+      return BoundStatement.super.set(i, v, targetType);
+    }
+  }
+
+  @NonNull
+  @Override
+  public <ValueT> BoundStatement set(
+      int i, @Nullable ValueT v, @NonNull Class<ValueT> targetClass) {
+    if (variableDefinitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) variableDefinitions;
+      return set(i, v, defaultDefinitions.codecFor(i, targetClass, codecRegistry));
+    } else {
+      return BoundStatement.super.set(i, v, targetClass);
+    }
+  }
+
   @NonNull
   @Override
   public PreparedStatement getPreparedStatement() {
@@ -355,6 +388,42 @@ public class DefaultBoundStatement implements BoundStatement {
     }
   }
 
+  /**
+   * Computes the routing token directly from the bound values, without assembling the routing key.
+   *
+   * <p>This is a fast path for the load balancing policy. The result is cached, so that retries
+   * and speculative executions of the same statement don't compute it again.
+   *
+   * @return the token, or {@code null} if it can't be computed this way: the routing key or token
+   *     was set explicitly, a partition key component is not set, or the partitioner is not
+   *     Murmur3. The caller should then fall back to {@link #getRoutingKey()}.
+   */
+  @Nullable
+  public Token computeRoutingToken(@NonNull TokenFactory tokenFactory) {
+    if (routingToken != null
+        || routingKey != null
+        || !(tokenFactory instanceof Murmur3TokenFactory)
+        || !(preparedStatement instanceof DefaultPreparedStatement)) {
+      return null;
+    }
+    Token token = computedRoutingToken;
+    if (token == null) {
+      int[] indices = ((DefaultPreparedStatement) preparedStatement).getPartitionKeyIndicesArray();
+      if (indices == null || indices.length == 0) {
+        return null;
+      }
+      for (int index : indices) {
+        ByteBuffer value = values[index];
+        if (value == null || value == ProtocolConstants.UNSET_VALUE) {
+          return null;
+        }
+      }
+      token = ((Murmur3TokenFactory) tokenFactory).hash(values, indices);
+      computedRoutingToken = token;
+    }
+    return token;
+  }
+
   @NonNull
   @Override
   public BoundStatement setRoutingKey(@Nullable ByteBuffer newRoutingKey) {
@@ -19,8 +19,12 @@ import com.datastax.oss.driver.api.core.CqlIdentifier;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.data.IdentifierIndex;
 import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
 import java.io.InvalidObjectException;
 import java.io.ObjectInputStream;
 import java.io.Serializable;
@@ -40,11 +44,15 @@ public class DefaultColumnDefinitions implements ColumnDefinitions, Serializable
 
   private final List<ColumnDefinition> definitions;
   private final IdentifierIndex index;
+  // The last codec resolved for each column, shared by all the rows of a result set. This is a
+  // memoization cache, races are benign (ResolvedCodec is immutable).
+  private final ResolvedCodec[] codecs;
 
   private DefaultColumnDefinitions(List<ColumnDefinition> definitions) {
     assert definitions != null && definitions.size() > 0;
     this.definitions = definitions;
     this.index = buildIndex(definitions);
+    this.codecs = new ResolvedCodec[definitions.size()];
   }
 
   @Override
@@ -96,6 +104,52 @@ public class DefaultColumnDefinitions implements ColumnDefinitions, Serializable
     }
   }
 
+  /**
+   * Returns the codec to convert the {@code i}th column to the given Java class.
+   *
+   * <p>The codec is remembered for subsequent calls with the same arguments, so that iterating the
+   * rows of a result set only looks it up once per column.
+   */
+  @NonNull
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(
+      int i, @NonNull Class<JavaTypeT> javaClass, @NonNull CodecRegistry registry) {
+    ResolvedCodec resolved = codecs[i];
+    if (resolved == null || !resolved.matches(registry, javaClass)) {
+      TypeCodec<JavaTypeT> codec = registry.codecFor(definitions.get(i).getType(), javaClass);
+      resolved = new ResolvedCodec(registry, javaClass, codec);
+      codecs[i] = resolved;
+    }
+    return resolved.uncheckedCodec();
+  }
+
+  /** Same as {@link #codecFor(int, Class, CodecRegistry)}, but with a generic Java type. */
+  @NonNull
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(
+      int i, @NonNull GenericType<JavaTypeT> javaType, @NonNull CodecRegistry registry) {
+    ResolvedCodec resolved = codecs[i];
+    if (resolved == null || !resolved.matches(registry, javaType)) {
+      TypeCodec<JavaTypeT> codec = registry.codecFor(definitions.get(i).getType(), javaType);
+      resolved = new ResolvedCodec(registry, javaType, codec);
+      codecs[i] = resolved;
+    }
+    return resolved.uncheckedCodec();
+  }
+
+  /**
+   * Same as {@link #codecFor(int, Class, CodecRegistry)}, but for the default Java type of the
+   * column's CQL type.
+   */
+  @NonNull
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(int i, @NonNull CodecRegistry registry) {
+    ResolvedCodec resolved = codecs[i];
+    if (resolved == null || !resolved.matches(registry, null)) {
+      TypeCodec<JavaTypeT> codec = registry.codecFor(definitions.get(i).getType());
+      resolved = new ResolvedCodec(registry, null, codec);
+      codecs[i] = resolved;
+    }
+    return resolved.uncheckedCodec();
+  }
+
   private static IdentifierIndex buildIndex(List<ColumnDefinition> definitions) {
     List<CqlIdentifier> identifiers = new ArrayList<>(definitions.size());
     for (ColumnDefinition definition : definitions) {
@@ -117,6 +171,30 @@ public class DefaultColumnDefinitions implements ColumnDefinitions, Serializable
     throw new InvalidObjectException("Proxy required");
   }
 
+  @Immutable
+  private static class ResolvedCodec {
+    private final CodecRegistry registry;
+    // A Class, a GenericType, or null for the default Java type
+    private final Object javaType;
+    private final TypeCodec<?> codec;
+
+    private ResolvedCodec(CodecRegistry registry, @Nullable Object javaType, TypeCodec<?> codec) {
+      this.registry = registry;
+      this.javaType = javaType;
+      this.codec = codec;
+    }
+
+    private boolean matches(CodecRegistry registry, @Nullable Object javaType) {
+      return this.registry == registry
+          && (this.javaType == javaType || (javaType != null && javaType.equals(this.javaType)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <JavaTypeT> TypeCodec<JavaTypeT> uncheckedCodec() {
+      return (TypeCodec<JavaTypeT>) codec;
+    }
+  }
+
   private static class SerializationProxy implements Serializable {
 
     private static final long serialVersionUID = 1;
@@ -0,0 +1,100 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnReader;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import net.jcip.annotations.ThreadSafe;
+
+@ThreadSafe
+public class DefaultColumnReader<ValueT> implements ColumnReader<ValueT> {
+
+  private final String name;
+  private final CqlIdentifier id;
+  private final Class<ValueT> javaClass;
+  private final GenericType<ValueT> javaType;
+
+  // The column index and codec resolved for the last column definitions that were seen
+  private volatile Binding<ValueT> binding;
+
+  public DefaultColumnReader(
+      @Nullable String name,
+      @Nullable CqlIdentifier id,
+      @Nullable Class<ValueT> javaClass,
+      @NonNull GenericType<ValueT> javaType) {
+    assert name != null ^ id != null;
+    this.name = name;
+    this.id = id;
+    this.javaClass = javaClass;
+    this.javaType = javaType;
+  }
+
+  @Nullable
+  @Override
+  public ValueT read(@NonNull Row row) {
+    ColumnDefinitions definitions = row.getColumnDefinitions();
+    CodecRegistry registry = row.codecRegistry();
+    Binding<ValueT> current = binding;
+    if (current == null || current.definitions != definitions || current.registry != registry) {
+      current = bind(definitions, registry);
+      binding = current;
+    }
+    return current.codec.decode(row.getBytesUnsafe(current.index), row.protocolVersion());
+  }
+
+  private Binding<ValueT> bind(ColumnDefinitions definitions, CodecRegistry registry) {
+    int index = (name != null) ? definitions.firstIndexOf(name) : definitions.firstIndexOf(id);
+    if (index == -1) {
+      throw new IllegalArgumentException(
+          ((name != null) ? name : id) + " is not a column in this row");
+    }
+    DataType cqlType = definitions.get(index).getType();
+    TypeCodec<ValueT> codec =
+        (javaClass != null)
+            ? registry.codecFor(cqlType, javaClass)
+            : registry.codecFor(cqlType, javaType);
+    return new Binding<>(definitions, registry, index, codec);
+  }
+
+  @Override
+  public String toString() {
+    return String.format(
+        "ColumnReader(%s <-> %s)", (name != null) ? name : id.asCql(true), javaType);
+  }
+
+  private static class Binding<ValueT> {
+    private final ColumnDefinitions definitions;
+    private final CodecRegistry registry;
+    private final int index;
+    private final TypeCodec<ValueT> codec;
+
+    private Binding(
+        ColumnDefinitions definitions, CodecRegistry registry, int index, TypeCodec<ValueT> codec) {
+      this.definitions = definitions;
+      this.registry = registry;
+      this.index = index;
+      this.codec = codec;
+    }
+  }
+}
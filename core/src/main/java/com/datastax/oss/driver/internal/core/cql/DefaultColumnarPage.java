@@ -0,0 +1,368 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Queue;
+import net.jcip.annotations.NotThreadSafe;
+
+/**
+ * The arrays are exposed without defensive copies (see {@link ColumnarPage}), so this is only safe
+ * to share across threads if clients don't modify them.
+ */
+@NotThreadSafe
+public class DefaultColumnarPage implements ColumnarPage {
+
+  /**
+   * Decodes the given raw rows column by column.
+   *
+   * <p>This works directly on the encoded row data, without creating intermediary {@link Row}
+   * instances. The queue is consumed: it is empty once this method returns.
+   *
+   * @param firstRow an optional row to decode before the contents of the queue (this is used when
+   *     the caller has already polled the head of the queue).
+   * @param expectedRowCount a hint for the initial size of the arrays; if it turns out to be wrong,
+   *     the arrays are resized.
+   */
+  @NonNull
+  public static ColumnarPage decode(
+      @NonNull ColumnDefinitions definitions,
+      @Nullable List<ByteBuffer> firstRow,
+      @NonNull Queue<List<ByteBuffer>> rows,
+      int expectedRowCount) {
+    int columnCount = definitions.size();
+    ColumnBuilder[] builders = new ColumnBuilder[columnCount];
+    for (int c = 0; c < columnCount; c++) {
+      builders[c] = new ColumnBuilder(layout(definitions, c), Math.max(expectedRowCount, 0));
+    }
+    int rowCount = 0;
+    List<ByteBuffer> rowData = (firstRow == null) ? rows.poll() : firstRow;
+    while (rowData != null) {
+      for (int c = 0; c < columnCount; c++) {
+        builders[c].add(rowCount, rowData.get(c), definitions, c);
+      }
+      rowCount += 1;
+      rowData = rows.poll();
+    }
+    Column[] columns = new Column[columnCount];
+    for (int c = 0; c < columnCount; c++) {
+      columns[c] = builders[c].build(rowCount);
+    }
+    return new DefaultColumnarPage(definitions, rowCount, columns);
+  }
+
+  private final ColumnDefinitions definitions;
+  private final int rowCount;
+  private final Column[] columns;
+
+  private DefaultColumnarPage(ColumnDefinitions definitions, int rowCount, Column[] columns) {
+    this.definitions = definitions;
+    this.rowCount = rowCount;
+    this.columns = columns;
+  }
+
+  @NonNull
+  @Override
+  public ColumnDefinitions getColumnDefinitions() {
+    return definitions;
+  }
+
+  @Override
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  @NonNull
+  @Override
+  public BitSet getNulls(int column) {
+    return columns[column].nulls;
+  }
+
+  @Override
+  public boolean isNull(int column, int row) {
+    return columns[column].nulls.get(row);
+  }
+
+  @NonNull
+  @Override
+  public int[] getInts(int column) {
+    return (int[]) values(column, Layout.INT);
+  }
+
+  @NonNull
+  @Override
+  public long[] getLongs(int column) {
+    return (long[]) values(column, Layout.LONG);
+  }
+
+  @NonNull
+  @Override
+  public float[] getFloats(int column) {
+    return (float[]) values(column, Layout.FLOAT);
+  }
+
+  @NonNull
+  @Override
+  public double[] getDoubles(int column) {
+    return (double[]) values(column, Layout.DOUBLE);
+  }
+
+  @NonNull
+  @Override
+  public boolean[] getBooleans(int column) {
+    return (boolean[]) values(column, Layout.BOOLEAN);
+  }
+
+  @NonNull
+  @Override
+  public int[] getOffsets(int column) {
+    checkLayout(column, Layout.BYTES);
+    return columns[column].offsets;
+  }
+
+  @NonNull
+  @Override
+  public byte[] getBytes(int column) {
+    return (byte[]) values(column, Layout.BYTES);
+  }
+
+  @Nullable
+  @Override
+  public String getString(int column, int row) {
+    checkLayout(column, Layout.BYTES);
+    Column c = columns[column];
+    if (c.nulls.get(row)) {
+      return null;
+    }
+    int offset = c.offsets[row];
+    int length = c.offsets[row + 1] - offset;
+    return new String((byte[]) c.values, offset, length, StandardCharsets.UTF_8);
+  }
+
+  private Object values(int column, Layout expected) {
+    checkLayout(column, expected);
+    return columns[column].values;
+  }
+
+  private void checkLayout(int column, Layout expected) {
+    Layout actual = columns[column].layout;
+    if (actual != expected) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Column %d (%s) is stored as %s, not %s",
+              column, definitions.get(column).getType(), actual, expected));
+    }
+  }
+
+  private static Layout layout(ColumnDefinitions definitions, int column) {
+    switch (definitions.get(column).getType().getProtocolCode()) {
+      case ProtocolConstants.DataType.INT:
+        return Layout.INT;
+      case ProtocolConstants.DataType.BIGINT:
+      case ProtocolConstants.DataType.COUNTER:
+      case ProtocolConstants.DataType.TIMESTAMP:
+      case ProtocolConstants.DataType.TIME:
+        return Layout.LONG;
+      case ProtocolConstants.DataType.FLOAT:
+        return Layout.FLOAT;
+      case ProtocolConstants.DataType.DOUBLE:
+        return Layout.DOUBLE;
+      case ProtocolConstants.DataType.BOOLEAN:
+        return Layout.BOOLEAN;
+      default:
+        return Layout.BYTES;
+    }
+  }
+
+  private enum Layout {
+    INT("int[]", 4),
+    LONG("long[]", 8),
+    FLOAT("float[]", 4),
+    DOUBLE("double[]", 8),
+    BOOLEAN("boolean[]", 1),
+    BYTES("bytes", -1);
+
+    private final String description;
+    private final int size;
+
+    Layout(String description, int size) {
+      this.description = description;
+      this.size = size;
+    }
+
+    @Override
+    public String toString() {
+      return description;
+    }
+  }
+
+  @NotThreadSafe
+  private static class Column {
+    private final Layout layout;
+    private final BitSet nulls;
+    // An array of primitives, or the concatenated bytes
+    private final Object values;
+    // Only for Layout.BYTES
+    private final int[] offsets;
+
+    private Column(Layout layout, BitSet nulls, Object values, int[] offsets) {
+      this.layout = layout;
+      this.nulls = nulls;
+      this.values = values;
+      this.offsets = offsets;
+    }
+  }
+
+  @NotThreadSafe
+  private static class ColumnBuilder {
+    private final Layout layout;
+    private final BitSet nulls = new BitSet();
+    private int capacity;
+    private Object values;
+    private int[] offsets;
+    private int byteCount;
+
+    private ColumnBuilder(Layout layout, int capacity) {
+      this.layout = layout;
+      this.capacity = capacity;
+      if (layout == Layout.BYTES) {
+        this.offsets = new int[capacity + 1];
+        this.values = new byte[0];
+      } else {
+        this.values = newArray(layout, capacity);
+      }
+    }
+
+    private void add(int row, ByteBuffer bytes, ColumnDefinitions definitions, int column) {
+      if (row >= capacity) {
+        grow();
+      }
+      if (layout == Layout.BYTES) {
+        if (bytes == null) {
+          nulls.set(row);
+        } else {
+          appendBytes(bytes);
+        }
+        offsets[row + 1] = byteCount;
+        return;
+      }
+      // Like the driver's primitive codecs, consider empty buffers as null
+      if (bytes == null || bytes.remaining() == 0) {
+        nulls.set(row);
+        return;
+      }
+      if (bytes.remaining() != layout.size) {
+        throw new IllegalArgumentException(
+            String.format(
+                "Invalid value for column %d (%s), expected %d bytes but got %d",
+                column, definitions.get(column).getType(), layout.size, bytes.remaining()));
+      }
+      int position = bytes.position();
+      switch (layout) {
+        case INT:
+          ((int[]) values)[row] = bytes.getInt(position);
+          break;
+        case LONG:
+          ((long[]) values)[row] = bytes.getLong(position);
+          break;
+        case FLOAT:
+          ((float[]) values)[row] = bytes.getFloat(position);
+          break;
+        case DOUBLE:
+          ((double[]) values)[row] = bytes.getDouble(position);
+          break;
+        case BOOLEAN:
+          ((boolean[]) values)[row] = bytes.get(position) != 0;
+          break;
+        default:
+          throw new AssertionError("Unexpected layout " + layout);
+      }
+    }
+
+    private void appendBytes(ByteBuffer bytes) {
+      byte[] array = (byte[]) values;
+      int length = bytes.remaining();
+      if (byteCount + length > array.length) {
+        array = Arrays.copyOf(array, Math.max(byteCount + length, array.length * 2));
+        values = array;
+      }
+      if (bytes.hasArray()) {
+        System.arraycopy(
+            bytes.array(), bytes.arrayOffset() + bytes.position(), array, byteCount, length);
+      } else {
+        bytes.duplicate().get(array, byteCount, length);
+      }
+      byteCount += length;
+    }
+
+    private void grow() {
+      int newCapacity = Math.max(capacity * 2, 16);
+      if (layout == Layout.BYTES) {
+        offsets = Arrays.copyOf(offsets, newCapacity + 1);
+      } else {
+        values = copyOf(values, layout, newCapacity);
+      }
+      capacity = newCapacity;
+    }
+
+    private Column build(int rowCount) {
+      if (layout == Layout.BYTES) {
+        return new Column(
+            layout,
+            nulls,
+            Arrays.copyOf((byte[]) values, byteCount),
+            (rowCount == capacity) ? offsets : Arrays.copyOf(offsets, rowCount + 1));
+      } else {
+        Object trimmed = (rowCount == capacity) ? values : copyOf(values, layout, rowCount);
+        return new Column(layout, nulls, trimmed, null);
+      }
+    }
+
+    private static Object newArray(Layout layout, int length) {
+      switch (layout) {
+        case INT:
+          return new int[length];
+        case LONG:
+          return new long[length];
+        case FLOAT:
+          return new float[length];
+        case DOUBLE:
+          return new double[length];
+        case BOOLEAN:
+          return new boolean[length];
+        default:
+          throw new AssertionError("Unexpected layout " + layout);
+      }
+    }
+
+    private static Object copyOf(Object values, Layout layout, int length) {
+      Object result = newArray(layout, length);
+      System.arraycopy(values, 0, result, 0, Math.min(length, Array.getLength(values)));
+      return result;
+    }
+  }
+}
@@ -28,6 +28,7 @@ import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
 import com.datastax.oss.driver.internal.core.data.ValuesHelper;
 import com.datastax.oss.driver.internal.core.session.RepreparePayload;
+import com.datastax.oss.driver.shaded.guava.common.primitives.Ints;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import java.nio.ByteBuffer;
 import java.time.Duration;
@@ -42,6 +43,7 @@ public class DefaultPreparedStatement implements PreparedStatement {
   private final RepreparePayload repreparePayload;
   private final ColumnDefinitions variableDefinitions;
   private final List<Integer> partitionKeyIndices;
+  private final int[] partitionKeyIndicesArray;
   private volatile ResultMetadata resultMetadata;
   private final CodecRegistry codecRegistry;
   private final ProtocolVersion protocolVersion;
@@ -85,6 +87,7 @@ public class DefaultPreparedStatement implements PreparedStatement {
       ProtocolVersion protocolVersion) {
     this.id = id;
     this.partitionKeyIndices = partitionKeyIndices;
+    this.partitionKeyIndicesArray = Ints.toArray(partitionKeyIndices);
     // It's important that we keep a reference to this object, so that it only gets evicted from
     // the map in DefaultSession if no client reference the PreparedStatement anymore.
     this.repreparePayload = new RepreparePayload(id, query, keyspace, customPayloadForPrepare);
@@ -133,6 +136,15 @@ public class DefaultPreparedStatement implements PreparedStatement {
     return partitionKeyIndices;
   }
 
+  /**
+   * Same as {@link #getPartitionKeyIndices()}, but as an array of primitives to avoid unboxing on
+   * the hot path. The returned array is shared, it must not be modified.
+   */
+  @NonNull
+  public int[] getPartitionKeyIndicesArray() {
+    return partitionKeyIndicesArray;
+  }
+
   @Override
   public ByteBuffer getResultMetadataId() {
     return resultMetadata.resultMetadataId;
@@ -21,7 +21,9 @@ import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
 import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.protocol.internal.util.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -126,6 +128,44 @@ public class DefaultRow implements Row, Serializable {
   public ByteBuffer getBytesUnsafe(int i) {
     return data.get(i);
   }
+
+  // The next three methods reuse the codecs resolved for the previous rows of the same result set,
+  // if the column definitions support it.
+
+  @Nullable
+  @Override
+  public <ValueT> ValueT get(int i, GenericType<ValueT> targetType) {
+    if (definitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) definitions;
+      return get(i, defaultDefinitions.codecFor(i, targetType, codecRegistry()));
+    } else {
+      return Row.super.get(i, targetType);
+    }
+  }
+
+  @Nullable
+  @Override
+  public <ValueT> ValueT get(int i, Class<ValueT> targetClass) {
+    if (definitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) definitions;
+      return get(i, defaultDefinitions.codecFor(i, targetClass, codecRegistry()));
+    } else {
+      return Row.super.get(i, targetClass);
+    }
+  }
+
+  @Nullable
+  @Override
+  public Object getObject(int i) {
+    if (definitions instanceof DefaultColumnDefinitions) {
+      DefaultColumnDefinitions defaultDefinitions = (DefaultColumnDefinitions) definitions;
+      TypeCodec<?> codec = defaultDefinitions.codecFor(i, codecRegistry());
+      return codec.decode(getBytesUnsafe(i), protocolVersion());
+    } else {
+      return Row.super.getObject(i);
+    }
+  }
+
   /**
    * @serialData The column definitions, followed by an array of byte arrays representing the column
    *     values (null values are represented by {@code null}).
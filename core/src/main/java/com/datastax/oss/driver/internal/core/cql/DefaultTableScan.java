@@ -0,0 +1,423 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.AllNodesFailedException;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanListener;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.NotThreadSafe;
+import net.jcip.annotations.ThreadSafe;
+
+@Immutable
+public class DefaultTableScan implements TableScan {
+
+  private final CqlIdentifier keyspace;
+  private final CqlIdentifier table;
+  private final ImmutableList<CqlIdentifier> columns;
+  private final int splitsPerRange;
+  private final int maxConcurrencyPerNode;
+  private final int pageSize;
+  private final String executionProfileName;
+  private final ImmutableSet<TokenRange> completedRanges;
+
+  public DefaultTableScan(
+      CqlIdentifier keyspace,
+      CqlIdentifier table,
+      ImmutableList<CqlIdentifier> columns,
+      int splitsPerRange,
+      int maxConcurrencyPerNode,
+      int pageSize,
+      String executionProfileName,
+      ImmutableSet<TokenRange> completedRanges) {
+    this.keyspace = keyspace;
+    this.table = table;
+    this.columns = columns;
+    this.splitsPerRange = splitsPerRange;
+    this.maxConcurrencyPerNode = maxConcurrencyPerNode;
+    this.pageSize = pageSize;
+    this.executionProfileName = executionProfileName;
+    this.completedRanges = completedRanges;
+  }
+
+  @NonNull
+  @Override
+  public CqlIdentifier getKeyspace() {
+    return keyspace;
+  }
+
+  @NonNull
+  @Override
+  public CqlIdentifier getTable() {
+    return table;
+  }
+
+  @NonNull
+  @Override
+  public List<CqlIdentifier> getColumns() {
+    return columns;
+  }
+
+  @NonNull
+  @Override
+  public List<TokenRange> computeRanges(@NonNull CqlSession session) {
+    return computeRanges(getTokenMap(session.getMetadata()));
+  }
+
+  @NonNull
+  @Override
+  public CompletionStage<Void> executeAsync(
+      @NonNull CqlSession session, @NonNull TableScanListener listener) {
+    Metadata metadata = session.getMetadata();
+    TokenMap tokenMap;
+    TableMetadata tableMetadata;
+    try {
+      tokenMap = getTokenMap(metadata);
+      tableMetadata =
+          metadata
+              .getKeyspace(keyspace)
+              .flatMap(ks -> ks.getTable(table))
+              .orElseThrow(
+                  () ->
+                      new IllegalArgumentException(
+                          String.format("Unknown table %s.%s", keyspace, table)));
+    } catch (Throwable t) {
+      return CompletableFutures.failedFuture(t);
+    }
+    Map<Node, Queue<TokenRange>> rangesByNode = groupByReplica(tokenMap, computeRanges(tokenMap));
+
+    String baseQuery = buildBaseQuery(tableMetadata);
+    // A subrange that ends at the minimum token has no upper bound, see buildStatement
+    CompletionStage<PreparedStatement> boundedStage =
+        session.prepareAsync(baseQuery + " AND " + tokenExpression(tableMetadata) + " <= ?");
+    CompletionStage<PreparedStatement> unboundedStage = session.prepareAsync(baseQuery);
+    return boundedStage
+        .thenCombine(
+            unboundedStage,
+            (bounded, unbounded) ->
+                new Execution(session, listener, tokenMap, bounded, unbounded, rangesByNode))
+        .thenCompose(Execution::start);
+  }
+
+  /**
+   * Splits every range of the ring, unwraps the subranges that wrap around the ring, and removes
+   * empty and already completed subranges.
+   */
+  @NonNull
+  List<TokenRange> computeRanges(@NonNull TokenMap tokenMap) {
+    List<TokenRange> result = new ArrayList<>();
+    for (TokenRange range : tokenMap.getTokenRanges()) {
+      List<TokenRange> splits =
+          (splitsPerRange == 1) ? ImmutableList.of(range) : range.splitEvenly(splitsPerRange);
+      for (TokenRange split : splits) {
+        for (TokenRange subrange : split.unwrap()) {
+          if (!subrange.isEmpty() && !completedRanges.contains(subrange)) {
+            result.add(subrange);
+          }
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Assigns each subrange to one of its local replicas, spreading them as evenly as possible (so
+   * that a replication factor of 3 allows three nodes to share the work of each range). The queries
+   * of a subrange are then sent to that replica, unless it fails (see {@link
+   * Execution#failOver}).
+   */
+  @NonNull
+  private Map<Node, Queue<TokenRange>> groupByReplica(
+      @NonNull TokenMap tokenMap, @NonNull List<TokenRange> ranges) {
+    // A null key groups the subranges for which no local replica is known or up; they are routed
+    // by the load balancing policy like any other query
+    Map<Node, Queue<TokenRange>> result = new LinkedHashMap<>();
+    for (TokenRange range : ranges) {
+      Set<Node> replicas = tokenMap.getReplicas(keyspace, range);
+      Node target = null;
+      int targetSize = Integer.MAX_VALUE;
+      for (Node replica : replicas) {
+        if (!isCandidate(replica)) {
+          continue;
+        }
+        Queue<TokenRange> queue = result.get(replica);
+        int size = (queue == null) ? 0 : queue.size();
+        if (size < targetSize) {
+          target = replica;
+          targetSize = size;
+        }
+      }
+      result.computeIfAbsent(target, k -> new ArrayDeque<>()).add(range);
+    }
+    return result;
+  }
+
+  // Never pin queries to a remote node: the load balancing policy wouldn't have sent them there
+  // either (and doing so would move the whole scan across data centers).
+  private static boolean isCandidate(Node replica) {
+    return replica.getState() == NodeState.UP && replica.getDistance() == NodeDistance.LOCAL;
+  }
+
+  private String buildBaseQuery(TableMetadata tableMetadata) {
+    StringBuilder builder = new StringBuilder("SELECT ");
+    if (columns.isEmpty()) {
+      builder.append('*');
+    } else {
+      for (int i = 0; i < columns.size(); i++) {
+        if (i > 0) {
+          builder.append(',');
+        }
+        builder.append(columns.get(i).asCql(true));
+      }
+    }
+    return builder
+        .append(" FROM ")
+        .append(keyspace.asCql(true))
+        .append('.')
+        .append(table.asCql(true))
+        .append(" WHERE ")
+        .append(tokenExpression(tableMetadata))
+        .append(" > ?")
+        .toString();
+  }
+
+  private static String tokenExpression(TableMetadata tableMetadata) {
+    StringBuilder builder = new StringBuilder("token(");
+    List<ColumnMetadata> partitionKey = tableMetadata.getPartitionKey();
+    for (int i = 0; i < partitionKey.size(); i++) {
+      if (i > 0) {
+        builder.append(',');
+      }
+      builder.append(partitionKey.get(i).getName().asCql(true));
+    }
+    return builder.append(')').toString();
+  }
+
+  private static TokenMap getTokenMap(Metadata metadata) {
+    return metadata
+        .getTokenMap()
+        .orElseThrow(
+            () -> new IllegalStateException("Token metadata is required to scan a table"));
+  }
+
+  @ThreadSafe
+  private class Execution {
+
+    private final CqlSession session;
+    private final TableScanListener listener;
+    private final TokenMap tokenMap;
+    private final PreparedStatement bounded;
+    private final PreparedStatement unbounded;
+    private final Map<Node, Queue<TokenRange>> rangesByNode;
+    private final AtomicInteger remaining;
+    private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    private Execution(
+        CqlSession session,
+        TableScanListener listener,
+        TokenMap tokenMap,
+        PreparedStatement bounded,
+        PreparedStatement unbounded,
+        Map<Node, Queue<TokenRange>> rangesByNode) {
+      this.session = session;
+      this.listener = listener;
+      this.tokenMap = tokenMap;
+      this.bounded = bounded;
+      this.unbounded = unbounded;
+      this.rangesByNode = rangesByNode;
+      int count = 0;
+      for (Queue<TokenRange> queue : rangesByNode.values()) {
+        count += queue.size();
+      }
+      this.remaining = new AtomicInteger(count);
+    }
+
+    private CompletionStage<Void> start() {
+      if (remaining.get() == 0) {
+        result.complete(null);
+        return result;
+      }
+      for (Map.Entry<Node, Queue<TokenRange>> entry : rangesByNode.entrySet()) {
+        Node node = entry.getKey();
+        Queue<TokenRange> queue = entry.getValue();
+        int workers = Math.min(maxConcurrencyPerNode, queue.size());
+        for (int i = 0; i < workers; i++) {
+          scanNext(node, queue);
+        }
+      }
+      return result;
+    }
+
+    // Each worker processes the subranges of a queue one at a time, so the number of workers
+    // started on a queue bounds the concurrency for that node (except when a subrange fails over
+    // to another replica, where it counts against the original worker).
+    private void scanNext(@Nullable Node node, Queue<TokenRange> queue) {
+      if (result.isDone()) {
+        return;
+      }
+      TokenRange range;
+      synchronized (queue) {
+        range = queue.poll();
+      }
+      if (range != null) {
+        new RangeScan(node, queue, range).execute(node, null);
+      }
+    }
+
+    /**
+     * Called when the replica that a subrange was pinned to could not be reached. Resumes the scan
+     * of the subrange on another local replica, from the last page that was received; if there
+     * is none, the whole scan fails.
+     */
+    private void failOver(RangeScan rangeScan, @Nullable ByteBuffer pagingState, Throwable error) {
+      for (Node replica : tokenMap.getReplicas(keyspace, rangeScan.range)) {
+        if (isCandidate(replica) && rangeScan.triedNodes.add(replica)) {
+          rangeScan.execute(replica, pagingState);
+          return;
+        }
+      }
+      result.completeExceptionally(error);
+    }
+
+    /**
+     * The scan of a single subrange. Its callbacks are chained, so they never run concurrently.
+     */
+    @NotThreadSafe
+    private class RangeScan {
+      // The node and queue of the worker that processes this subrange
+      private final Node node;
+      private final Queue<TokenRange> queue;
+      private final TokenRange range;
+      private final Set<Node> triedNodes = new HashSet<>();
+
+      private RangeScan(@Nullable Node node, Queue<TokenRange> queue, TokenRange range) {
+        this.node = node;
+        this.queue = queue;
+        this.range = range;
+      }
+
+      private void execute(@Nullable Node target, @Nullable ByteBuffer pagingState) {
+        if (target != null) {
+          triedNodes.add(target);
+        }
+        BoundStatement statement = buildStatement(target, range);
+        if (pagingState != null) {
+          statement = statement.setPagingState(pagingState);
+        }
+        session
+            .executeAsync(statement)
+            .whenComplete((rs, error) -> onPage(target, pagingState, rs, error));
+      }
+
+      private void onPage(
+          @Nullable Node target,
+          @Nullable ByteBuffer pagingState,
+          AsyncResultSet resultSet,
+          Throwable error) {
+        try {
+          if (error != null) {
+            // The load balancing policy already tries other nodes for unpinned queries
+            if (target != null && error instanceof AllNodesFailedException) {
+              failOver(this, pagingState, error);
+            } else {
+              result.completeExceptionally(error);
+            }
+            return;
+          }
+          for (Row row : resultSet.currentPage()) {
+            listener.onRow(range, row);
+          }
+          if (resultSet.hasMorePages()) {
+            ByteBuffer nextPagingState = resultSet.getExecutionInfo().getPagingState();
+            resultSet
+                .fetchNextPage()
+                .whenComplete(
+                    (next, nextError) -> onPage(target, nextPagingState, next, nextError));
+          } else {
+            listener.onRangeCompleted(range);
+            if (remaining.decrementAndGet() == 0) {
+              result.complete(null);
+            } else {
+              scanNext(node, queue);
+            }
+          }
+        } catch (Throwable t) {
+          // A listener failed
+          result.completeExceptionally(t);
+        }
+      }
+    }
+
+    private BoundStatement buildStatement(@Nullable Node node, TokenRange range) {
+      // After unwrapping, a subrange whose start is not strictly before its end must end at the
+      // minimum token (it either covers the whole ring, or the end of the ring). No token is
+      // greater than the minimum token, so such a subrange has no upper bound.
+      boolean hasUpperBound = range.getStart().compareTo(range.getEnd()) < 0;
+      BoundStatement statement =
+          hasUpperBound
+              ? bounded.bind().setToken(0, range.getStart()).setToken(1, range.getEnd())
+              : unbounded.bind().setToken(0, range.getStart());
+      statement =
+          statement
+              .setRoutingKeyspace(keyspace)
+              .setRoutingToken(range.getEnd())
+              .setIdempotent(true);
+      if (node != null) {
+        // Bypass the load balancing policy, so that the concurrency per node is really bounded.
+        // The next pages are fetched from a copy of the statement, which keeps the node.
+        statement = statement.setNode(node);
+      }
+      if (pageSize > 0) {
+        statement = statement.setPageSize(pageSize);
+      }
+      if (executionProfileName != null) {
+        statement = statement.setExecutionProfileName(executionProfileName);
+      }
+      return statement;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.ConsistencyLevel;
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.cql.BatchType;
+import com.datastax.oss.driver.api.core.cql.BatchableStatement;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.token.Token;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import net.jcip.annotations.Immutable;
+
+/**
+ * A batch whose children's values were encoded when they were added to the builder.
+ *
+ * <p>The encoded values are only valid for the exact list of children, and the protocol version
+ * and codec registry that produced them. Any method that returns a modified copy produces a
+ * regular {@link DefaultBatchStatement}, that will encode its children again when executed.
+ */
+@Immutable
+public class PreEncodedBatchStatement extends DefaultBatchStatement {
+
+  private final List<List<ByteBuffer>> encodedValues;
+  private final ProtocolVersion protocolVersion;
+  private final CodecRegistry codecRegistry;
+
+  public PreEncodedBatchStatement(
+      BatchType batchType,
+      List<BatchableStatement<?>> statements,
+      String executionProfileName,
+      DriverExecutionProfile executionProfile,
+      CqlIdentifier keyspace,
+      CqlIdentifier routingKeyspace,
+      ByteBuffer routingKey,
+      Token routingToken,
+      Map<String, ByteBuffer> customPayload,
+      Boolean idempotent,
+      boolean tracing,
+      long timestamp,
+      ByteBuffer pagingState,
+      int pageSize,
+      ConsistencyLevel consistencyLevel,
+      ConsistencyLevel serialConsistencyLevel,
+      Duration timeout,
+      Node node,
+      int nowInSeconds,
+      List<List<ByteBuffer>> encodedValues,
+      ProtocolVersion protocolVersion,
+      CodecRegistry codecRegistry) {
+    super(
+        batchType,
+        statements,
+        executionProfileName,
+        executionProfile,
+        keyspace,
+        routingKeyspace,
+        routingKey,
+        routingToken,
+        customPayload,
+        idempotent,
+        tracing,
+        timestamp,
+        pagingState,
+        pageSize,
+        consistencyLevel,
+        serialConsistencyLevel,
+        timeout,
+        node,
+        nowInSeconds);
+    this.encodedValues = encodedValues;
+    this.protocolVersion = protocolVersion;
+    this.codecRegistry = codecRegistry;
+  }
+
+  /**
+   * Returns the encoded values of each child (in the same order as the iterator), or {@code null}
+   * if they were encoded for a different protocol version or codec registry.
+   */
+  @Nullable
+  public List<List<ByteBuffer>> getEncodedValues(
+      @NonNull ProtocolVersion protocolVersion, @NonNull CodecRegistry codecRegistry) {
+    return (this.protocolVersion.equals(protocolVersion) && this.codecRegistry == codecRegistry)
+        ? encodedValues
+        : null;
+  }
+}
@@ -0,0 +1,402 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.Version;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.protocol.ByteBufPrimitiveCodec;
+import com.datastax.oss.driver.internal.core.util.Loggers;
+import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.Prepared;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.datastax.oss.protocol.internal.response.result.RowsMetadata;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the responses to the prepare requests issued by the driver to a local file, so that a
+ * new session can create its prepared statements without contacting the cluster.
+ *
+ * <p>The entries are not validated when they are loaded: if a node doesn't know a statement (for
+ * example because it restarted in the meantime), it will reply {@code UNPREPARED} when the
+ * statement is executed, and {@link CqlRequestHandler} will reprepare it transparently.
+ *
+ * <p>The file is loaded once by the session during initialization, and rewritten shortly after new
+ * statements are added; both happen on the driver's blocking executor (see {@link
+ * NettyOptions#blockingEventExecutorGroup()}). Lookups only read the in-memory entries. The file
+ * is discarded if it was produced with a different protocol version, or with nodes running
+ * different Cassandra versions (the algorithm that computes prepared ids depends on it).
+ */
+@ThreadSafe
+public class PreparedStatementStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(PreparedStatementStore.class);
+
+  private static final int MAGIC = 0x43505343; // "CPSC"
+  private static final int FORMAT_VERSION = 1;
+  private static final long SAVE_DELAY_MILLIS = 1000;
+  private static final ByteBufPrimitiveCodec CODEC =
+      new ByteBufPrimitiveCodec(UnpooledByteBufAllocator.DEFAULT);
+
+  private final InternalDriverContext context;
+  private final Path path;
+  private final String logPrefix;
+  private final Map<Key, Prepared> entries = new ConcurrentHashMap<>();
+  private final AtomicBoolean saveScheduled = new AtomicBoolean();
+
+  public PreparedStatementStore(InternalDriverContext context, Path path) {
+    this.context = context;
+    this.path = path.toAbsolutePath();
+    this.logPrefix = context.getSessionName();
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /**
+   * Returns the persisted response for the given request, or {@code null} if there is none.
+   *
+   * @param sessionKeyspace the keyspace that the session is connected to, if any. It determines
+   *     the prepared id of unqualified queries.
+   */
+  @Nullable
+  public Prepared get(@NonNull PrepareRequest request, @Nullable CqlIdentifier sessionKeyspace) {
+    if (!request.getCustomPayload().isEmpty()) {
+      return null;
+    }
+    return entries.get(new Key(request, sessionKeyspace));
+  }
+
+  /**
+   * Records the response to a prepare request. The file will be rewritten asynchronously.
+   *
+   * <p>Requests with a custom payload are ignored, because the payload might influence how the
+   * server prepares the statement.
+   */
+  public void put(
+      @NonNull PrepareRequest request,
+      @Nullable CqlIdentifier sessionKeyspace,
+      @NonNull Prepared prepared) {
+    if (!request.getCustomPayload().isEmpty()) {
+      return;
+    }
+    Prepared previous = entries.put(new Key(request, sessionKeyspace), prepared);
+    if (previous == null && saveScheduled.compareAndSet(false, true)) {
+      // Coalesce the writes when a lot of statements are prepared at once (typically at startup)
+      context
+          .getNettyOptions()
+          .blockingEventExecutorGroup()
+          .next()
+          .schedule(
+              () -> {
+                saveScheduled.set(false);
+                save();
+              },
+              SAVE_DELAY_MILLIS,
+              TimeUnit.MILLISECONDS);
+    }
+  }
+
+  /**
+   * Loads the entries from the file, if it exists and is compatible with the current protocol and
+   * server versions.
+   *
+   * <p>This performs blocking I/O: it is invoked by the session on the blocking executor, once the
+   * initial node list is known. Entries that were already recorded take precedence over the ones
+   * from the file.
+   *
+   * <p>This never throws: if the file is missing or can't be read, the error is logged and the
+   * store starts empty.
+   */
+  public void load() {
+    long start = System.nanoTime();
+    try {
+      ByteBuf in = Unpooled.wrappedBuffer(Files.readAllBytes(path));
+      if (in.readableBytes() < 8 || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        LOG.warn("[{}] Ignoring prepared statement cache {}: unknown format", logPrefix, path);
+        return;
+      }
+      int protocolCode = in.readInt();
+      String serverVersions = readString(in);
+      if (protocolCode != context.getProtocolVersion().getCode()
+          || !serverVersions.equals(serverVersions())) {
+        LOG.debug(
+            "[{}] Ignoring prepared statement cache {}: it was produced with protocol {} and "
+                + "server versions {}, but the session uses protocol {} and server versions {}",
+            logPrefix,
+            path,
+            protocolCode,
+            serverVersions,
+            context.getProtocolVersion().getCode(),
+            serverVersions());
+        return;
+      }
+      int count = in.readInt();
+      for (int i = 0; i < count; i++) {
+        Key key = new Key(readString(in), readNullableString(in), readNullableString(in));
+        byte[] preparedQueryId = readBytes(in);
+        byte[] resultMetadataId = readBytes(in);
+        RowsMetadata variablesMetadata = readMetadata(in, protocolCode);
+        RowsMetadata resultMetadata = readMetadata(in, protocolCode);
+        entries.putIfAbsent(
+            key,
+            new Prepared(preparedQueryId, resultMetadataId, variablesMetadata, resultMetadata));
+      }
+      LOG.debug(
+          "[{}] Loaded {} prepared statements from {} in {}",
+          logPrefix,
+          count,
+          path,
+          NanoTime.formatTimeSince(start));
+    } catch (NoSuchFileException e) {
+      LOG.debug("[{}] No prepared statement cache found at {}", logPrefix, path);
+    } catch (Throwable t) {
+      Loggers.warnWithException(
+          LOG,
+          "[{}] Error while loading prepared statement cache {}, ignoring it",
+          logPrefix,
+          path,
+          t);
+    }
+  }
+
+  /**
+   * Writes all the entries to the file, replacing its previous contents.
+   *
+   * <p>The file is written under a temporary name, and then atomically moved, so that other
+   * processes sharing the same location never observe a partial file.
+   *
+   * <p>This never throws: if the file can't be written, the error is logged.
+   */
+  void save() {
+    long start = System.nanoTime();
+    int protocolCode = context.getProtocolVersion().getCode();
+    ByteBuf out = Unpooled.buffer();
+    Path tmp = null;
+    try {
+      // Take a copy, so that the count is consistent with the entries that we write
+      List<Map.Entry<Key, Prepared>> snapshot = new ArrayList<>(entries.entrySet());
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(protocolCode);
+      writeString(serverVersions(), out);
+      out.writeInt(snapshot.size());
+      for (Map.Entry<Key, Prepared> entry : snapshot) {
+        Key key = entry.getKey();
+        Prepared prepared = entry.getValue();
+        writeString(key.query, out);
+        writeNullableString(key.keyspace, out);
+        writeNullableString(key.sessionKeyspace, out);
+        writeBytes(prepared.preparedQueryId, out);
+        writeBytes(prepared.resultMetadataId, out);
+        writeMetadata(prepared.variablesMetadata, protocolCode, out);
+        writeMetadata(prepared.resultMetadata, protocolCode, out);
+      }
+
+      Path directory = path.getParent();
+      Files.createDirectories(directory);
+      tmp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        ByteBuffer bytes = out.nioBuffer();
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      tmp = null;
+      LOG.debug(
+          "[{}] Saved {} prepared statements to {} ({} bytes) in {}",
+          logPrefix,
+          snapshot.size(),
+          path,
+          out.writerIndex(),
+          NanoTime.formatTimeSince(start));
+    } catch (Throwable t) {
+      Loggers.warnWithException(
+          LOG, "[{}] Error while saving prepared statement cache {}", logPrefix, path, t);
+    } finally {
+      out.release();
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        } catch (Throwable t) {
+          LOG.debug("[{}] Error while deleting temporary file {}", logPrefix, tmp, t);
+        }
+      }
+    }
+  }
+
+  private String serverVersions() {
+    TreeSet<String> versions = new TreeSet<>();
+    for (Node node : context.getMetadataManager().getMetadata().getNodes().values()) {
+      Version version = node.getCassandraVersion();
+      if (version != null) {
+        versions.add(version.toString());
+      }
+    }
+    return String.join(",", versions);
+  }
+
+  private static void writeMetadata(RowsMetadata metadata, int protocolCode, ByteBuf out) {
+    out.writeInt(metadata.columnSpecs.size());
+    for (ColumnSpec spec : metadata.columnSpecs) {
+      writeString(spec.ksName, out);
+      writeString(spec.tableName, out);
+      writeString(spec.name, out);
+      out.writeInt(spec.index);
+      spec.type.encode(out, CODEC, protocolCode);
+    }
+    int[] pkIndices = metadata.pkIndices;
+    if (pkIndices == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(pkIndices.length);
+      for (int pkIndex : pkIndices) {
+        out.writeInt(pkIndex);
+      }
+    }
+  }
+
+  private static RowsMetadata readMetadata(ByteBuf in, int protocolCode) {
+    int specCount = in.readInt();
+    List<ColumnSpec> specs = new ArrayList<>(specCount);
+    for (int i = 0; i < specCount; i++) {
+      String keyspace = readString(in);
+      String table = readString(in);
+      String name = readString(in);
+      int index = in.readInt();
+      RawType type = RawType.decode(in, CODEC, protocolCode);
+      specs.add(new ColumnSpec(keyspace, table, name, index, type));
+    }
+    int pkCount = in.readInt();
+    int[] pkIndices = null;
+    if (pkCount >= 0) {
+      pkIndices = new int[pkCount];
+      for (int i = 0; i < pkCount; i++) {
+        pkIndices[i] = in.readInt();
+      }
+    }
+    return new RowsMetadata(specs, null, pkIndices, null);
+  }
+
+  private static void writeBytes(byte[] bytes, ByteBuf out) {
+    if (bytes == null) {
+      out.writeInt(-1);
+    } else {
+      out.writeInt(bytes.length);
+      out.writeBytes(bytes);
+    }
+  }
+
+  private static byte[] readBytes(ByteBuf in) {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readBytes(bytes);
+    return bytes;
+  }
+
+  private static void writeString(String s, ByteBuf out) {
+    writeBytes(s.getBytes(StandardCharsets.UTF_8), out);
+  }
+
+  private static void writeNullableString(String s, ByteBuf out) {
+    writeBytes(s == null ? null : s.getBytes(StandardCharsets.UTF_8), out);
+  }
+
+  private static String readString(ByteBuf in) {
+    String s = readNullableString(in);
+    if (s == null) {
+      throw new IllegalStateException("Unexpected null string");
+    }
+    return s;
+  }
+
+  private static String readNullableString(ByteBuf in) {
+    byte[] bytes = readBytes(in);
+    return (bytes == null) ? null : new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  @Immutable
+  private static class Key {
+    private final String query;
+    private final String keyspace;
+    private final String sessionKeyspace;
+
+    private Key(PrepareRequest request, CqlIdentifier sessionKeyspace) {
+      this(
+          request.getQuery(),
+          (request.getKeyspace() == null) ? null : request.getKeyspace().asInternal(),
+          (sessionKeyspace == null) ? null : sessionKeyspace.asInternal());
+    }
+
+    private Key(String query, String keyspace, String sessionKeyspace) {
+      this.query = query;
+      this.keyspace = keyspace;
+      this.sessionKeyspace = sessionKeyspace;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+      if (other == this) {
+        return true;
+      } else if (other instanceof Key) {
+        Key that = (Key) other;
+        return this.query.equals(that.query)
+            && Objects.equals(this.keyspace, that.keyspace)
+            && Objects.equals(this.sessionKeyspace, that.sessionKeyspace);
+      } else {
+        return false;
+      }
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(query, keyspace, sessionKeyspace);
+    }
+  }
+}
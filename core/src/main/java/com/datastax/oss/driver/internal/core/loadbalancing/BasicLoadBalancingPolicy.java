@@ -27,8 +27,10 @@ import com.datastax.oss.driver.api.core.metadata.token.Token;
 import com.datastax.oss.driver.api.core.session.Request;
 import com.datastax.oss.driver.api.core.session.Session;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.cql.DefaultBoundStatement;
 import com.datastax.oss.driver.internal.core.loadbalancing.helper.DefaultNodeFilterHelper;
 import com.datastax.oss.driver.internal.core.loadbalancing.helper.OptionalLocalDcHelper;
+import com.datastax.oss.driver.internal.core.metadata.token.DefaultTokenMap;
 import com.datastax.oss.driver.internal.core.util.ArrayUtils;
 import com.datastax.oss.driver.internal.core.util.collection.QueryPlan;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
@@ -229,6 +231,7 @@ public class BasicLoadBalancingPolicy implements LoadBalancingPolicy {
     if (!maybeTokenMap.isPresent()) {
       return Collections.emptySet();
     }
+    TokenMap tokenMap = maybeTokenMap.get();
 
     // Note: we're on the hot path and the getXxx methods are potentially more than simple getters,
     // so we only call each method when strictly necessary (which is why the code below looks a bit
@@ -249,6 +252,14 @@ public class BasicLoadBalancingPolicy implements LoadBalancingPolicy {
       }
 
       token = request.getRoutingToken();
+      if (token == null
+          && request instanceof DefaultBoundStatement
+          && tokenMap instanceof DefaultTokenMap) {
+        // Fast path: hash the bound values directly, without assembling the routing key
+        token =
+            ((DefaultBoundStatement) request)
+                .computeRoutingToken(((DefaultTokenMap) tokenMap).getTokenFactory());
+      }
       key = (token == null) ? request.getRoutingKey() : null;
       if (token == null && key == null) {
         return Collections.emptySet();
@@ -259,7 +270,6 @@ public class BasicLoadBalancingPolicy implements LoadBalancingPolicy {
       return Collections.emptySet();
     }
 
-    TokenMap tokenMap = maybeTokenMap.get();
     return token != null
         ? tokenMap.getReplicas(keyspace, token)
         : tokenMap.getReplicas(keyspace, key);
@@ -153,8 +153,28 @@ public class DefaultTopologyMonitor implements TopologyMonitor {
     LOG.debug("[{}] Fetching info for new node {}", logPrefix, broadcastRpcAddress);
     DriverChannel channel = controlConnection.channel();
     EndPoint localEndPoint = channel.getEndPoint();
-    return query(channel, "SELECT * FROM " + getPeerTableName())
-        .thenApply(result -> findInPeers(result, broadcastRpcAddress, localEndPoint));
+    // The peers table is keyed by broadcast address, which is often the same IP as the broadcast
+    // RPC address. Try that single partition first, and only scan the whole table if it misses.
+    return query(
+            channel,
+            "SELECT * FROM " + getPeerTableName() + " WHERE peer = :address",
+            ImmutableMap.of("address", broadcastRpcAddress.getAddress()))
+        .thenCompose(
+            result -> {
+              Optional<NodeInfo> maybeInfo =
+                  findInPeers(result, broadcastRpcAddress, localEndPoint);
+              if (maybeInfo.isPresent()) {
+                return CompletableFuture.completedFuture(maybeInfo);
+              }
+              LOG.debug(
+                  "[{}] New node {} not found by broadcast address, scanning {}",
+                  logPrefix,
+                  broadcastRpcAddress,
+                  getPeerTableName());
+              return query(channel, "SELECT * FROM " + getPeerTableName())
+                  .thenApply(
+                      fullResult -> findInPeers(fullResult, broadcastRpcAddress, localEndPoint));
+            });
   }
 
   @Override
@@ -21,12 +21,14 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.EndPoint;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.config.ConfigChangeEvent;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.control.ControlConnection;
 import com.datastax.oss.driver.internal.core.metadata.schema.parsing.SchemaParserFactory;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaQueriesFactory;
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaSnapshotStore;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
 import com.datastax.oss.driver.internal.core.util.Loggers;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
@@ -37,10 +39,13 @@ import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
 import java.net.InetSocketAddress;
+import java.nio.file.Paths;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import net.jcip.annotations.ThreadSafe;
@@ -299,6 +304,9 @@ public class MetadataManager implements AsyncAutoCloseable {
         schemaRefreshDebouncer;
     private final SchemaQueriesFactory schemaQueriesFactory;
     private final SchemaParserFactory schemaParserFactory;
+    private final SchemaSnapshotStore schemaSnapshotStore;
+    // Reading and writing the snapshot blocks, so it's done off the admin thread
+    private final EventExecutorGroup snapshotExecutor;
 
     // We don't allow concurrent schema refreshes. If one is already running, the next one is queued
     // (and the ones after that are merged with the queued one).
@@ -317,6 +325,16 @@ public class MetadataManager implements AsyncAutoCloseable {
               config.getInt(DefaultDriverOption.METADATA_SCHEMA_MAX_EVENTS));
       this.schemaQueriesFactory = context.getSchemaQueriesFactory();
       this.schemaParserFactory = context.getSchemaParserFactory();
+      this.schemaSnapshotStore =
+          config.isDefined(DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_PATH)
+              ? new SchemaSnapshotStore(
+                  context,
+                  Paths.get(config.getString(DefaultDriverOption.METADATA_SCHEMA_SNAPSHOT_PATH)))
+              : null;
+      this.snapshotExecutor =
+          (schemaSnapshotStore == null)
+              ? null
+              : context.getNettyOptions().blockingEventExecutorGroup();
     }
 
     private Void refreshNodes(Iterable<NodeInfo> nodeInfos) {
@@ -430,31 +448,16 @@ public class MetadataManager implements AsyncAutoCloseable {
                 (schemaInAgreement, agreementError) -> {
                   if (agreementError != null) {
                     refreshFuture.completeExceptionally(agreementError);
+                  } else if (schemaSnapshotStore == null) {
+                    querySchema(refreshFuture, schemaInAgreement, null);
                   } else {
-                    schemaQueriesFactory
-                        .newInstance()
-                        .execute()
-                        .thenApplyAsync(this::parseAndApplySchemaRows, adminExecutor)
-                        .whenComplete(
-                            (newMetadata, metadataError) -> {
-                              if (metadataError != null) {
-                                refreshFuture.completeExceptionally(metadataError);
-                              } else {
-                                refreshFuture.complete(
-                                    new RefreshSchemaResult(newMetadata, schemaInAgreement));
-                              }
-
-                              firstSchemaRefreshFuture.complete(null);
-
-                              currentSchemaRefresh = null;
-                              // If another refresh was enqueued during this one, run it now
-                              if (queuedSchemaRefresh != null) {
-                                CompletableFuture<RefreshSchemaResult> tmp =
-                                    this.queuedSchemaRefresh;
-                                this.queuedSchemaRefresh = null;
-                                startSchemaRequest(tmp);
-                              }
-                            });
+                    schemaSnapshotStore
+                        .fetchSchemaVersion()
+                        .whenCompleteAsync(
+                            (schemaVersion, versionError) ->
+                                startSchemaRequestWithSnapshot(
+                                    refreshFuture, schemaInAgreement, schemaVersion, versionError),
+                            adminExecutor);
                   }
                 });
       } else if (queuedSchemaRefresh == null) {
@@ -465,6 +468,146 @@ public class MetadataManager implements AsyncAutoCloseable {
       }
     }
 
+    private void startSchemaRequestWithSnapshot(
+        CompletableFuture<RefreshSchemaResult> refreshFuture,
+        boolean schemaInAgreement,
+        UUID schemaVersion,
+        Throwable versionError) {
+      assert adminExecutor.inEventLoop();
+      if (versionError != null || schemaVersion == null) {
+        LOG.debug(
+            "[{}] Could not determine current schema version, ignoring snapshot",
+            logPrefix,
+            versionError);
+        querySchema(refreshFuture, schemaInAgreement, null);
+        return;
+      }
+      if (!firstSchemaRefreshFuture.isDone()) {
+        // Only use the snapshot at startup, afterwards our in-memory metadata is more recent
+        DriverChannel channel = controlConnection.channel();
+        Node node =
+            (channel == null) ? null : metadata.findNode(channel.getEndPoint()).orElse(null);
+        if (node != null) {
+          CompletableFuture.supplyAsync(() -> schemaSnapshotStore.load(node), snapshotExecutor)
+              .whenCompleteAsync(
+                  (snapshot, loadError) -> {
+                    // load() never throws, this is only defensive
+                    SchemaSnapshotStore.Snapshot loaded =
+                        (loadError == null) ? snapshot.orElse(null) : null;
+                    applySnapshot(refreshFuture, schemaInAgreement, schemaVersion, loaded);
+                  },
+                  adminExecutor);
+          return;
+        }
+      }
+      querySchema(refreshFuture, schemaInAgreement, schemaVersion);
+    }
+
+    private void applySnapshot(
+        CompletableFuture<RefreshSchemaResult> refreshFuture,
+        boolean schemaInAgreement,
+        UUID schemaVersion,
+        SchemaSnapshotStore.Snapshot snapshot) {
+      assert adminExecutor.inEventLoop();
+      if (snapshot == null) {
+        querySchema(refreshFuture, schemaInAgreement, schemaVersion);
+      } else {
+        UUID snapshotVersion = snapshot.getSchemaVersion();
+        CompletionStage<Metadata> applied;
+        try {
+          applied = parseAndApplySchemaRows(snapshot.getRows());
+        } catch (Throwable t) {
+          // Like in querySchema, a synchronous parser failure fails the refresh
+          refreshFuture.completeExceptionally(t);
+          firstSchemaRefreshFuture.complete(null);
+          finishSchemaRequest();
+          return;
+        }
+        applied
+            .whenCompleteAsync(
+                (newMetadata, error) -> {
+                  if (error != null) {
+                    Loggers.warnWithException(
+                        LOG,
+                        "[{}] Error while applying schema snapshot {}, ignoring it",
+                        logPrefix,
+                        schemaSnapshotStore.getPath(),
+                        error);
+                    querySchema(refreshFuture, schemaInAgreement, schemaVersion);
+                    return;
+                  }
+                  refreshFuture.complete(new RefreshSchemaResult(newMetadata, schemaInAgreement));
+                  firstSchemaRefreshFuture.complete(null);
+                  if (schemaVersion.equals(snapshotVersion)) {
+                    LOG.debug(
+                        "[{}] Initialized schema from snapshot (version {})",
+                        logPrefix,
+                        schemaVersion);
+                    finishSchemaRequest();
+                  } else {
+                    LOG.debug(
+                        "[{}] Initialized schema from stale snapshot (version {}, current {}), "
+                            + "refreshing in the background",
+                        logPrefix,
+                        snapshotVersion,
+                        schemaVersion);
+                    // The caller has already been notified, this refresh only updates the metadata
+                    // (and fires the corresponding events)
+                    querySchema(new CompletableFuture<>(), schemaInAgreement, schemaVersion);
+                  }
+                },
+                adminExecutor);
+      }
+    }
+
+    /**
+     * @param schemaVersion if non-null, the schema version of the control node before the queries
+     *     were issued; the rows will be saved to the snapshot with that version.
+     */
+    private void querySchema(
+        CompletableFuture<RefreshSchemaResult> refreshFuture,
+        boolean schemaInAgreement,
+        UUID schemaVersion) {
+      schemaQueriesFactory
+          .newInstance()
+          .execute()
+          .thenComposeAsync(
+              schemaRows ->
+                  parseAndApplySchemaRows(schemaRows)
+                      .thenApply(
+                          newMetadata -> {
+                            if (schemaVersion != null) {
+                              snapshotExecutor.execute(
+                                  () -> schemaSnapshotStore.save(schemaRows, schemaVersion));
+                            }
+                            return newMetadata;
+                          }),
+              adminExecutor)
+          .whenCompleteAsync(
+              (newMetadata, metadataError) -> {
+                if (metadataError != null) {
+                  refreshFuture.completeExceptionally(metadataError);
+                } else {
+                  refreshFuture.complete(new RefreshSchemaResult(newMetadata, schemaInAgreement));
+                }
+
+                firstSchemaRefreshFuture.complete(null);
+
+                finishSchemaRequest();
+              },
+              adminExecutor);
+    }
+
+    private void finishSchemaRequest() {
+      currentSchemaRefresh = null;
+      // If another refresh was enqueued during this one, run it now
+      if (queuedSchemaRefresh != null) {
+        CompletableFuture<RefreshSchemaResult> tmp = this.queuedSchemaRefresh;
+        this.queuedSchemaRefresh = null;
+        startSchemaRequest(tmp);
+      }
+    }
+
     // To query schema tables, we need the control connection.
     // Normally that the topology monitor has already initialized it to query node tables. But if a
     // custom topology monitor is in place, it might not use the control connection at all.
@@ -479,13 +622,24 @@ public class MetadataManager implements AsyncAutoCloseable {
       }
     }
 
-    private Metadata parseAndApplySchemaRows(SchemaRows schemaRows) {
+    // Parsing may be spread across the admin executors, but the result is always applied on
+    // adminExecutor.
+    private CompletionStage<Metadata> parseAndApplySchemaRows(SchemaRows schemaRows) {
       assert adminExecutor.inEventLoop();
-      SchemaRefresh schemaRefresh = schemaParserFactory.newInstance(schemaRows).parse();
-      long start = System.nanoTime();
-      apply(schemaRefresh);
-      LOG.debug("[{}] Applying schema refresh took {}", logPrefix, NanoTime.formatTimeSince(start));
-      return metadata;
+      return schemaParserFactory
+          .newInstance(schemaRows)
+          .parseAsync(context.getNettyOptions().adminEventExecutorGroup())
+          .<Metadata>thenApplyAsync(
+              schemaRefresh -> {
+                long start = System.nanoTime();
+                apply(schemaRefresh);
+                LOG.debug(
+                    "[{}] Applying schema refresh took {}",
+                    logPrefix,
+                    NanoTime.formatTimeSince(start));
+                return metadata;
+              },
+              adminExecutor);
     }
 
     private void close() {
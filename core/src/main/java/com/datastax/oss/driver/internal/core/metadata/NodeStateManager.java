@@ -30,13 +30,19 @@ import com.datastax.oss.driver.internal.core.util.concurrent.RunOrSchedule;
 import com.datastax.oss.driver.shaded.guava.common.collect.Maps;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -93,9 +99,14 @@ public class NodeStateManager implements AsyncAutoCloseable {
     private final MetadataManager metadataManager;
     private final EventBus eventBus;
     private final Debouncer<TopologyEvent, Collection<TopologyEvent>> topologyEventDebouncer;
+    private final int fullRefreshThreshold;
+    private final Duration fullRefreshInterval;
+    private ScheduledFuture<?> fullRefreshTask;
     private final CompletableFuture<Void> closeFuture = new CompletableFuture<>();
     private boolean isInitialized = false;
     private boolean closeWasCalled;
+    // Non-null while a batch of debounced topology events is being processed
+    private TopologyBatch currentBatch;
 
     private SingleThreaded(InternalDriverContext context) {
       this.metadataManager = context.getMetadataManager();
@@ -108,6 +119,12 @@ public class NodeStateManager implements AsyncAutoCloseable {
               this::flushTopologyEvents,
               config.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW),
               config.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS));
+      this.fullRefreshThreshold =
+          config.getInt(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD);
+      this.fullRefreshInterval =
+          config.isDefined(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL)
+              ? config.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL)
+              : Duration.ZERO;
 
       this.eventBus = context.getEventBus();
       this.eventBus.register(
@@ -121,6 +138,35 @@ public class NodeStateManager implements AsyncAutoCloseable {
     private void markInitialized() {
       assert adminExecutor.inEventLoop();
       isInitialized = true;
+      if (!fullRefreshInterval.isZero() && !closeWasCalled) {
+        LOG.debug(
+            "[{}] Scheduling periodic node list refresh with interval {}",
+            logPrefix,
+            fullRefreshInterval);
+        fullRefreshTask =
+            adminExecutor.scheduleWithFixedDelay(
+                this::periodicFullRefresh,
+                fullRefreshInterval.toNanos(),
+                fullRefreshInterval.toNanos(),
+                TimeUnit.NANOSECONDS);
+      }
+    }
+
+    private void periodicFullRefresh() {
+      assert adminExecutor.inEventLoop();
+      if (closeWasCalled) {
+        return;
+      }
+      LOG.debug("[{}] Periodic node list refresh", logPrefix);
+      metadataManager
+          .refreshNodes()
+          .whenComplete(
+              (v, error) -> {
+                if (error != null) {
+                  Loggers.warnWithException(
+                      LOG, "[{}] Error during periodic node list refresh", logPrefix, error);
+                }
+              });
     }
 
     // Updates to DefaultNode's volatile fields are confined to the admin thread
@@ -187,7 +233,7 @@ public class NodeStateManager implements AsyncAutoCloseable {
                 "[{}] Received UP event for unknown node {}, adding it",
                 logPrefix,
                 event.broadcastRpcAddress);
-            metadataManager.addNode(event.broadcastRpcAddress);
+            addNode(event.broadcastRpcAddress);
           }
           break;
         case SUGGEST_DOWN:
@@ -220,7 +266,7 @@ public class NodeStateManager implements AsyncAutoCloseable {
                 "[{}] Received FORCE_UP event for unknown node {}, adding it",
                 logPrefix,
                 event.broadcastRpcAddress);
-            metadataManager.addNode(event.broadcastRpcAddress);
+            addNode(event.broadcastRpcAddress);
           }
           break;
         case FORCE_DOWN:
@@ -242,12 +288,12 @@ public class NodeStateManager implements AsyncAutoCloseable {
                 logPrefix,
                 node);
           } else {
-            metadataManager.addNode(event.broadcastRpcAddress);
+            addNode(event.broadcastRpcAddress);
           }
           break;
         case SUGGEST_REMOVED:
           if (maybeNode.isPresent()) {
-            metadataManager.removeNode(event.broadcastRpcAddress);
+            removeNode(event.broadcastRpcAddress);
           } else {
             LOG.debug(
                 "[{}] Received REMOVED event for {} but it is not in our metadata, ignoring",
@@ -258,6 +304,22 @@ public class NodeStateManager implements AsyncAutoCloseable {
       }
     }
 
+    private void addNode(InetSocketAddress broadcastRpcAddress) {
+      if (currentBatch != null) {
+        currentBatch.added.add(broadcastRpcAddress);
+      } else {
+        metadataManager.addNode(broadcastRpcAddress);
+      }
+    }
+
+    private void removeNode(InetSocketAddress broadcastRpcAddress) {
+      if (currentBatch != null) {
+        currentBatch.removed.add(broadcastRpcAddress);
+      } else {
+        metadataManager.removeNode(broadcastRpcAddress);
+      }
+    }
+
     // Called by the event bus, needs debouncing
     private void onTopologyEvent(TopologyEvent event) {
       assert adminExecutor.inEventLoop();
@@ -289,9 +351,16 @@ public class NodeStateManager implements AsyncAutoCloseable {
     // Called when the debouncer flushes
     private void flushTopologyEvents(Collection<TopologyEvent> events) {
       assert adminExecutor.inEventLoop();
-      for (TopologyEvent event : events) {
-        onDebouncedTopologyEvent(event);
+      TopologyBatch batch = new TopologyBatch();
+      currentBatch = batch;
+      try {
+        for (TopologyEvent event : events) {
+          onDebouncedTopologyEvent(event);
+        }
+      } finally {
+        currentBatch = null;
       }
+      batch.apply();
     }
 
     private void close() {
@@ -301,6 +370,9 @@ public class NodeStateManager implements AsyncAutoCloseable {
       }
       closeWasCalled = true;
       topologyEventDebouncer.stop();
+      if (fullRefreshTask != null) {
+        fullRefreshTask.cancel(false);
+      }
       closeFuture.complete(null);
     }
 
@@ -326,22 +398,80 @@ public class NodeStateManager implements AsyncAutoCloseable {
         // the addition.
         if (oldState == NodeState.UNKNOWN || newState != NodeState.UP) {
           eventBus.fire(NodeStateEvent.changed(oldState, newState, node));
+        } else if (currentBatch != null) {
+          currentBatch.refreshed.add(NodeStateEvent.changed(oldState, newState, node));
         } else {
-          metadataManager
-              .refreshNode(node)
-              .whenComplete(
-                  (success, error) -> {
-                    try {
-                      if (error != null) {
-                        Loggers.warnWithException(
-                            LOG, "[{}] Error while refreshing info for {}", logPrefix, node, error);
-                      }
-                      // Fire the event whether the refresh succeeded or not
-                      eventBus.fire(NodeStateEvent.changed(oldState, newState, node));
-                    } catch (Throwable t) {
-                      Loggers.warnWithException(LOG, "[{}] Unexpected exception", logPrefix, t);
-                    }
-                  });
+          refreshAndFire(metadataManager.refreshNode(node), node, oldState, newState);
+        }
+      }
+    }
+
+    private void refreshAndFire(
+        CompletionStage<Void> refresh, DefaultNode node, NodeState oldState, NodeState newState) {
+      refresh.whenComplete(
+          (success, error) -> {
+            try {
+              if (error != null) {
+                Loggers.warnWithException(
+                    LOG, "[{}] Error while refreshing info for {}", logPrefix, node, error);
+              }
+              // Fire the event whether the refresh succeeded or not
+              eventBus.fire(NodeStateEvent.changed(oldState, newState, node));
+            } catch (Throwable t) {
+              Loggers.warnWithException(LOG, "[{}] Unexpected exception", logPrefix, t);
+            }
+          });
+    }
+
+    /**
+     * The node list changes resulting from a batch of debounced topology events.
+     *
+     * <p>If there are enough of them, they are applied with a single full node list refresh: this
+     * costs one query to the system tables, and results in one metadata update and one token map
+     * rebuild, instead of one of each per node (for example during a rolling restart).
+     */
+    private class TopologyBatch {
+      private final Set<InetSocketAddress> added = new LinkedHashSet<>();
+      private final Set<InetSocketAddress> removed = new LinkedHashSet<>();
+      // UP transitions that require a node refresh before the event is fired
+      private final List<NodeStateEvent> refreshed = new ArrayList<>();
+
+      private void apply() {
+        int changes = added.size() + removed.size() + refreshed.size();
+        if (changes == 0) {
+          return;
+        }
+        if (fullRefreshThreshold <= 0 || changes < fullRefreshThreshold) {
+          for (InetSocketAddress address : added) {
+            metadataManager.addNode(address);
+          }
+          for (InetSocketAddress address : removed) {
+            metadataManager.removeNode(address);
+          }
+          for (NodeStateEvent event : refreshed) {
+            CompletionStage<Void> refresh = metadataManager.refreshNode(event.node);
+            refreshAndFire(refresh, event.node, event.oldState, event.newState);
+          }
+        } else {
+          LOG.debug(
+              "[{}] {} node changes in topology batch ({} added, {} removed, {} up), "
+                  + "performing a single full node list refresh",
+              logPrefix,
+              changes,
+              added.size(),
+              removed.size(),
+              refreshed.size());
+          CompletionStage<Void> refresh = metadataManager.refreshNodes();
+          for (NodeStateEvent event : refreshed) {
+            refreshAndFire(refresh, event.node, event.oldState, event.newState);
+          }
+          refresh.whenComplete(
+              (v, error) -> {
+                if (error != null) {
+                  Loggers.warnWithException(
+                      LOG, "[{}] Error while refreshing node list", logPrefix, error);
+                }
+              });
         }
       }
     }
@@ -19,33 +19,55 @@ import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRequestHandler;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.pool.ChannelPool;
 import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
 import com.datastax.oss.driver.shaded.guava.common.annotations.VisibleForTesting;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import com.datastax.oss.protocol.internal.response.event.SchemaChangeEvent;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.net.InetAddress;
 import java.net.UnknownHostException;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.TimeUnit;
+import net.jcip.annotations.GuardedBy;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Polls the schema versions of the nodes until they all agree, or the timeout expires.
+ *
+ * <p>The interval between attempts grows exponentially, from {@code schema-agreement.interval} to
+ * {@code schema-agreement.max-interval}. Schema change events received by the control connection
+ * cut the current wait short, because they signal that the schema is propagating.
+ */
 @ThreadSafe
 class SchemaAgreementChecker {
 
   private static final Logger LOG = LoggerFactory.getLogger(SchemaAgreementChecker.class);
   private static final int INFINITE_PAGE_SIZE = -1;
+  private static final String LOCAL_QUERY =
+      "SELECT schema_version FROM system.local WHERE key='local'";
+  private static final String PEERS_QUERY = "SELECT host_id, schema_version FROM system.peers";
   @VisibleForTesting static final InetAddress BIND_ALL_ADDRESS;
 
   static {
@@ -60,12 +82,22 @@ class SchemaAgreementChecker {
   private final InternalDriverContext context;
   private final String logPrefix;
   private final Duration queryTimeout;
-  private final long intervalNs;
+  private final long maxIntervalNs;
   private final long timeoutNs;
   private final boolean warnOnFailure;
+  private final boolean queryNodesDirectly;
   private final long start;
   private final CompletableFuture<Boolean> result = new CompletableFuture<>();
 
+  @GuardedBy("this")
+  private long intervalNs;
+
+  @GuardedBy("this")
+  private ScheduledFuture<?> nextAttempt;
+
+  @GuardedBy("this")
+  private boolean recheckRequested;
+
   SchemaAgreementChecker(DriverChannel channel, InternalDriverContext context, String logPrefix) {
     this.channel = channel;
     this.context = context;
@@ -74,9 +106,17 @@ class SchemaAgreementChecker {
     this.queryTimeout = config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_TIMEOUT);
     this.intervalNs =
         config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL).toNanos();
+    this.maxIntervalNs =
+        Math.max(
+            intervalNs,
+            config
+                .getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL)
+                .toNanos());
     this.timeoutNs =
         config.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT).toNanos();
     this.warnOnFailure = config.getBoolean(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_WARN);
+    this.queryNodesDirectly =
+        config.getBoolean(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_QUERY_NODES);
     this.start = System.nanoTime();
   }
 
@@ -85,11 +125,32 @@ class SchemaAgreementChecker {
     if (timeoutNs == 0) {
       result.complete(false);
     } else {
+      EventBus eventBus = context.getEventBus();
+      Object key = eventBus.register(SchemaChangeEvent.class, this::onSchemaChange);
+      result.whenComplete((agreement, error) -> eventBus.unregister(key, SchemaChangeEvent.class));
       sendQueries();
     }
     return result;
   }
 
+  private void onSchemaChange(SchemaChangeEvent event) {
+    boolean recheckNow;
+    synchronized (this) {
+      if (nextAttempt != null && nextAttempt.cancel(false)) {
+        nextAttempt = null;
+        recheckNow = true;
+      } else {
+        // An attempt is in progress, make sure the next one is not delayed
+        recheckRequested = true;
+        recheckNow = false;
+      }
+    }
+    if (recheckNow && !result.isDone()) {
+      LOG.debug("[{}] Received schema change event, checking schema agreement now", logPrefix);
+      sendQueries();
+    }
+  }
+
   private void sendQueries() {
     long elapsedNs = System.nanoTime() - start;
     if (elapsedNs > timeoutNs) {
@@ -103,18 +164,75 @@ class SchemaAgreementChecker {
       }
       result.complete(false);
     } else {
-      CompletionStage<AdminResult> localQuery =
-          query("SELECT schema_version FROM system.local WHERE key='local'");
-      CompletionStage<AdminResult> peersQuery =
-          query("SELECT host_id, schema_version FROM system.peers");
+      CompletionStage<AdminResult> localQuery = query(LOCAL_QUERY);
+      CompletionStage<AdminResult> peersQuery = query(PEERS_QUERY);
+      CompletionStage<Map<UUID, UUID>> nodeQueries =
+          queryNodesDirectly
+              ? queryNodes()
+              : CompletableFuture.completedFuture(Collections.emptyMap());
 
-      localQuery
-          .thenCombine(peersQuery, this::extractSchemaVersions)
+      nodeQueries
+          .thenCompose(
+              directVersions ->
+                  localQuery.thenCombine(
+                      peersQuery,
+                      (controlNodeResult, peersResult) ->
+                          extractSchemaVersions(controlNodeResult, peersResult, directVersions)))
           .whenComplete(this::completeOrReschedule);
     }
   }
 
-  private Set<UUID> extractSchemaVersions(AdminResult controlNodeResult, AdminResult peersResult) {
+  /**
+   * Queries {@code system.local} on every other node that is UP and has an active pool, in
+   * parallel.
+   *
+   * @return the schema versions that could be fetched, indexed by host id. Nodes that could not be
+   *     queried are omitted; their version from {@code system.peers} will be used instead.
+   */
+  private CompletionStage<Map<UUID, UUID>> queryNodes() {
+    Map<UUID, CompletionStage<AdminResult>> queries = new LinkedHashMap<>();
+    for (Map.Entry<Node, ChannelPool> entry : context.getPoolManager().getPools().entrySet()) {
+      Node node = entry.getKey();
+      UUID hostId = node.getHostId();
+      if (hostId == null
+          || node.getState() != NodeState.UP
+          || node.getEndPoint().equals(channel.getEndPoint())) {
+        continue;
+      }
+      DriverChannel nodeChannel = entry.getValue().next();
+      if (nodeChannel != null) {
+        queries.put(hostId, query(nodeChannel, LOCAL_QUERY));
+      }
+    }
+    List<CompletionStage<AdminResult>> futures = new ArrayList<>(queries.values());
+    return CompletableFutures.allDone(futures)
+        .thenApply(
+            v -> {
+              ImmutableMap.Builder<UUID, UUID> versions = ImmutableMap.builder();
+              for (Map.Entry<UUID, CompletionStage<AdminResult>> entry : queries.entrySet()) {
+                UUID hostId = entry.getKey();
+                CompletableFuture<AdminResult> future = entry.getValue().toCompletableFuture();
+                if (future.isCompletedExceptionally()) {
+                  LOG.debug(
+                      "[{}] Error while querying schema version of {}, "
+                          + "falling back to system.peers",
+                      logPrefix,
+                      hostId);
+                  continue;
+                }
+                Iterator<AdminRow> iterator = CompletableFutures.getCompleted(future).iterator();
+                UUID schemaVersion =
+                    iterator.hasNext() ? iterator.next().getUuid("schema_version") : null;
+                if (schemaVersion != null) {
+                  versions.put(hostId, schemaVersion);
+                }
+              }
+              return versions.build();
+            });
+  }
+
+  private Set<UUID> extractSchemaVersions(
+      AdminResult controlNodeResult, AdminResult peersResult, Map<UUID, UUID> directVersions) {
     // Gather the versions of all the nodes that are UP
     ImmutableSet.Builder<UUID> schemaVersions = ImmutableSet.builder();
 
@@ -149,7 +267,10 @@ class SchemaAgreementChecker {
             logPrefix);
         continue;
       }
-      UUID schemaVersion = peerRow.getUuid("schema_version");
+      UUID schemaVersion = directVersions.get(hostId);
+      if (schemaVersion == null) {
+        schemaVersion = peerRow.getUuid("schema_version");
+      }
       if (schemaVersion == null) {
         LOG.warn(
             "[{}] Missing schema_version in system.peers row for {}, "
@@ -177,32 +298,56 @@ class SchemaAgreementChecker {
           "[{}] Error while checking schema agreement, completing now (false)", logPrefix, error);
       result.complete(false);
     } else if (uuids.size() == 1) {
+      long elapsedNs = System.nanoTime() - start;
       LOG.debug(
-          "[{}] Schema agreement reached ({}), completing", logPrefix, uuids.iterator().next());
+          "[{}] Schema agreement reached ({}) after {}, completing",
+          logPrefix,
+          uuids.iterator().next(),
+          NanoTime.format(elapsedNs));
+      context
+          .getMetricsFactory()
+          .getSessionUpdater()
+          .updateTimer(
+              DefaultSessionMetric.SCHEMA_AGREEMENT, null, elapsedNs, TimeUnit.NANOSECONDS);
       result.complete(true);
     } else {
-      LOG.debug(
-          "[{}] Schema agreement not reached yet ({}), rescheduling in {}",
-          logPrefix,
-          uuids,
-          NanoTime.format(intervalNs));
-      channel
-          .eventLoop()
-          .schedule(this::sendQueries, intervalNs, TimeUnit.NANOSECONDS)
-          .addListener(
-              f -> {
-                if (!f.isSuccess()) {
-                  LOG.debug(
-                      "[{}] Error while rescheduling schema agreement, completing now (false)",
-                      logPrefix,
-                      f.cause());
-                }
-              });
+      synchronized (this) {
+        long delayNs;
+        if (recheckRequested) {
+          recheckRequested = false;
+          delayNs = 0;
+        } else {
+          delayNs = intervalNs;
+          intervalNs = Math.min(intervalNs * 2, maxIntervalNs);
+        }
+        LOG.debug(
+            "[{}] Schema agreement not reached yet ({}), rescheduling in {}",
+            logPrefix,
+            uuids,
+            NanoTime.format(delayNs));
+        nextAttempt =
+            channel.eventLoop().schedule(this::sendQueries, delayNs, TimeUnit.NANOSECONDS);
+        nextAttempt.addListener(
+            f -> {
+              if (!f.isSuccess() && !f.isCancelled()) {
+                LOG.debug(
+                    "[{}] Error while rescheduling schema agreement, completing now (false)",
+                    logPrefix,
+                    f.cause());
+                result.complete(false);
+              }
+            });
+      }
     }
   }
 
   @VisibleForTesting
   protected CompletionStage<AdminResult> query(String queryString) {
+    return query(channel, queryString);
+  }
+
+  @VisibleForTesting
+  protected CompletionStage<AdminResult> query(DriverChannel channel, String queryString) {
     return AdminRequestHandler.query(
             channel, queryString, queryTimeout, INFINITE_PAGE_SIZE, logPrefix)
         .start();
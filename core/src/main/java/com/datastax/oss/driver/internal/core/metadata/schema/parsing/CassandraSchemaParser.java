@@ -31,8 +31,10 @@ import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefre
 import com.datastax.oss.driver.internal.core.util.NanoTime;
 import com.datastax.oss.driver.shaded.guava.common.base.MoreObjects;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import io.netty.util.concurrent.EventExecutorGroup;
 import java.util.Collections;
 import java.util.Map;
+import java.util.concurrent.CompletionStage;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -84,6 +86,12 @@ public class CassandraSchemaParser implements SchemaParser {
     return refresh;
   }
 
+  @Override
+  public CompletionStage<SchemaRefresh> parseAsync(EventExecutorGroup executors) {
+    return ParallelKeyspaceParser.parse(
+        rows, this::parseKeyspace, this::parseVirtualKeyspace, executors, logPrefix, startTimeNs);
+  }
+
   private KeyspaceMetadata parseKeyspace(AdminRow keyspaceRow) {
 
     // Cassandra <= 2.2
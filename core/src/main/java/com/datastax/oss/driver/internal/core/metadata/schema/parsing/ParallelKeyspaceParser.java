@@ -0,0 +1,89 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
+import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
+import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Parses keyspaces in parallel, as independent tasks spread across an executor group.
+ *
+ * <p>This is shared by the schema parser implementations for {@link
+ * SchemaParser#parseAsync(EventExecutorGroup)}. Keyspaces are independent from each other, and the
+ * rows are already grouped by keyspace, so each task only reads its own subset.
+ */
+public class ParallelKeyspaceParser {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ParallelKeyspaceParser.class);
+
+  /**
+   * @param keyspaceParser parses a row of {@link SchemaRows#keyspaces()}.
+   * @param virtualKeyspaceParser parses a row of {@link SchemaRows#virtualKeyspaces()}.
+   * @param startTimeNs when the parser was created, for logging purposes.
+   * @return a stage that completes with the keyspaces, in the same order as the rows.
+   */
+  public static CompletionStage<SchemaRefresh> parse(
+      SchemaRows rows,
+      Function<AdminRow, ? extends KeyspaceMetadata> keyspaceParser,
+      Function<AdminRow, ? extends KeyspaceMetadata> virtualKeyspaceParser,
+      EventExecutorGroup executors,
+      String logPrefix,
+      long startTimeNs) {
+    List<CompletionStage<KeyspaceMetadata>> futures = new ArrayList<>();
+    for (AdminRow row : rows.keyspaces()) {
+      futures.add(
+          CompletableFuture.supplyAsync(() -> keyspaceParser.apply(row), executors.next()));
+    }
+    for (AdminRow row : rows.virtualKeyspaces()) {
+      futures.add(
+          CompletableFuture.supplyAsync(
+              () -> virtualKeyspaceParser.apply(row), executors.next()));
+    }
+    return CompletableFutures.allSuccessful(futures)
+        .thenApply(
+            v -> {
+              ImmutableMap.Builder<CqlIdentifier, KeyspaceMetadata> keyspacesBuilder =
+                  ImmutableMap.builder();
+              for (CompletionStage<KeyspaceMetadata> future : futures) {
+                KeyspaceMetadata keyspace = CompletableFutures.getCompleted(future);
+                keyspacesBuilder.put(keyspace.getName(), keyspace);
+              }
+              SchemaRefresh refresh = new SchemaRefresh(keyspacesBuilder.build());
+              LOG.debug(
+                  "[{}] Schema parsing took {} ({} keyspaces in parallel)",
+                  logPrefix,
+                  NanoTime.formatTimeSince(startTimeNs),
+                  futures.size());
+              return refresh;
+            });
+  }
+
+  private ParallelKeyspaceParser() {}
+}
@@ -17,6 +17,9 @@ package com.datastax.oss.driver.internal.core.metadata.schema.parsing;
 
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.util.concurrent.CompletionStage;
 
 /**
  * The main entry point for system schema rows parsing.
@@ -32,4 +35,17 @@ public interface SchemaParser {
    * @see SchemaParserFactory#newInstance(SchemaRows)
    */
   SchemaRefresh parse();
+
+  /**
+   * Same as {@link #parse()}, but allows implementations to split the work into independent tasks
+   * (typically one per keyspace) and run them concurrently on the given executors.
+   *
+   * <p>Implementations must not block while waiting for those tasks: the caller might be running on
+   * one of the executors.
+   *
+   * <p>The default implementation simply invokes {@link #parse()} on the calling thread.
+   */
+  default CompletionStage<SchemaRefresh> parseAsync(EventExecutorGroup executors) {
+    return CompletableFutures.wrap(this::parse);
+  }
 }
@@ -0,0 +1,425 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.queries;
+
+import com.datastax.dse.driver.api.core.metadata.DseNodeProperties;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRequestHandler;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
+import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.protocol.ByteBufPrimitiveCodec;
+import com.datastax.oss.driver.internal.core.util.Loggers;
+import com.datastax.oss.driver.internal.core.util.NanoTime;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.driver.shaded.guava.common.collect.Iterables;
+import com.datastax.oss.driver.shaded.guava.common.collect.Multimap;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.buffer.UnpooledByteBufAllocator;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Persists the rows returned by the schema queries to a local file, so that a new session can
+ * build its initial schema metadata without querying the system tables.
+ *
+ * <p>The rows are stored exactly as the server returned them (column metadata and encoded values).
+ * When loading, the file is memory-mapped and the values are exposed as slices of the mapping, so
+ * they are not copied before being parsed.
+ *
+ * <p>Each snapshot is tagged with the schema version of the control node at the time of the
+ * queries. It is up to the caller to compare it with the current version, and to fall back to a
+ * regular refresh if they differ.
+ *
+ * <p>Each snapshot is also tagged with the keyspace filter ({@code
+ * advanced.metadata.schema.refreshed-keyspaces}) that was in effect when it was taken: a snapshot
+ * produced with a different filter contains a different set of keyspaces, so it is ignored.
+ */
+@ThreadSafe
+public class SchemaSnapshotStore {
+
+  private static final Logger LOG = LoggerFactory.getLogger(SchemaSnapshotStore.class);
+
+  private static final int MAGIC = 0x43534e50; // "CSNP"
+  private static final int FORMAT_VERSION = 1;
+  private static final byte END_OF_ROWS = -1;
+  private static final int INFINITE_PAGE_SIZE = -1;
+  private static final ByteBufPrimitiveCodec CODEC =
+      new ByteBufPrimitiveCodec(UnpooledByteBufAllocator.DEFAULT);
+
+  private final InternalDriverContext context;
+  private final Path path;
+  private final String logPrefix;
+  private final Duration timeout;
+
+  public SchemaSnapshotStore(InternalDriverContext context, Path path) {
+    this.context = context;
+    this.path = path.toAbsolutePath();
+    this.logPrefix = context.getSessionName();
+    this.timeout =
+        context
+            .getConfig()
+            .getDefaultProfile()
+            .getDuration(DefaultDriverOption.METADATA_SCHEMA_REQUEST_TIMEOUT);
+  }
+
+  public Path getPath() {
+    return path;
+  }
+
+  /** Queries the current schema version of the control node. */
+  public CompletionStage<UUID> fetchSchemaVersion() {
+    DriverChannel channel = context.getControlConnection().channel();
+    if (channel == null || channel.closeFuture().isDone()) {
+      return CompletableFutures.failedFuture(
+          new IllegalStateException("Control channel not available, can't check schema version"));
+    }
+    return AdminRequestHandler.query(
+            channel,
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            timeout,
+            INFINITE_PAGE_SIZE,
+            logPrefix)
+        .start()
+        .thenApply(
+            result -> {
+              Iterator<AdminRow> iterator = result.iterator();
+              return iterator.hasNext() ? iterator.next().getUuid("schema_version") : null;
+            });
+  }
+
+  /**
+   * Loads the snapshot, if there is one and it was produced by a node running the same server
+   * version as {@code node}.
+   *
+   * <p>This never throws: if the file is missing or can't be read, the error is logged and an empty
+   * result is returned.
+   */
+  public Optional<Snapshot> load(Node node) {
+    long start = System.nanoTime();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      // The mapping remains valid after the channel is closed
+      MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+      ByteBuf in = Unpooled.wrappedBuffer(mapped);
+
+      if (in.readableBytes() < 8 || in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+        LOG.warn("[{}] Ignoring schema snapshot {}: unknown format", logPrefix, path);
+        return Optional.empty();
+      }
+      int protocolCode = in.readInt();
+      String serverVersion = readString(in);
+      if (!serverVersion.equals(serverVersion(node))) {
+        LOG.debug(
+            "[{}] Ignoring schema snapshot {}: it was taken on server version {}, "
+                + "but control node {} runs {}",
+            logPrefix,
+            path,
+            serverVersion,
+            node,
+            serverVersion(node));
+        return Optional.empty();
+      }
+      String filter = readString(in);
+      String keyspaceFilter = keyspaceFilter();
+      if (!filter.equals(keyspaceFilter)) {
+        LOG.debug(
+            "[{}] Ignoring schema snapshot {}: it was taken with keyspace filter [{}], "
+                + "but the current filter is [{}]",
+            logPrefix,
+            path,
+            filter,
+            keyspaceFilter);
+        return Optional.empty();
+      }
+      UUID schemaVersion = new UUID(in.readLong(), in.readLong());
+
+      ProtocolVersion protocolVersion = context.getProtocolVersion();
+      CassandraSchemaRows.Builder builder = new CassandraSchemaRows.Builder(node, logPrefix);
+      byte categoryId;
+      while ((categoryId = in.readByte()) != END_OF_ROWS) {
+        Category category = Category.values()[categoryId];
+
+        int specCount = in.readInt();
+        ImmutableMap.Builder<String, ColumnSpec> specsBuilder = ImmutableMap.builder();
+        for (int i = 0; i < specCount; i++) {
+          String keyspace = readString(in);
+          String table = readString(in);
+          String name = readString(in);
+          int index = in.readInt();
+          RawType type = RawType.decode(in, CODEC, protocolCode);
+          specsBuilder.put(name, new ColumnSpec(keyspace, table, name, index, type));
+        }
+        Map<String, ColumnSpec> columnSpecs = specsBuilder.build();
+
+        int rowCount = in.readInt();
+        List<AdminRow> rows = new ArrayList<>(rowCount);
+        for (int i = 0; i < rowCount; i++) {
+          int valueCount = in.readInt();
+          List<ByteBuffer> data = new ArrayList<>(valueCount);
+          for (int j = 0; j < valueCount; j++) {
+            int length = in.readInt();
+            if (length < 0) {
+              data.add(null);
+            } else {
+              data.add(in.nioBuffer(in.readerIndex(), length));
+              in.skipBytes(length);
+            }
+          }
+          rows.add(new AdminRow(columnSpecs, data, protocolVersion));
+        }
+        category.loader.apply(builder, rows);
+      }
+      LOG.debug(
+          "[{}] Loaded schema snapshot {} (version {}) in {}",
+          logPrefix,
+          path,
+          schemaVersion,
+          NanoTime.formatTimeSince(start));
+      return Optional.of(new Snapshot(schemaVersion, builder.build()));
+    } catch (NoSuchFileException e) {
+      LOG.debug("[{}] No schema snapshot found at {}", logPrefix, path);
+      return Optional.empty();
+    } catch (Throwable t) {
+      Loggers.warnWithException(
+          LOG, "[{}] Error while loading schema snapshot {}, ignoring it", logPrefix, path, t);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Saves the given rows, replacing the previous snapshot if there was one.
+   *
+   * <p>The file is written under a temporary name, and then atomically moved, so that other
+   * processes sharing the same location never observe a partial snapshot.
+   *
+   * <p>This never throws: if the file can't be written, the error is logged.
+   */
+  public void save(SchemaRows rows, UUID schemaVersion) {
+    long start = System.nanoTime();
+    int protocolCode = context.getProtocolVersion().getCode();
+    ByteBuf out = Unpooled.buffer();
+    Path tmp = null;
+    try {
+      out.writeInt(MAGIC);
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(protocolCode);
+      writeString(serverVersion(rows.getNode()), out);
+      writeString(keyspaceFilter(), out);
+      out.writeLong(schemaVersion.getMostSignificantBits());
+      out.writeLong(schemaVersion.getLeastSignificantBits());
+      for (Category category : Category.values()) {
+        writeRows(category, category.extractor.apply(rows), protocolCode, out);
+      }
+      out.writeByte(END_OF_ROWS);
+
+      Path directory = path.getParent();
+      Files.createDirectories(directory);
+      tmp = Files.createTempFile(directory, path.getFileName().toString(), ".tmp");
+      try (FileChannel channel = FileChannel.open(tmp, StandardOpenOption.WRITE)) {
+        ByteBuffer bytes = out.nioBuffer();
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+      }
+      Files.move(tmp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+      tmp = null;
+      LOG.debug(
+          "[{}] Saved schema snapshot {} (version {}, {} bytes) in {}",
+          logPrefix,
+          path,
+          schemaVersion,
+          out.writerIndex(),
+          NanoTime.formatTimeSince(start));
+    } catch (Throwable t) {
+      Loggers.warnWithException(
+          LOG, "[{}] Error while saving schema snapshot {}", logPrefix, path, t);
+    } finally {
+      out.release();
+      if (tmp != null) {
+        try {
+          Files.deleteIfExists(tmp);
+        } catch (Throwable t) {
+          LOG.debug("[{}] Error while deleting temporary file {}", logPrefix, tmp, t);
+        }
+      }
+    }
+  }
+
+  private static void writeRows(
+      Category category, Iterable<AdminRow> rows, int protocolCode, ByteBuf out) {
+    // All the rows of a given page share the same column specs: write them once per block.
+    Map<String, ColumnSpec> currentSpecs = null;
+    List<AdminRow> block = new ArrayList<>();
+    for (AdminRow row : rows) {
+      if (row.getColumnSpecs() != currentSpecs && !block.isEmpty()) {
+        writeBlock(category, block, protocolCode, out);
+        block.clear();
+      }
+      currentSpecs = row.getColumnSpecs();
+      block.add(row);
+    }
+    if (!block.isEmpty()) {
+      writeBlock(category, block, protocolCode, out);
+    }
+  }
+
+  private static void writeBlock(
+      Category category, List<AdminRow> rows, int protocolCode, ByteBuf out) {
+    out.writeByte(category.ordinal());
+    Map<String, ColumnSpec> columnSpecs = rows.get(0).getColumnSpecs();
+    out.writeInt(columnSpecs.size());
+    for (ColumnSpec spec : columnSpecs.values()) {
+      writeString(spec.ksName, out);
+      writeString(spec.tableName, out);
+      writeString(spec.name, out);
+      out.writeInt(spec.index);
+      spec.type.encode(out, CODEC, protocolCode);
+    }
+    out.writeInt(rows.size());
+    for (AdminRow row : rows) {
+      List<ByteBuffer> data = row.getRawData();
+      out.writeInt(data.size());
+      for (ByteBuffer value : data) {
+        if (value == null) {
+          out.writeInt(-1);
+        } else {
+          out.writeInt(value.remaining());
+          out.writeBytes(value.duplicate());
+        }
+      }
+    }
+  }
+
+  private static void writeString(String s, ByteBuf out) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.writeBytes(bytes);
+  }
+
+  private static String readString(ByteBuf in) {
+    int length = in.readInt();
+    String s = in.toString(in.readerIndex(), length, StandardCharsets.UTF_8);
+    in.skipBytes(length);
+    return s;
+  }
+
+  private static String serverVersion(Node node) {
+    // The layout of the schema tables depends on the server version, only reuse a snapshot if it
+    // was produced by the same version.
+    return node.getCassandraVersion() + "/" + node.getExtras().get(DseNodeProperties.DSE_VERSION);
+  }
+
+  private String keyspaceFilter() {
+    // The filter is applied in the schema queries, so it determines which keyspaces the snapshot
+    // contains. The order of the elements does not matter.
+    DriverExecutionProfile config = context.getConfig().getDefaultProfile();
+    if (!config.isDefined(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES)) {
+      return "";
+    }
+    List<String> keyspaces =
+        new ArrayList<>(
+            config.getStringList(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES));
+    Collections.sort(keyspaces);
+    return String.join(",", keyspaces);
+  }
+
+  private static <K1, K2, V> Iterable<V> flatten(Map<K1, Multimap<K2, V>> map) {
+    return Iterables.concat(Iterables.transform(map.values(), Multimap::values));
+  }
+
+  @Immutable
+  public static class Snapshot {
+    private final UUID schemaVersion;
+    private final SchemaRows rows;
+
+    public Snapshot(UUID schemaVersion, SchemaRows rows) {
+      this.schemaVersion = schemaVersion;
+      this.rows = rows;
+    }
+
+    /** The schema version of the control node when the snapshot was taken. */
+    public UUID getSchemaVersion() {
+      return schemaVersion;
+    }
+
+    public SchemaRows getRows() {
+      return rows;
+    }
+  }
+
+  // Note: the ordinals are persisted, only append new values at the end.
+  private enum Category {
+    KEYSPACES(SchemaRows::keyspaces, CassandraSchemaRows.Builder::withKeyspaces),
+    VIRTUAL_KEYSPACES(
+        SchemaRows::virtualKeyspaces, CassandraSchemaRows.Builder::withVirtualKeyspaces),
+    TABLES(rows -> rows.tables().values(), CassandraSchemaRows.Builder::withTables),
+    VIRTUAL_TABLES(
+        rows -> rows.virtualTables().values(), CassandraSchemaRows.Builder::withVirtualTables),
+    VIEWS(rows -> rows.views().values(), CassandraSchemaRows.Builder::withViews),
+    TYPES(rows -> rows.types().values(), CassandraSchemaRows.Builder::withTypes),
+    FUNCTIONS(rows -> rows.functions().values(), CassandraSchemaRows.Builder::withFunctions),
+    AGGREGATES(rows -> rows.aggregates().values(), CassandraSchemaRows.Builder::withAggregates),
+    COLUMNS(rows -> flatten(rows.columns()), CassandraSchemaRows.Builder::withColumns),
+    VIRTUAL_COLUMNS(
+        rows -> flatten(rows.virtualColumns()), CassandraSchemaRows.Builder::withVirtualColumns),
+    INDEXES(rows -> flatten(rows.indexes()), CassandraSchemaRows.Builder::withIndexes),
+    VERTICES(rows -> flatten(rows.vertices()), CassandraSchemaRows.Builder::withVertices),
+    EDGES(rows -> flatten(rows.edges()), CassandraSchemaRows.Builder::withEdges),
+    ;
+
+    private final Function<SchemaRows, Iterable<AdminRow>> extractor;
+    private final BiFunction<
+            CassandraSchemaRows.Builder, Iterable<AdminRow>, CassandraSchemaRows.Builder>
+        loader;
+
+    Category(
+        Function<SchemaRows, Iterable<AdminRow>> extractor,
+        BiFunction<CassandraSchemaRows.Builder, Iterable<AdminRow>, CassandraSchemaRows.Builder>
+            loader) {
+      this.extractor = extractor;
+      this.loader = loader;
+    }
+  }
+}
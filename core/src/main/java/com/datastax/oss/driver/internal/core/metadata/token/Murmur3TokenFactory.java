@@ -29,6 +29,12 @@ public class Murmur3TokenFactory implements TokenFactory {
   public static final Murmur3Token MIN_TOKEN = new Murmur3Token(Long.MIN_VALUE);
   public static final Murmur3Token MAX_TOKEN = new Murmur3Token(Long.MAX_VALUE);
 
+  // Composite partition keys larger than this are assembled in a one-off buffer, to avoid
+  // retaining large buffers in every thread.
+  private static final int MAX_SCRATCH_SIZE = 1024;
+  private static final ThreadLocal<ByteBuffer> SCRATCH =
+      ThreadLocal.withInitial(() -> ByteBuffer.allocate(128));
+
   @Override
   public String getPartitionerName() {
     return PARTITIONER_NAME;
@@ -40,6 +46,52 @@ public class Murmur3TokenFactory implements TokenFactory {
     return new Murmur3Token(v == Long.MIN_VALUE ? Long.MAX_VALUE : v);
   }
 
+  /**
+   * Computes the token of a partition key, given the values of its components.
+   *
+   * <p>This is equivalent to {@code hash(RoutingKey.compose(components))}, but it doesn't allocate
+   * a new buffer for the composite key: it is assembled in a buffer that is reused by each thread.
+   * This is meant to be called on the hot path, by the load balancing policy.
+   *
+   * @param values the values of all the variables of a bound statement.
+   * @param indices the indices of the partition key components in {@code values}. There must be at
+   *     least one, and the corresponding values must not be null.
+   */
+  public Token hash(ByteBuffer[] values, int[] indices) {
+    if (indices.length == 1) {
+      return hash(values[indices[0]]);
+    }
+    int totalLength = 0;
+    for (int index : indices) {
+      totalLength += 2 + values[index].remaining() + 1;
+    }
+    ByteBuffer composite;
+    if (totalLength > MAX_SCRATCH_SIZE) {
+      composite = ByteBuffer.allocate(totalLength);
+    } else {
+      composite = SCRATCH.get();
+      if (composite.capacity() < totalLength) {
+        composite = ByteBuffer.allocate(Math.max(totalLength, composite.capacity() * 2));
+        SCRATCH.set(composite);
+      }
+      composite.clear();
+    }
+    for (int index : indices) {
+      ByteBuffer value = values[index];
+      int length = value.remaining();
+      composite.put((byte) ((length >> 8) & 0xFF));
+      composite.put((byte) (length & 0xFF));
+      if (value.hasArray()) {
+        composite.put(value.array(), value.arrayOffset() + value.position(), length);
+      } else {
+        composite.put(value.duplicate());
+      }
+      composite.put((byte) 0);
+    }
+    composite.flip();
+    return hash(composite);
+  }
+
   @Override
   public Token parse(String tokenString) {
     return new Murmur3Token(Long.parseLong(tokenString));
@@ -31,8 +31,10 @@ import com.datastax.oss.driver.internal.core.session.RequestProcessor;
 import com.datastax.oss.driver.internal.core.session.throttling.ConcurrencyLimitingRequestThrottler;
 import com.datastax.oss.driver.internal.core.session.throttling.RateLimitingRequestThrottler;
 import com.datastax.oss.driver.shaded.guava.common.cache.Cache;
+import com.datastax.oss.driver.shaded.guava.common.cache.CacheStats;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Set;
+import java.util.function.Function;
 import net.jcip.annotations.ThreadSafe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +91,21 @@ public class DropwizardSessionMetricUpdater extends DropwizardMetricUpdater<Sess
             return gauge;
           });
     }
+    if (enabledMetrics.contains(DefaultSessionMetric.CQL_PREPARED_CACHE_HITS)) {
+      this.registry.gauge(
+          buildFullName(DefaultSessionMetric.CQL_PREPARED_CACHE_HITS, null),
+          () -> buildCacheStatsGauge(context, CacheStats::hitCount));
+    }
+    if (enabledMetrics.contains(DefaultSessionMetric.CQL_PREPARED_CACHE_MISSES)) {
+      this.registry.gauge(
+          buildFullName(DefaultSessionMetric.CQL_PREPARED_CACHE_MISSES, null),
+          () -> buildCacheStatsGauge(context, CacheStats::missCount));
+    }
+    if (enabledMetrics.contains(DefaultSessionMetric.CQL_PREPARED_CACHE_EVICTIONS)) {
+      this.registry.gauge(
+          buildFullName(DefaultSessionMetric.CQL_PREPARED_CACHE_EVICTIONS, null),
+          () -> buildCacheStatsGauge(context, CacheStats::evictionCount));
+    }
     initializeHdrTimer(
         DefaultSessionMetric.CQL_REQUESTS,
         context.getConfig().getDefaultProfile(),
@@ -103,6 +120,16 @@ public class DropwizardSessionMetricUpdater extends DropwizardMetricUpdater<Sess
         DefaultDriverOption.METRICS_SESSION_THROTTLING_DIGITS,
         DefaultDriverOption.METRICS_SESSION_THROTTLING_INTERVAL);
     initializeDefaultCounter(DefaultSessionMetric.THROTTLING_ERRORS, null);
+    initializeDefaultCounter(DefaultSessionMetric.PREPARE_ON_ALL_NODES_PENDING, null);
+    initializeDefaultCounter(DefaultSessionMetric.PREPARE_ON_ALL_NODES_ERRORS, null);
+    initializeDefaultCounter(DefaultSessionMetric.REPREPARE_ON_UP_PENDING, null);
+    initializeDefaultCounter(DefaultSessionMetric.REPREPARE_ON_UP_ERRORS, null);
+    initializeHdrTimer(
+        DefaultSessionMetric.SCHEMA_AGREEMENT,
+        context.getConfig().getDefaultProfile(),
+        DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_HIGHEST,
+        DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_DIGITS,
+        DefaultDriverOption.METRICS_SESSION_SCHEMA_AGREEMENT_INTERVAL);
     initializeHdrTimer(
         DseSessionMetric.CONTINUOUS_CQL_REQUESTS,
         context.getConfig().getDefaultProfile(),
@@ -138,6 +165,12 @@ public class DropwizardSessionMetricUpdater extends DropwizardMetricUpdater<Sess
     }
   }
 
+  private static Gauge<Long> buildCacheStatsGauge(
+      InternalDriverContext context, Function<CacheStats, Long> extractor) {
+    Cache<?, ?> cache = getPreparedStatementCache(context);
+    return (cache == null) ? () -> 0L : () -> extractor.apply(cache.stats());
+  }
+
   @Nullable
   private static Cache<?, ?> getPreparedStatementCache(InternalDriverContext context) {
     // By default, both the sync processor and the async one are registered and they share the same
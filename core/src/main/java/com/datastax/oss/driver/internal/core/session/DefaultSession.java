@@ -32,6 +32,8 @@ import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.context.LifecycleListener;
+import com.datastax.oss.driver.internal.core.cql.CqlPrepareAsyncProcessor;
+import com.datastax.oss.driver.internal.core.cql.PreparedStatementStore;
 import com.datastax.oss.driver.internal.core.metadata.MetadataManager;
 import com.datastax.oss.driver.internal.core.metadata.MetadataManager.RefreshSchemaResult;
 import com.datastax.oss.driver.internal.core.metadata.NodeStateEvent;
@@ -443,6 +445,20 @@ public class DefaultSession implements CqlSession {
         nodeStateManager.markInitialized();
         context.getLoadBalancingPolicyWrapper().init();
         context.getConfigLoader().onDriverInit(context);
+        loadPreparedStatementStores()
+            .whenCompleteAsync(
+                (v, error) -> afterPreparedStatementStoresLoaded(keyspace), adminExecutor);
+      } catch (Throwable throwable) {
+        forceCloseAsync()
+            .whenComplete(
+                (v, error) -> {
+                  initFuture.completeExceptionally(throwable);
+                });
+      }
+    }
+
+    private void afterPreparedStatementStoresLoaded(CqlIdentifier keyspace) {
+      try {
         LOG.debug("[{}] Initialization complete, ready", logPrefix);
         poolManager
             .init(keyspace)
@@ -464,6 +480,27 @@ public class DefaultSession implements CqlSession {
       }
     }
 
+    // Done here rather than on the first prepare, because that might happen on a driver I/O thread.
+    // The loading itself reads a file, so it runs on the blocking executor rather than the admin
+    // thread (it never fails, see PreparedStatementStore.load).
+    private CompletionStage<Void> loadPreparedStatementStores() {
+      List<PreparedStatementStore> stores = new ArrayList<>();
+      for (RequestProcessor<?, ?> processor : processorRegistry.getProcessors()) {
+        if (processor instanceof CqlPrepareAsyncProcessor) {
+          PreparedStatementStore store = ((CqlPrepareAsyncProcessor) processor).getStore();
+          if (store != null) {
+            stores.add(store);
+          }
+        }
+      }
+      if (stores.isEmpty()) {
+        return CompletableFuture.completedFuture(null);
+      }
+      return CompletableFuture.runAsync(
+          () -> stores.forEach(PreparedStatementStore::load),
+          context.getNettyOptions().blockingEventExecutorGroup());
+    }
+
     private void notifyListeners() {
       for (LifecycleListener lifecycleListener : context.getLifecycleListeners()) {
         try {
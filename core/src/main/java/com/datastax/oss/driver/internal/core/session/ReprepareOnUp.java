@@ -18,6 +18,7 @@ package com.datastax.oss.driver.internal.core.session;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverConfig;
 import com.datastax.oss.driver.api.core.connection.BusyConnectionException;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.api.core.session.throttling.RequestThrottler;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
@@ -38,8 +39,11 @@ import io.netty.util.concurrent.EventExecutor;
 import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.ArrayDeque;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
@@ -56,6 +60,10 @@ import org.slf4j.LoggerFactory;
  * prepare request fail, we ignore the error because it will be retried on the fly (see {@link
  * CqlRequestHandler}).
  *
+ * <p>Statements are reprepared in decreasing order of usage (see {@link
+ * RepreparePayload#getExecutionCount()}). The node can be declared ready before all of them are
+ * done, so that it doesn't wait for rarely used statements.
+ *
  * <p>Logically this code belongs to {@link DefaultSession}, but it was extracted for modularity and
  * testability.
  */
@@ -74,6 +82,7 @@ class ReprepareOnUp {
   private final boolean checkSystemTable;
   private final int maxStatements;
   private final int maxParallelism;
+  private final int readyAfter;
   private final Duration timeout;
   private final RequestThrottler throttler;
   private final SessionMetricUpdater metricUpdater;
@@ -83,6 +92,10 @@ class ReprepareOnUp {
   private Set<ByteBuffer> serverKnownIds;
   private Queue<RepreparePayload> toReprepare;
   private int runningWorkers;
+  // The first readyCount statements of the queue must complete before we invoke whenPrepared
+  private int readyCount;
+  private int startedCount;
+  private int remainingBeforeReady;
 
   ReprepareOnUp(
       String logPrefix,
@@ -107,6 +120,10 @@ class ReprepareOnUp {
         config.getDefaultProfile().getInt(DefaultDriverOption.REPREPARE_MAX_STATEMENTS);
     this.maxParallelism =
         config.getDefaultProfile().getInt(DefaultDriverOption.REPREPARE_MAX_PARALLELISM);
+    this.readyAfter =
+        config.getDefaultProfile().isDefined(DefaultDriverOption.REPREPARE_READY_AFTER)
+            ? config.getDefaultProfile().getInt(DefaultDriverOption.REPREPARE_READY_AFTER)
+            : 0;
 
     this.metricUpdater = context.getMetricsFactory().getSessionUpdater();
   }
@@ -169,7 +186,7 @@ class ReprepareOnUp {
 
   private void gatherPayloadsToReprepare() {
     assert adminExecutor.inEventLoop();
-    toReprepare = new ArrayDeque<>();
+    List<Candidate> candidates = new ArrayList<>();
     for (RepreparePayload payload : repreparePayloads.values()) {
       if (serverKnownIds.contains(payload.id)) {
         LOG.trace(
@@ -177,18 +194,25 @@ class ReprepareOnUp {
             logPrefix,
             Bytes.toHexString(payload.id));
       } else {
-        if (maxStatements > 0 && toReprepare.size() == maxStatements) {
-          LOG.debug(
-              "[{}] Limiting number of statements to reprepare to {} as configured, "
-                  + "but there are more",
-              logPrefix,
-              maxStatements);
-          break;
-        } else {
-          toReprepare.add(payload);
-        }
+        candidates.add(new Candidate(payload));
       }
     }
+    // Most used first. The sort is stable, so statements that were never executed keep the map's
+    // order. The counts are read once beforehand: they keep changing as requests execute, and the
+    // comparator must be consistent.
+    candidates.sort(Comparator.comparingLong((Candidate c) -> c.executionCount).reversed());
+    if (maxStatements > 0 && candidates.size() > maxStatements) {
+      LOG.debug(
+          "[{}] Limiting number of statements to reprepare to {} as configured, "
+              + "but there are more",
+          logPrefix,
+          maxStatements);
+      candidates = candidates.subList(0, maxStatements);
+    }
+    toReprepare = new ArrayDeque<>(candidates.size());
+    for (Candidate candidate : candidates) {
+      toReprepare.add(candidate.payload);
+    }
     if (toReprepare.isEmpty()) {
       LOG.debug(
           "[{}] No statements to reprepare that are not known by the server already, done",
@@ -202,6 +226,10 @@ class ReprepareOnUp {
   private void startWorkers() {
     assert adminExecutor.inEventLoop();
     runningWorkers = Math.min(maxParallelism, toReprepare.size());
+    readyCount = (readyAfter > 0) ? Math.min(readyAfter, toReprepare.size()) : toReprepare.size();
+    remainingBeforeReady = readyCount;
+    metricUpdater.incrementCounter(
+        DefaultSessionMetric.REPREPARE_ON_UP_PENDING, null, toReprepare.size());
     LOG.debug(
         "[{}] Repreparing {} statements with {} parallel workers",
         logPrefix,
@@ -218,10 +246,11 @@ class ReprepareOnUp {
       runningWorkers -= 1;
       if (runningWorkers == 0) {
         LOG.debug("[{}] All workers finished, done", logPrefix);
-        whenPrepared.run();
       }
     } else {
       RepreparePayload payload = toReprepare.poll();
+      boolean beforeReady = startedCount < readyCount;
+      startedCount += 1;
       prepareAsync(
               new Prepare(
                   payload.query, (payload.keyspace == null ? null : payload.keyspace.asInternal())),
@@ -229,6 +258,14 @@ class ReprepareOnUp {
           .handleAsync(
               (result, error) -> {
                 // Don't log, AdminRequestHandler does already
+                metricUpdater.incrementCounter(
+                    DefaultSessionMetric.REPREPARE_ON_UP_PENDING, null, -1);
+                if (error != null) {
+                  metricUpdater.incrementCounter(DefaultSessionMetric.REPREPARE_ON_UP_ERRORS, null);
+                }
+                if (beforeReady) {
+                  onReadyStatementDone();
+                }
                 startWorker();
                 return null;
               },
@@ -236,6 +273,20 @@ class ReprepareOnUp {
     }
   }
 
+  private void onReadyStatementDone() {
+    assert adminExecutor.inEventLoop();
+    remainingBeforeReady -= 1;
+    if (remainingBeforeReady == 0) {
+      if (readyCount < startedCount + toReprepare.size()) {
+        LOG.debug(
+            "[{}] {} most used statements reprepared, the others will continue in the background",
+            logPrefix,
+            readyCount);
+      }
+      whenPrepared.run();
+    }
+  }
+
   @VisibleForTesting
   protected CompletionStage<AdminResult> queryAsync(
       Message message, Map<String, ByteBuffer> customPayload, String debugString) {
@@ -273,4 +324,14 @@ class ReprepareOnUp {
       return reprepareHandler.start();
     }
   }
+
+  private static class Candidate {
+    private final RepreparePayload payload;
+    private final long executionCount;
+
+    private Candidate(RepreparePayload payload) {
+      this.payload = payload;
+      this.executionCount = payload.getExecutionCount();
+    }
+  }
 }
@@ -20,7 +20,8 @@ import com.datastax.oss.driver.internal.core.cql.DefaultPreparedStatement;
 import com.datastax.oss.protocol.internal.request.Prepare;
 import java.nio.ByteBuffer;
 import java.util.Map;
-import net.jcip.annotations.Immutable;
+import java.util.concurrent.atomic.LongAdder;
+import net.jcip.annotations.ThreadSafe;
 
 /**
  * The information that's necessary to reprepare an already prepared statement, in case we hit a
@@ -28,8 +29,11 @@ import net.jcip.annotations.Immutable;
  *
  * <p>Make sure the object that's returned to the client (e.g. {@link DefaultPreparedStatement} for
  * CQL statements) keeps a reference to this.
+ *
+ * <p>This also counts how many times the statement was executed, so that the most used statements
+ * are reprepared first when a node comes back up.
  */
-@Immutable
+@ThreadSafe
 public class RepreparePayload {
   public final ByteBuffer id;
   public final String query;
@@ -39,6 +43,8 @@ public class RepreparePayload {
 
   public final Map<String, ByteBuffer> customPayload;
 
+  private final LongAdder executionCount = new LongAdder();
+
   public RepreparePayload(
       ByteBuffer id, String query, CqlIdentifier keyspace, Map<String, ByteBuffer> customPayload) {
     this.id = id;
@@ -47,6 +53,14 @@ public class RepreparePayload {
     this.customPayload = customPayload;
   }
 
+  public void recordExecution() {
+    executionCount.increment();
+  }
+
+  public long getExecutionCount() {
+    return executionCount.sum();
+  }
+
   public Prepare toMessage() {
     return new Prepare(query, keyspace == null ? null : keyspace.asInternal());
   }
@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class BigIntCodec implements PrimitiveLongCodec {
+public class BigIntCodec implements PrimitiveLongCodec, SizedTypeCodec<Long> {
   @NonNull
   @Override
   public GenericType<Long> getJavaType() {
@@ -57,6 +57,17 @@ public class BigIntCodec implements PrimitiveLongCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Long value, @NonNull ProtocolVersion protocolVersion) {
+    return 8;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Long value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.putLong(value);
+  }
+
   @Override
   public long decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
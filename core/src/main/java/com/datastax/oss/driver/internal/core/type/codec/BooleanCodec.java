@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class BooleanCodec implements PrimitiveBooleanCodec {
+public class BooleanCodec implements PrimitiveBooleanCodec, SizedTypeCodec<Boolean> {
 
   private static final ByteBuffer TRUE = ByteBuffer.wrap(new byte[] {1});
   private static final ByteBuffer FALSE = ByteBuffer.wrap(new byte[] {0});
@@ -59,6 +59,19 @@ public class BooleanCodec implements PrimitiveBooleanCodec {
     return value ? TRUE.duplicate() : FALSE.duplicate();
   }
 
+  @Override
+  public int encodedSize(@NonNull Boolean value, @NonNull ProtocolVersion protocolVersion) {
+    return 1;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Boolean value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.put(value ? (byte) 1 : (byte) 0);
+  }
+
   @Override
   public boolean decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
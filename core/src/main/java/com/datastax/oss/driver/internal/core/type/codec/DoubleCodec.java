@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class DoubleCodec implements PrimitiveDoubleCodec {
+public class DoubleCodec implements PrimitiveDoubleCodec, SizedTypeCodec<Double> {
   @NonNull
   @Override
   public GenericType<Double> getJavaType() {
@@ -57,6 +57,17 @@ public class DoubleCodec implements PrimitiveDoubleCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Double value, @NonNull ProtocolVersion protocolVersion) {
+    return 8;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Double value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.putDouble(value);
+  }
+
   @Override
   public double decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class FloatCodec implements PrimitiveFloatCodec {
+public class FloatCodec implements PrimitiveFloatCodec, SizedTypeCodec<Float> {
   @NonNull
   @Override
   public GenericType<Float> getJavaType() {
@@ -57,6 +57,17 @@ public class FloatCodec implements PrimitiveFloatCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Float value, @NonNull ProtocolVersion protocolVersion) {
+    return 4;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Float value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.putFloat(value);
+  }
+
   @Override
   public float decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
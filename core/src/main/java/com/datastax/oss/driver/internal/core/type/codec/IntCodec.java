@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class IntCodec implements PrimitiveIntCodec {
+public class IntCodec implements PrimitiveIntCodec, SizedTypeCodec<Integer> {
 
   @NonNull
   @Override
@@ -58,6 +58,19 @@ public class IntCodec implements PrimitiveIntCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Integer value, @NonNull ProtocolVersion protocolVersion) {
+    return 4;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Integer value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.putInt(value);
+  }
+
   @Override
   public int decodePrimitive(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
     if (bytes == null || bytes.remaining() == 0) {
@@ -0,0 +1,52 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import net.jcip.annotations.ThreadSafe;
+
+/** Maps CQL {@code list<int>} to Java {@code int[]}, without boxing. */
+@ThreadSafe
+public class IntListToArrayCodec extends PrimitiveCollectionToArrayCodec<int[]> {
+
+  public IntListToArrayCodec() {
+    super(DataTypes.listOf(DataTypes.INT), int[].class, TypeCodecs.INT, 4);
+  }
+
+  @Override
+  protected int length(@NonNull int[] array) {
+    return array.length;
+  }
+
+  @NonNull
+  @Override
+  protected int[] newArray(int length) {
+    return new int[length];
+  }
+
+  @Override
+  protected void writeElement(@NonNull ByteBuffer output, @NonNull int[] array, int i) {
+    output.putInt(array[i]);
+  }
+
+  @Override
+  protected void readElement(@NonNull ByteBuffer input, @NonNull int[] array, int i) {
+    array[i] = input.getInt();
+  }
+}
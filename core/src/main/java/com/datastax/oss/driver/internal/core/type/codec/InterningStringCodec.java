@@ -0,0 +1,129 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A text codec that returns the same {@code String} instance for values that it has recently
+ * decoded.
+ *
+ * <p>This is intended for low-cardinality columns (statuses, country codes, enum-like values...),
+ * where decoding each cell would otherwise allocate many identical strings. Decoded values are
+ * kept in a fixed-size, direct-mapped table indexed by a hash of their encoded bytes; a cache hit
+ * returns the previous instance without allocating anything. Collisions simply overwrite the
+ * previous entry, so the memory footprint is bounded by the number of entries times the maximum
+ * value length.
+ */
+@ThreadSafe
+public class InterningStringCodec extends StringCodec {
+
+  /** Values longer than this (in encoded bytes) are never cached. */
+  public static final int DEFAULT_MAX_VALUE_LENGTH = 64;
+
+  private final int maxValueLength;
+  private final int mask;
+
+  // Entries are immutable and only hold final fields, so racy reads and writes are safe: at worst
+  // a thread misses an entry that was just stored by another one, and decodes the value again.
+  private final Entry[] entries;
+
+  public InterningStringCodec(
+      @NonNull DataType cqlType, @NonNull Charset charset, int maxEntries, int maxValueLength) {
+    super(cqlType, charset);
+    Preconditions.checkArgument(
+        maxEntries > 0 && maxEntries <= 1 << 30, "maxEntries must be between 1 and 2^30");
+    Preconditions.checkArgument(maxValueLength > 0, "maxValueLength must be strictly positive");
+    // Round up to a power of two, to compute indices with a mask
+    int capacity = Integer.highestOneBit(Math.max(maxEntries - 1, 1)) << 1;
+    this.entries = new Entry[capacity];
+    this.mask = capacity - 1;
+    this.maxValueLength = maxValueLength;
+  }
+
+  public InterningStringCodec(@NonNull DataType cqlType, @NonNull Charset charset, int maxEntries) {
+    this(cqlType, charset, maxEntries, DEFAULT_MAX_VALUE_LENGTH);
+  }
+
+  @Nullable
+  @Override
+  public String decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0 || bytes.remaining() > maxValueLength) {
+      return super.decode(bytes, protocolVersion);
+    }
+    byte[] array;
+    int offset;
+    int length = bytes.remaining();
+    if (bytes.hasArray()) {
+      array = bytes.array();
+      offset = bytes.arrayOffset() + bytes.position();
+    } else {
+      array = new byte[length];
+      bytes.duplicate().get(array);
+      offset = 0;
+    }
+    int hash = hash(array, offset, length);
+    int index = hash & mask;
+    Entry entry = entries[index];
+    if (entry != null && entry.matches(hash, array, offset, length)) {
+      return entry.value;
+    }
+    String value = decode(array, offset, length, getCharset());
+    entries[index] = new Entry(hash, Arrays.copyOfRange(array, offset, offset + length), value);
+    return value;
+  }
+
+  private static int hash(byte[] array, int offset, int length) {
+    int hash = 1;
+    for (int i = offset, end = offset + length; i < end; i++) {
+      hash = 31 * hash + array[i];
+    }
+    // Spread the high bits, since only the lowest ones are used to compute the index
+    return hash ^ (hash >>> 16);
+  }
+
+  private static class Entry {
+    private final int hash;
+    private final byte[] bytes;
+    private final String value;
+
+    private Entry(int hash, byte[] bytes, String value) {
+      this.hash = hash;
+      this.bytes = bytes;
+      this.value = value;
+    }
+
+    private boolean matches(int hash, byte[] array, int offset, int length) {
+      if (this.hash != hash || this.bytes.length != length) {
+        return false;
+      }
+      for (int i = 0; i < length; i++) {
+        if (this.bytes[i] != array[offset + i]) {
+          return false;
+        }
+      }
+      return true;
+    }
+  }
+}
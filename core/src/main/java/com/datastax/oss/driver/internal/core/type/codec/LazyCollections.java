@@ -0,0 +1,66 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import java.nio.ByteBuffer;
+
+/** Helpers to read the elements of encoded collections in place (absolute positions). */
+class LazyCollections {
+
+  /**
+   * Returns the position that follows the element whose size is stored at the given position.
+   *
+   * @throws IllegalArgumentException if the element overflows the buffer.
+   */
+  static int skipElement(ByteBuffer bytes, int position) {
+    int size = bytes.getInt(position);
+    int next = position + 4 + Math.max(size, 0);
+    if (next > bytes.limit()) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Invalid collection format: element at position %d has size %d, "
+                  + "which overflows the buffer (limit %d)",
+              position, size, bytes.limit()));
+    }
+    return next;
+  }
+
+  /** Decodes the element whose size is stored at the given position. */
+  static <T> T decodeElement(
+      ByteBuffer bytes, int position, TypeCodec<T> codec, ProtocolVersion protocolVersion) {
+    ByteBuffer element = slice(bytes, position);
+    // Allow null elements, for consistency with the eager codecs
+    return (element == null) ? null : codec.decode(element, protocolVersion);
+  }
+
+  /**
+   * Returns the contents of the element whose size is stored at the given position, or null if
+   * the element is null.
+   */
+  static ByteBuffer slice(ByteBuffer bytes, int position) {
+    int size = bytes.getInt(position);
+    if (size < 0) {
+      return null;
+    }
+    ByteBuffer element = bytes.duplicate();
+    element.limit(position + 4 + size).position(position + 4);
+    return element.slice();
+  }
+
+  private LazyCollections() {}
+}
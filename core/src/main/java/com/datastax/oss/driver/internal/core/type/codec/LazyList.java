@@ -0,0 +1,71 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import java.nio.ByteBuffer;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An unmodifiable list that decodes its elements from the raw bytes of a CQL collection, each time
+ * they are accessed.
+ *
+ * <p>Construction only scans the element sizes, in order to record where each element starts. No
+ * element is decoded until it is accessed, and decoded elements are not retained.
+ */
+@Immutable
+class LazyList<ElementT> extends AbstractList<ElementT> implements RandomAccess {
+
+  private final ByteBuffer bytes;
+  private final TypeCodec<ElementT> elementCodec;
+  private final ProtocolVersion protocolVersion;
+  // The position of the size of each element in the buffer
+  private final int[] offsets;
+
+  LazyList(ByteBuffer bytes, TypeCodec<ElementT> elementCodec, ProtocolVersion protocolVersion) {
+    this.bytes = bytes;
+    this.elementCodec = elementCodec;
+    this.protocolVersion = protocolVersion;
+    int position = bytes.position();
+    int size = bytes.getInt(position);
+    position += 4;
+    this.offsets = new int[size];
+    for (int i = 0; i < size; i++) {
+      offsets[i] = position;
+      position = LazyCollections.skipElement(bytes, position);
+    }
+  }
+
+  @Override
+  public ElementT get(int index) {
+    return LazyCollections.decodeElement(bytes, offsets[index], elementCodec, protocolVersion);
+  }
+
+  @Override
+  public int size() {
+    return offsets.length;
+  }
+
+  /** The encoded form of this list, if it was decoded with the given codec and protocol version. */
+  ByteBuffer getBytes(TypeCodec<?> codec, ProtocolVersion version) {
+    return (codec.equals(elementCodec) && version.equals(protocolVersion))
+        ? bytes.duplicate()
+        : null;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A list codec that decodes to a lazy view over the encoded bytes, instead of materializing all the
+ * elements upfront.
+ *
+ * <p>Elements are decoded each time they are accessed, and never retained by the list. This is
+ * cheaper than {@link ListCodec} for large collections where the client only inspects a few
+ * elements, or iterates them once. Encoding, formatting and parsing are the same as {@link
+ * ListCodec}, except that re-encoding a list produced by this codec reuses its original bytes.
+ */
+@ThreadSafe
+public class LazyListCodec<ElementT> implements TypeCodec<List<ElementT>> {
+
+  private final ListCodec<ElementT> delegate;
+  private final TypeCodec<ElementT> elementCodec;
+
+  public LazyListCodec(DataType cqlType, TypeCodec<ElementT> elementCodec) {
+    this.delegate = new ListCodec<>(cqlType, elementCodec);
+    this.elementCodec = elementCodec;
+  }
+
+  @NonNull
+  @Override
+  public GenericType<List<ElementT>> getJavaType() {
+    return delegate.getJavaType();
+  }
+
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return delegate.getCqlType();
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    return delegate.accepts(value);
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(
+      @Nullable List<ElementT> value, @NonNull ProtocolVersion protocolVersion) {
+    if (value instanceof LazyList) {
+      ByteBuffer bytes = ((LazyList<ElementT>) value).getBytes(elementCodec, protocolVersion);
+      if (bytes != null) {
+        return bytes;
+      }
+    }
+    return delegate.encode(value, protocolVersion);
+  }
+
+  @Nullable
+  @Override
+  public List<ElementT> decode(
+      @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new ArrayList<>(0);
+    } else {
+      return new LazyList<>(bytes.duplicate(), elementCodec, protocolVersion);
+    }
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable List<ElementT> value) {
+    return delegate.format(value);
+  }
+
+  @Nullable
+  @Override
+  public List<ElementT> parse(@Nullable String value) {
+    return delegate.parse(value);
+  }
+}
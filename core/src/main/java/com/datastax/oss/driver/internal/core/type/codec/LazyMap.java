@@ -0,0 +1,153 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import net.jcip.annotations.Immutable;
+
+/**
+ * An unmodifiable map that decodes its entries from the raw bytes of a CQL map, each time they are
+ * accessed.
+ *
+ * <p>Construction only scans the sizes of the keys and values, in order to record where each entry
+ * starts. Iteration decodes entries one at a time, and decoded entries are not retained. Lookups
+ * ({@link #get(Object)}, {@link #containsKey(Object)}) encode the searched key and compare it to
+ * the encoded keys, so they don't decode any key either; this assumes that two keys are equal if
+ * and only if their encoded forms are, which holds for the built-in codecs.
+ */
+@Immutable
+class LazyMap<KeyT, ValueT> extends AbstractMap<KeyT, ValueT> {
+
+  private final ByteBuffer bytes;
+  private final TypeCodec<KeyT> keyCodec;
+  private final TypeCodec<ValueT> valueCodec;
+  private final ProtocolVersion protocolVersion;
+  // The position of the size of each key in the buffer (the value follows the key)
+  private final int[] offsets;
+  private final Set<Entry<KeyT, ValueT>> entrySet = new EntrySet();
+
+  LazyMap(
+      ByteBuffer bytes,
+      TypeCodec<KeyT> keyCodec,
+      TypeCodec<ValueT> valueCodec,
+      ProtocolVersion protocolVersion) {
+    this.bytes = bytes;
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+    this.protocolVersion = protocolVersion;
+    int position = bytes.position();
+    int size = bytes.getInt(position);
+    position += 4;
+    this.offsets = new int[size];
+    for (int i = 0; i < size; i++) {
+      offsets[i] = position;
+      position = LazyCollections.skipElement(bytes, position);
+      position = LazyCollections.skipElement(bytes, position);
+    }
+  }
+
+  @Override
+  public int size() {
+    return offsets.length;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return indexOf(key) >= 0;
+  }
+
+  @Override
+  public ValueT get(Object key) {
+    int i = indexOf(key);
+    return (i < 0) ? null : decodeValue(i);
+  }
+
+  @Override
+  public Set<Entry<KeyT, ValueT>> entrySet() {
+    return entrySet;
+  }
+
+  /** The encoded form of this map, if it was decoded with the given codecs and protocol version. */
+  ByteBuffer getBytes(TypeCodec<?> keyCodec, TypeCodec<?> valueCodec, ProtocolVersion version) {
+    return (keyCodec.equals(this.keyCodec)
+            && valueCodec.equals(this.valueCodec)
+            && version.equals(protocolVersion))
+        ? bytes.duplicate()
+        : null;
+  }
+
+  private int indexOf(Object key) {
+    if (key == null || !keyCodec.accepts(key)) {
+      return -1;
+    }
+    @SuppressWarnings("unchecked")
+    ByteBuffer encodedKey = keyCodec.encode((KeyT) key, protocolVersion);
+    if (encodedKey == null) {
+      return -1;
+    }
+    for (int i = 0; i < offsets.length; i++) {
+      if (encodedKey.equals(LazyCollections.slice(bytes, offsets[i]))) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private KeyT decodeKey(int i) {
+    return LazyCollections.decodeElement(bytes, offsets[i], keyCodec, protocolVersion);
+  }
+
+  private ValueT decodeValue(int i) {
+    int valuePosition = LazyCollections.skipElement(bytes, offsets[i]);
+    return LazyCollections.decodeElement(bytes, valuePosition, valueCodec, protocolVersion);
+  }
+
+  private class EntrySet extends AbstractSet<Entry<KeyT, ValueT>> {
+
+    @Override
+    public Iterator<Entry<KeyT, ValueT>> iterator() {
+      return new Iterator<Entry<KeyT, ValueT>>() {
+        private int next = 0;
+
+        @Override
+        public boolean hasNext() {
+          return next < offsets.length;
+        }
+
+        @Override
+        public Entry<KeyT, ValueT> next() {
+          if (next >= offsets.length) {
+            throw new NoSuchElementException();
+          }
+          int i = next++;
+          return new SimpleImmutableEntry<>(decodeKey(i), decodeValue(i));
+        }
+      };
+    }
+
+    @Override
+    public int size() {
+      return offsets.length;
+    }
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.nio.ByteBuffer;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * A map codec that decodes to a lazy view over the encoded bytes, instead of materializing all the
+ * entries upfront.
+ *
+ * <p>See {@link LazyListCodec} for the general principle; lookups by key compare encoded keys,
+ * without decoding them.
+ */
+@ThreadSafe
+public class LazyMapCodec<KeyT, ValueT> implements TypeCodec<Map<KeyT, ValueT>> {
+
+  private final MapCodec<KeyT, ValueT> delegate;
+  private final TypeCodec<KeyT> keyCodec;
+  private final TypeCodec<ValueT> valueCodec;
+
+  public LazyMapCodec(DataType cqlType, TypeCodec<KeyT> keyCodec, TypeCodec<ValueT> valueCodec) {
+    this.delegate = new MapCodec<>(cqlType, keyCodec, valueCodec);
+    this.keyCodec = keyCodec;
+    this.valueCodec = valueCodec;
+  }
+
+  @NonNull
+  @Override
+  public GenericType<Map<KeyT, ValueT>> getJavaType() {
+    return delegate.getJavaType();
+  }
+
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return delegate.getCqlType();
+  }
+
+  @Override
+  public boolean accepts(@NonNull Object value) {
+    return delegate.accepts(value);
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(
+      @Nullable Map<KeyT, ValueT> value, @NonNull ProtocolVersion protocolVersion) {
+    if (value instanceof LazyMap) {
+      ByteBuffer bytes =
+          ((LazyMap<KeyT, ValueT>) value).getBytes(keyCodec, valueCodec, protocolVersion);
+      if (bytes != null) {
+        return bytes;
+      }
+    }
+    return delegate.encode(value, protocolVersion);
+  }
+
+  @Nullable
+  @Override
+  public Map<KeyT, ValueT> decode(
+      @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return new LinkedHashMap<>(0);
+    } else {
+      return new LazyMap<>(bytes.duplicate(), keyCodec, valueCodec, protocolVersion);
+    }
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable Map<KeyT, ValueT> value) {
+    return delegate.format(value);
+  }
+
+  @Nullable
+  @Override
+  public Map<KeyT, ValueT> parse(@Nullable String value) {
+    return delegate.parse(value);
+  }
+}
@@ -29,16 +29,20 @@ import java.util.List;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class ListCodec<ElementT> implements TypeCodec<List<ElementT>> {
+public class ListCodec<ElementT> implements SizedTypeCodec<List<ElementT>> {
 
   private final DataType cqlType;
   private final GenericType<List<ElementT>> javaType;
   private final TypeCodec<ElementT> elementCodec;
+  // Same as elementCodec if it can be sized, null otherwise
+  @Nullable private final SizedTypeCodec<ElementT> sizedElementCodec;
 
   public ListCodec(DataType cqlType, TypeCodec<ElementT> elementCodec) {
     this.cqlType = cqlType;
     this.javaType = GenericType.listOf(elementCodec.getJavaType());
     this.elementCodec = elementCodec;
+    this.sizedElementCodec =
+        SizedTypeCodec.isSizedCodec(elementCodec) ? (SizedTypeCodec<ElementT>) elementCodec : null;
     Preconditions.checkArgument(cqlType instanceof ListType);
   }
 
@@ -73,6 +77,8 @@ public class ListCodec<ElementT> implements TypeCodec<List<ElementT>> {
     // is a byte array representing the serialized value, preceded by an int indicating its size.
     if (value == null) {
       return null;
+    } else if (sizedElementCodec != null) {
+      return SizedEncoding.encode(this, value, protocolVersion);
     } else {
       int i = 0;
       ByteBuffer[] encodedElements = new ByteBuffer[value.size()];
@@ -104,6 +110,24 @@ public class ListCodec<ElementT> implements TypeCodec<List<ElementT>> {
     }
   }
 
+  @Override
+  public boolean isSized() {
+    return sizedElementCodec != null;
+  }
+
+  @Override
+  public int encodedSize(@NonNull List<ElementT> value, @NonNull ProtocolVersion protocolVersion) {
+    return SizedEncoding.collectionSize(value, sizedElementCodec, protocolVersion);
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull List<ElementT> value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    SizedEncoding.encodeCollectionInto(value, sizedElementCodec, target, protocolVersion);
+  }
+
   @Nullable
   @Override
   public List<ElementT> decode(
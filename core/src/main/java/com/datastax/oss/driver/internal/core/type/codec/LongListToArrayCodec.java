@@ -0,0 +1,52 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import net.jcip.annotations.ThreadSafe;
+
+/** Maps CQL {@code list<bigint>} to Java {@code long[]}, without boxing. */
+@ThreadSafe
+public class LongListToArrayCodec extends PrimitiveCollectionToArrayCodec<long[]> {
+
+  public LongListToArrayCodec() {
+    super(DataTypes.listOf(DataTypes.BIGINT), long[].class, TypeCodecs.BIGINT, 8);
+  }
+
+  @Override
+  protected int length(@NonNull long[] array) {
+    return array.length;
+  }
+
+  @NonNull
+  @Override
+  protected long[] newArray(int length) {
+    return new long[length];
+  }
+
+  @Override
+  protected void writeElement(@NonNull ByteBuffer output, @NonNull long[] array, int i) {
+    output.putLong(array[i]);
+  }
+
+  @Override
+  protected void readElement(@NonNull ByteBuffer input, @NonNull long[] array, int i) {
+    array[i] = input.getLong();
+  }
+}
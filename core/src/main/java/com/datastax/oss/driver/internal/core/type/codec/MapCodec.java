@@ -28,17 +28,27 @@ import java.util.Map;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class MapCodec<KeyT, ValueT> implements TypeCodec<Map<KeyT, ValueT>> {
+public class MapCodec<KeyT, ValueT> implements SizedTypeCodec<Map<KeyT, ValueT>> {
 
   private final DataType cqlType;
   private final GenericType<Map<KeyT, ValueT>> javaType;
   private final TypeCodec<KeyT> keyCodec;
   private final TypeCodec<ValueT> valueCodec;
+  // Same as keyCodec and valueCodec if both can be sized, null otherwise
+  @Nullable private final SizedTypeCodec<KeyT> sizedKeyCodec;
+  @Nullable private final SizedTypeCodec<ValueT> sizedValueCodec;
 
   public MapCodec(DataType cqlType, TypeCodec<KeyT> keyCodec, TypeCodec<ValueT> valueCodec) {
     this.cqlType = cqlType;
     this.keyCodec = keyCodec;
     this.valueCodec = valueCodec;
+    if (SizedTypeCodec.isSizedCodec(keyCodec) && SizedTypeCodec.isSizedCodec(valueCodec)) {
+      this.sizedKeyCodec = (SizedTypeCodec<KeyT>) keyCodec;
+      this.sizedValueCodec = (SizedTypeCodec<ValueT>) valueCodec;
+    } else {
+      this.sizedKeyCodec = null;
+      this.sizedValueCodec = null;
+    }
     this.javaType = GenericType.mapOf(keyCodec.getJavaType(), valueCodec.getJavaType());
   }
 
@@ -77,6 +87,8 @@ public class MapCodec<KeyT, ValueT> implements TypeCodec<Map<KeyT, ValueT>> {
     // followed by the value in the same format.
     if (value == null) {
       return null;
+    } else if (sizedKeyCodec != null) {
+      return SizedEncoding.encode(this, value, protocolVersion);
     } else {
       int i = 0;
       ByteBuffer[] encodedElements = new ByteBuffer[value.size() * 2];
@@ -123,6 +135,25 @@ public class MapCodec<KeyT, ValueT> implements TypeCodec<Map<KeyT, ValueT>> {
     }
   }
 
+  @Override
+  public boolean isSized() {
+    return sizedKeyCodec != null;
+  }
+
+  @Override
+  public int encodedSize(
+      @NonNull Map<KeyT, ValueT> value, @NonNull ProtocolVersion protocolVersion) {
+    return SizedEncoding.mapSize(value, sizedKeyCodec, sizedValueCodec, protocolVersion);
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Map<KeyT, ValueT> value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    SizedEncoding.encodeMapInto(value, sizedKeyCodec, sizedValueCodec, target, protocolVersion);
+  }
+
   @Nullable
   @Override
   public Map<KeyT, ValueT> decode(
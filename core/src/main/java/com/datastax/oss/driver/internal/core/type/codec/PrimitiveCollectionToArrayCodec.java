@@ -0,0 +1,190 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.ListType;
+import com.datastax.oss.driver.api.core.type.SetType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.shaded.guava.common.base.Preconditions;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import net.jcip.annotations.ThreadSafe;
+
+/**
+ * Base class for codecs that map a CQL list or set of a fixed-size numeric type to a Java primitive
+ * array, for example {@code list<int>} to {@code int[]}.
+ *
+ * <p>Unlike {@link ListCodec} and {@link SetCodec}, elements are written to and read from the wire
+ * buffer directly, in a single pass: there is no boxing, and no intermediate buffer per element.
+ *
+ * <p>These codecs are never returned for a lookup by CQL type only, so they don't change the
+ * default mapping of the driver; they are selected when the target Java type is the array type,
+ * for example {@code row.get("scores", int[].class)}.
+ *
+ * @param <ArrayT> the Java array type.
+ */
+@ThreadSafe
+public abstract class PrimitiveCollectionToArrayCodec<ArrayT> implements SizedTypeCodec<ArrayT> {
+
+  private final DataType cqlType;
+  private final GenericType<ArrayT> javaType;
+  private final TypeCodec<?> elementCodec;
+  private final TypeCodec<? extends Collection<?>> boxedCodec;
+  private final int elementSize;
+
+  /**
+   * @param cqlType the CQL collection type.
+   * @param javaClass the Java array class.
+   * @param elementCodec the codec for a single (boxed) element. It is only used for {@link
+   *     #format(Object)} and {@link #parse(String)}, which are not performance-sensitive.
+   * @param elementSize the size of an encoded element, in bytes.
+   */
+  protected PrimitiveCollectionToArrayCodec(
+      @NonNull DataType cqlType,
+      @NonNull Class<ArrayT> javaClass,
+      @NonNull TypeCodec<?> elementCodec,
+      int elementSize) {
+    Preconditions.checkArgument(cqlType instanceof ListType || cqlType instanceof SetType);
+    Preconditions.checkArgument(javaClass.isArray());
+    this.cqlType = cqlType;
+    this.javaType = GenericType.of(javaClass);
+    this.elementCodec = elementCodec;
+    if (cqlType instanceof ListType) {
+      this.boxedCodec = TypeCodecs.listOf(elementCodec);
+    } else {
+      this.boxedCodec = TypeCodecs.setOf(elementCodec);
+    }
+    this.elementSize = elementSize;
+  }
+
+  @NonNull
+  @Override
+  public GenericType<ArrayT> getJavaType() {
+    return javaType;
+  }
+
+  @NonNull
+  @Override
+  public DataType getCqlType() {
+    return cqlType;
+  }
+
+  @Nullable
+  @Override
+  public ByteBuffer encode(@Nullable ArrayT value, @NonNull ProtocolVersion protocolVersion) {
+    // An int indicating the number of elements, followed by the elements. Each element is preceded
+    // by an int indicating its size, which is constant here.
+    return (value == null) ? null : SizedEncoding.encode(this, value, protocolVersion);
+  }
+
+  @Override
+  public int encodedSize(@NonNull ArrayT value, @NonNull ProtocolVersion protocolVersion) {
+    return 4 + length(value) * (4 + elementSize);
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull ArrayT value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    int length = length(value);
+    target.putInt(length);
+    for (int i = 0; i < length; i++) {
+      target.putInt(elementSize);
+      writeElement(target, value, i);
+    }
+  }
+
+  @Nullable
+  @Override
+  public ArrayT decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
+    if (bytes == null || bytes.remaining() == 0) {
+      return newArray(0);
+    }
+    ByteBuffer input = bytes.duplicate();
+    int length = input.getInt();
+    ArrayT result = newArray(length);
+    for (int i = 0; i < length; i++) {
+      int size = input.getInt();
+      if (size != elementSize) {
+        throw new IllegalArgumentException(
+            (size < 0)
+                ? "Null elements can't be decoded into a primitive array"
+                : String.format(
+                    "Invalid element size, expected %d bytes but got %d", elementSize, size));
+      }
+      readElement(input, result, i);
+    }
+    return result;
+  }
+
+  @NonNull
+  @Override
+  public String format(@Nullable ArrayT value) {
+    if (value == null) {
+      return "NULL";
+    }
+    boolean isList = cqlType instanceof ListType;
+    StringBuilder sb = new StringBuilder(isList ? "[" : "{");
+    int length = length(value);
+    for (int i = 0; i < length; i++) {
+      if (i > 0) {
+        sb.append(",");
+      }
+      sb.append(formatElement(Array.get(value, i)));
+    }
+    sb.append(isList ? "]" : "}");
+    return sb.toString();
+  }
+
+  @Nullable
+  @Override
+  public ArrayT parse(@Nullable String value) {
+    Collection<?> elements = boxedCodec.parse(value);
+    if (elements == null) {
+      return null;
+    }
+    ArrayT result = newArray(elements.size());
+    int i = 0;
+    for (Object element : elements) {
+      Array.set(result, i++, element);
+    }
+    return result;
+  }
+
+  @SuppressWarnings("unchecked")
+  private String formatElement(Object element) {
+    return ((TypeCodec<Object>) elementCodec).format(element);
+  }
+
+  /** Returns the number of elements in the array. */
+  protected abstract int length(@NonNull ArrayT array);
+
+  /** Allocates a new array of the given length. */
+  @NonNull
+  protected abstract ArrayT newArray(int length);
+
+  /** Writes the element at index {@code i} at the current position of the buffer. */
+  protected abstract void writeElement(@NonNull ByteBuffer output, @NonNull ArrayT array, int i);
+
+  /** Reads an element at the current position of the buffer, and stores it at index {@code i}. */
+  protected abstract void readElement(@NonNull ByteBuffer input, @NonNull ArrayT array, int i);
+}
@@ -30,16 +30,20 @@ import java.util.Set;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class SetCodec<ElementT> implements TypeCodec<Set<ElementT>> {
+public class SetCodec<ElementT> implements SizedTypeCodec<Set<ElementT>> {
 
   private final DataType cqlType;
   private final GenericType<Set<ElementT>> javaType;
   private final TypeCodec<ElementT> elementCodec;
+  // Same as elementCodec if it can be sized, null otherwise
+  @Nullable private final SizedTypeCodec<ElementT> sizedElementCodec;
 
   public SetCodec(DataType cqlType, TypeCodec<ElementT> elementCodec) {
     this.cqlType = cqlType;
     this.javaType = GenericType.setOf(elementCodec.getJavaType());
     this.elementCodec = elementCodec;
+    this.sizedElementCodec =
+        SizedTypeCodec.isSizedCodec(elementCodec) ? (SizedTypeCodec<ElementT>) elementCodec : null;
     Preconditions.checkArgument(cqlType instanceof SetType);
   }
 
@@ -74,6 +78,8 @@ public class SetCodec<ElementT> implements TypeCodec<Set<ElementT>> {
     // is a byte array representing the serialized value, preceded by an int indicating its size.
     if (value == null) {
       return null;
+    } else if (sizedElementCodec != null) {
+      return SizedEncoding.encode(this, value, protocolVersion);
     } else {
       int i = 0;
       ByteBuffer[] encodedElements = new ByteBuffer[value.size()];
@@ -105,6 +111,24 @@ public class SetCodec<ElementT> implements TypeCodec<Set<ElementT>> {
     }
   }
 
+  @Override
+  public boolean isSized() {
+    return sizedElementCodec != null;
+  }
+
+  @Override
+  public int encodedSize(@NonNull Set<ElementT> value, @NonNull ProtocolVersion protocolVersion) {
+    return SizedEncoding.collectionSize(value, sizedElementCodec, protocolVersion);
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Set<ElementT> value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    SizedEncoding.encodeCollectionInto(value, sizedElementCodec, target, protocolVersion);
+  }
+
   @Nullable
   @Override
   public Set<ElementT> decode(
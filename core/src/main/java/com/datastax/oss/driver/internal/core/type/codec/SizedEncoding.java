@@ -0,0 +1,143 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+import java.util.Collection;
+import java.util.Map;
+
+/** Helpers for the implementations of {@link SizedTypeCodec}. */
+final class SizedEncoding {
+
+  /** Allocates a buffer of the exact encoded size of the value, and encodes it in a single pass. */
+  @NonNull
+  static <JavaTypeT> ByteBuffer encode(
+      @NonNull SizedTypeCodec<JavaTypeT> codec,
+      @NonNull JavaTypeT value,
+      @NonNull ProtocolVersion protocolVersion) {
+    ByteBuffer result = ByteBuffer.allocate(codec.encodedSize(value, protocolVersion));
+    codec.encodeInto(value, result, protocolVersion);
+    result.flip();
+    return result;
+  }
+
+  static <ElementT> int collectionSize(
+      @NonNull Collection<ElementT> elements,
+      @NonNull SizedTypeCodec<ElementT> elementCodec,
+      @NonNull ProtocolVersion protocolVersion) {
+    int size = 4; // number of elements
+    for (ElementT element : elements) {
+      if (element == null) {
+        throw new NullPointerException("Collection elements cannot be null");
+      }
+      try {
+        size += 4 + elementCodec.encodedSize(element, protocolVersion);
+      } catch (ClassCastException e) {
+        throw new IllegalArgumentException("Invalid type for element: " + element.getClass());
+      }
+    }
+    return size;
+  }
+
+  static <ElementT> void encodeCollectionInto(
+      @NonNull Collection<ElementT> elements,
+      @NonNull SizedTypeCodec<ElementT> elementCodec,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.putInt(elements.size());
+    for (ElementT element : elements) {
+      encodeElementInto(element, elementCodec, target, protocolVersion);
+    }
+  }
+
+  static <KeyT, ValueT> int mapSize(
+      @NonNull Map<KeyT, ValueT> map,
+      @NonNull SizedTypeCodec<KeyT> keyCodec,
+      @NonNull SizedTypeCodec<ValueT> valueCodec,
+      @NonNull ProtocolVersion protocolVersion) {
+    int size = 4; // number of entries
+    for (Map.Entry<KeyT, ValueT> entry : map.entrySet()) {
+      KeyT key = entry.getKey();
+      ValueT value = entry.getValue();
+      if (key == null) {
+        throw new NullPointerException("Map keys cannot be null");
+      }
+      if (value == null) {
+        throw new NullPointerException("Map values cannot be null");
+      }
+      try {
+        size += 4 + keyCodec.encodedSize(key, protocolVersion);
+      } catch (ClassCastException e) {
+        throw new IllegalArgumentException("Invalid type for key: " + key.getClass());
+      }
+      try {
+        size += 4 + valueCodec.encodedSize(value, protocolVersion);
+      } catch (ClassCastException e) {
+        throw new IllegalArgumentException("Invalid type for value: " + value.getClass());
+      }
+    }
+    return size;
+  }
+
+  static <KeyT, ValueT> void encodeMapInto(
+      @NonNull Map<KeyT, ValueT> map,
+      @NonNull SizedTypeCodec<KeyT> keyCodec,
+      @NonNull SizedTypeCodec<ValueT> valueCodec,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.putInt(map.size());
+    for (Map.Entry<KeyT, ValueT> entry : map.entrySet()) {
+      encodeElementInto(entry.getKey(), keyCodec, target, protocolVersion);
+      encodeElementInto(entry.getValue(), valueCodec, target, protocolVersion);
+    }
+  }
+
+  /**
+   * Writes an element as a {@code [bytes]} value: its size, followed by its contents.
+   *
+   * <p>The size is back-filled once the contents are written, so that nested codecs don't have to
+   * compute it a second time.
+   */
+  static <ElementT> void encodeElementInto(
+      @NonNull ElementT element,
+      @NonNull SizedTypeCodec<ElementT> elementCodec,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    int sizePosition = target.position();
+    target.position(sizePosition + 4);
+    elementCodec.encodeInto(element, target, protocolVersion);
+    target.putInt(sizePosition, target.position() - sizePosition - 4);
+  }
+
+  /** Returns the size of a {@code [bytes]} value that was already encoded, including its length. */
+  static int bytesSize(ByteBuffer bytes) {
+    return 4 + (bytes == null ? 0 : bytes.remaining());
+  }
+
+  /** Writes a {@code [bytes]} value that was already encoded. */
+  static void writeBytes(ByteBuffer bytes, @NonNull ByteBuffer target) {
+    if (bytes == null) {
+      target.putInt(-1);
+    } else {
+      target.putInt(bytes.remaining());
+      target.put(bytes.duplicate());
+    }
+  }
+
+  private SizedEncoding() {}
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import java.nio.ByteBuffer;
+
+/**
+ * A codec that can compute the encoded size of a value upfront, and encode it into a buffer
+ * supplied by the caller.
+ *
+ * <p>This allows composite codecs (collections, tuples and UDTs) to size their output once and
+ * write nested elements directly into it, instead of encoding each element into its own
+ * intermediary buffer and copying it afterwards.
+ */
+public interface SizedTypeCodec<JavaTypeT> extends TypeCodec<JavaTypeT> {
+
+  /**
+   * Whether {@link #encodedSize} and {@link #encodeInto} can be used with this codec.
+   *
+   * <p>Composite codecs return {@code false} if one of their component codecs can't be sized, in
+   * which case callers must fall back to {@link #encode}.
+   */
+  default boolean isSized() {
+    return true;
+  }
+
+  /**
+   * Returns the number of bytes that {@link #encodeInto} will write for the given value.
+   *
+   * <p>The value must be non-null. This is also where the value gets validated: composite codecs
+   * check their elements here, so that {@link #encodeInto} can write them without further checks.
+   * This method must only be invoked if {@link #isSized()} returns {@code true}.
+   */
+  int encodedSize(@NonNull JavaTypeT value, @NonNull ProtocolVersion protocolVersion);
+
+  /**
+   * Writes the encoded form of the given value at the current position of the target buffer, and
+   * advances the position by {@link #encodedSize} bytes.
+   *
+   * <p>The target buffer must have enough remaining space.
+   */
+  void encodeInto(
+      @NonNull JavaTypeT value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion);
+
+  /** Whether the given codec implements this interface, and can size all of its values. */
+  static boolean isSizedCodec(@NonNull TypeCodec<?> codec) {
+    return codec instanceof SizedTypeCodec && ((SizedTypeCodec<?>) codec).isSized();
+  }
+}
@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class SmallIntCodec implements PrimitiveShortCodec {
+public class SmallIntCodec implements PrimitiveShortCodec, SizedTypeCodec<Short> {
   @NonNull
   @Override
   public GenericType<Short> getJavaType() {
@@ -57,6 +57,17 @@ public class SmallIntCodec implements PrimitiveShortCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Short value, @NonNull ProtocolVersion protocolVersion) {
+    return 2;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Short value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.putShort(value);
+  }
+
   @Override
   public short decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
@@ -20,11 +20,11 @@ import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.util.Strings;
-import com.datastax.oss.protocol.internal.util.Bytes;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
@@ -73,11 +73,47 @@ public class StringCodec implements TypeCodec<String> {
       return null;
     } else if (bytes.remaining() == 0) {
       return "";
+    } else if (bytes.hasArray()) {
+      // Decode in place, rather than copying the contents of the buffer first
+      return decode(
+          bytes.array(), bytes.arrayOffset() + bytes.position(), bytes.remaining(), charset);
     } else {
-      return new String(Bytes.getArray(bytes), charset);
+      byte[] array = new byte[bytes.remaining()];
+      bytes.duplicate().get(array);
+      return decode(array, 0, array.length, charset);
     }
   }
 
+  /**
+   * Decodes a range of bytes with the given charset, using a faster path if they are all ASCII
+   * characters.
+   */
+  @NonNull
+  protected static String decode(
+      @NonNull byte[] array, int offset, int length, @NonNull Charset charset) {
+    if (isAscii(array, offset, length)) {
+      // ASCII is a subset of both charsets we deal with. ISO-8859-1 strings are copied as-is by the
+      // JDK, whereas UTF-8 goes through the full charset decoder.
+      return new String(array, offset, length, StandardCharsets.ISO_8859_1);
+    } else {
+      return new String(array, offset, length, charset);
+    }
+  }
+
+  private static boolean isAscii(byte[] array, int offset, int length) {
+    for (int i = offset, end = offset + length; i < end; i++) {
+      if (array[i] < 0) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  @NonNull
+  protected Charset getCharset() {
+    return charset;
+  }
+
   @NonNull
   @Override
   public String format(@Nullable String value) {
@@ -18,7 +18,6 @@ package com.datastax.oss.driver.internal.core.type.codec;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
-import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.util.Strings;
@@ -30,7 +29,7 @@ import java.time.format.DateTimeFormatter;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class TimeCodec implements TypeCodec<LocalTime> {
+public class TimeCodec implements SizedTypeCodec<LocalTime> {
 
   private static final DateTimeFormatter FORMATTER =
       DateTimeFormatter.ofPattern("HH:mm:ss.SSSSSSSSS");
@@ -65,6 +64,19 @@ public class TimeCodec implements TypeCodec<LocalTime> {
         : TypeCodecs.BIGINT.encodePrimitive(value.toNanoOfDay(), protocolVersion);
   }
 
+  @Override
+  public int encodedSize(@NonNull LocalTime value, @NonNull ProtocolVersion protocolVersion) {
+    return 8;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull LocalTime value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.putLong(value.toNanoOfDay());
+  }
+
   @Nullable
   @Override
   public LocalTime decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
@@ -55,6 +55,15 @@ public class TimeUuidCodec extends UuidCodec {
     }
   }
 
+  @Override
+  public int encodedSize(@NonNull UUID value, @NonNull ProtocolVersion protocolVersion) {
+    if (value.version() != 1) {
+      throw new IllegalArgumentException(
+          String.format("%s is not a Type 1 (time-based) UUID", value));
+    }
+    return super.encodedSize(value, protocolVersion);
+  }
+
   @NonNull
   @Override
   public String format(@Nullable UUID value) {
@@ -18,7 +18,6 @@ package com.datastax.oss.driver.internal.core.type.codec;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
-import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.internal.core.util.Strings;
@@ -107,7 +106,7 @@ import net.jcip.annotations.ThreadSafe;
  * codec.
  */
 @ThreadSafe
-public class TimestampCodec implements TypeCodec<Instant> {
+public class TimestampCodec implements SizedTypeCodec<Instant> {
 
   /**
    * Patterns accepted by Apache Cassandra(R) 3.0 and higher when parsing CQL literals.
@@ -235,6 +234,19 @@ public class TimestampCodec implements TypeCodec<Instant> {
         : TypeCodecs.BIGINT.encodePrimitive(value.toEpochMilli(), protocolVersion);
   }
 
+  @Override
+  public int encodedSize(@NonNull Instant value, @NonNull ProtocolVersion protocolVersion) {
+    return 8;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Instant value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
+    target.putLong(value.toEpochMilli());
+  }
+
   @Nullable
   @Override
   public Instant decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
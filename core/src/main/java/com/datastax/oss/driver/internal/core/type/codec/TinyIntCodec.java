@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class TinyIntCodec implements PrimitiveByteCodec {
+public class TinyIntCodec implements PrimitiveByteCodec, SizedTypeCodec<Byte> {
   @NonNull
   @Override
   public GenericType<Byte> getJavaType() {
@@ -57,6 +57,17 @@ public class TinyIntCodec implements PrimitiveByteCodec {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull Byte value, @NonNull ProtocolVersion protocolVersion) {
+    return 1;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull Byte value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.put(value);
+  }
+
   @Override
   public byte decodePrimitive(
       @Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
@@ -29,7 +29,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class TupleCodec implements TypeCodec<TupleValue> {
+public class TupleCodec implements SizedTypeCodec<TupleValue> {
 
   private final TupleType cqlType;
 
@@ -62,31 +62,32 @@ public class TupleCodec implements TypeCodec<TupleValue> {
   @Nullable
   @Override
   public ByteBuffer encode(@Nullable TupleValue value, @NonNull ProtocolVersion protocolVersion) {
-    if (value == null) {
-      return null;
-    }
+    return (value == null) ? null : SizedEncoding.encode(this, value, protocolVersion);
+  }
+
+  @Override
+  public int encodedSize(@NonNull TupleValue value, @NonNull ProtocolVersion protocolVersion) {
     if (!value.getType().equals(cqlType)) {
       throw new IllegalArgumentException(
           String.format("Invalid tuple type, expected %s but got %s", cqlType, value.getType()));
     }
     // Encoding: each field as a [bytes] value ([bytes] = int length + contents, null is
     // represented by -1)
-    int toAllocate = 0;
+    int size = 0;
     for (int i = 0; i < value.size(); i++) {
-      ByteBuffer field = value.getBytesUnsafe(i);
-      toAllocate += 4 + (field == null ? 0 : field.remaining());
+      size += SizedEncoding.bytesSize(value.getBytesUnsafe(i));
     }
-    ByteBuffer result = ByteBuffer.allocate(toAllocate);
+    return size;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull TupleValue value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
     for (int i = 0; i < value.size(); i++) {
-      ByteBuffer field = value.getBytesUnsafe(i);
-      if (field == null) {
-        result.putInt(-1);
-      } else {
-        result.putInt(field.remaining());
-        result.put(field.duplicate());
-      }
+      SizedEncoding.writeBytes(value.getBytesUnsafe(i), target);
     }
-    return (ByteBuffer) result.flip();
   }
 
   @Nullable
@@ -30,7 +30,7 @@ import java.nio.ByteBuffer;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class UdtCodec implements TypeCodec<UdtValue> {
+public class UdtCodec implements SizedTypeCodec<UdtValue> {
 
   private final UserDefinedType cqlType;
 
@@ -63,9 +63,11 @@ public class UdtCodec implements TypeCodec<UdtValue> {
   @Nullable
   @Override
   public ByteBuffer encode(@Nullable UdtValue value, @NonNull ProtocolVersion protocolVersion) {
-    if (value == null) {
-      return null;
-    }
+    return (value == null) ? null : SizedEncoding.encode(this, value, protocolVersion);
+  }
+
+  @Override
+  public int encodedSize(@NonNull UdtValue value, @NonNull ProtocolVersion protocolVersion) {
     if (!value.getType().equals(cqlType)) {
       throw new IllegalArgumentException(
           String.format(
@@ -73,23 +75,21 @@ public class UdtCodec implements TypeCodec<UdtValue> {
     }
     // Encoding: each field as a [bytes] value ([bytes] = int length + contents, null is
     // represented by -1)
-    int toAllocate = 0;
-    int size = cqlType.getFieldTypes().size();
-    for (int i = 0; i < size; i++) {
-      ByteBuffer field = value.getBytesUnsafe(i);
-      toAllocate += 4 + (field == null ? 0 : field.remaining());
+    int size = 0;
+    for (int i = 0; i < value.size(); i++) {
+      size += SizedEncoding.bytesSize(value.getBytesUnsafe(i));
     }
-    ByteBuffer result = ByteBuffer.allocate(toAllocate);
+    return size;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull UdtValue value,
+      @NonNull ByteBuffer target,
+      @NonNull ProtocolVersion protocolVersion) {
     for (int i = 0; i < value.size(); i++) {
-      ByteBuffer field = value.getBytesUnsafe(i);
-      if (field == null) {
-        result.putInt(-1);
-      } else {
-        result.putInt(field.remaining());
-        result.put(field.duplicate());
-      }
+      SizedEncoding.writeBytes(value.getBytesUnsafe(i), target);
     }
-    return (ByteBuffer) result.flip();
   }
 
   @Nullable
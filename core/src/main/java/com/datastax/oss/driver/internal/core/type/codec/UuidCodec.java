@@ -18,7 +18,6 @@ package com.datastax.oss.driver.internal.core.type.codec;
 import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
-import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import edu.umd.cs.findbugs.annotations.NonNull;
 import edu.umd.cs.findbugs.annotations.Nullable;
@@ -27,7 +26,7 @@ import java.util.UUID;
 import net.jcip.annotations.ThreadSafe;
 
 @ThreadSafe
-public class UuidCodec implements TypeCodec<UUID> {
+public class UuidCodec implements SizedTypeCodec<UUID> {
   @NonNull
   @Override
   public GenericType<UUID> getJavaType() {
@@ -62,6 +61,18 @@ public class UuidCodec implements TypeCodec<UUID> {
     return bytes;
   }
 
+  @Override
+  public int encodedSize(@NonNull UUID value, @NonNull ProtocolVersion protocolVersion) {
+    return 16;
+  }
+
+  @Override
+  public void encodeInto(
+      @NonNull UUID value, @NonNull ByteBuffer target, @NonNull ProtocolVersion protocolVersion) {
+    target.putLong(value.getMostSignificantBits());
+    target.putLong(value.getLeastSignificantBits());
+  }
+
   @Nullable
   @Override
   public UUID decode(@Nullable ByteBuffer bytes, @NonNull ProtocolVersion protocolVersion) {
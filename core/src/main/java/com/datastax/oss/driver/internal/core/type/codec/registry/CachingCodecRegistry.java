@@ -605,6 +605,12 @@ public abstract class CachingCodecRegistry implements MutableCodecRegistry {
       } else if (cqlType instanceof CustomType
           && ByteBuffer.class.isAssignableFrom(token.getRawType())) {
         return TypeCodecs.custom(cqlType);
+      } else if (token.getRawType().isArray()) {
+        for (TypeCodec<?> arrayCodec : CodecRegistryConstants.PRIMITIVE_ARRAY_CODECS) {
+          if (arrayCodec.accepts(cqlType) && arrayCodec.accepts(javaType)) {
+            return arrayCodec;
+          }
+        }
       }
       throw new CodecNotFoundException(cqlType, javaType);
     }
@@ -635,6 +641,12 @@ public abstract class CachingCodecRegistry implements MutableCodecRegistry {
       TypeCodec<?> keyCodec = codecFor(keyType, isJavaCovariant);
       TypeCodec<?> valueCodec = codecFor(valueType, isJavaCovariant);
       return TypeCodecs.mapOf(keyCodec, valueCodec);
+    } else if (token.getRawType().isArray()) {
+      for (TypeCodec<?> arrayCodec : CodecRegistryConstants.PRIMITIVE_ARRAY_CODECS) {
+        if (arrayCodec.accepts(javaType)) {
+          return arrayCodec;
+        }
+      }
     }
     throw new CodecNotFoundException(null, javaType);
   }
@@ -17,6 +17,11 @@ package com.datastax.oss.driver.internal.core.type.codec.registry;
 
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.type.codec.DoubleListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.FloatListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.IntListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.LongListToArrayCodec;
+import com.datastax.oss.driver.internal.core.type.codec.LongSetToArrayCodec;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 
@@ -55,4 +60,21 @@ public class CodecRegistryConstants {
         TypeCodecs.COUNTER,
         TypeCodecs.ASCII
       };
+
+  /**
+   * Codecs that map CQL collections of numeric types to Java primitive arrays, without boxing.
+   *
+   * <p>They are only considered when the requested Java type is an array (for example {@code
+   * row.get("scores", int[].class)}); a lookup by CQL type only still returns the regular
+   * collection codec.
+   */
+  public static final TypeCodec<?>[] PRIMITIVE_ARRAY_CODECS =
+      new TypeCodec<?>[] {
+        new IntListToArrayCodec(),
+        // Must be declared before LongSetToArrayCodec so it gets chosen when CQL type not available
+        new LongListToArrayCodec(),
+        new LongSetToArrayCodec(),
+        new FloatListToArrayCodec(),
+        new DoubleListToArrayCodec()
+      };
 }
@@ -0,0 +1,164 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.registry;
+
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.type.codec.registry.DefaultCodecRegistry.CacheKey;
+import edu.umd.cs.findbugs.annotations.NonNull;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import net.jcip.annotations.Immutable;
+import net.jcip.annotations.ThreadSafe;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A caching registry whose lookups do not take any lock, and do not allocate when they hit.
+ *
+ * <p>Lookups by CQL type and Java type first probe a small direct-mapped table, indexed by the
+ * identity hash codes of the arguments, and compared by reference. The CQL types of prepared
+ * statements and of the column definitions of a result set are long-lived instances, and Java
+ * types are usually constants, so they almost always hit there. Each slot holds one immutable
+ * entry, and a miss simply overwrites it: the table is bounded, and updating it never copies
+ * anything. Races are benign, a thread might just miss an entry that was written concurrently.
+ *
+ * <p>Misses go through the regular resolution of {@link CachingCodecRegistry}, where generated
+ * codecs are cached in a {@link ConcurrentHashMap} keyed by CQL type, Java type and covariance,
+ * compared by value, so that short-lived but equal CQL type instances (e.g. from the metadata of
+ * unprepared queries) share a single codec. Unlike {@link DefaultCodecRegistry}'s Guava cache,
+ * there is no access-order bookkeeping on reads. The map is unbounded, like {@link
+ * DefaultCodecRegistry}'s cache with its default settings.
+ */
+@ThreadSafe
+public class LockFreeCodecRegistry extends CachingCodecRegistry {
+
+  private static final Logger LOG = LoggerFactory.getLogger(LockFreeCodecRegistry.class);
+
+  // Must be a power of two
+  private static final int IDENTITY_TABLE_SIZE = 1024;
+
+  private final IdentityEntry[] identityTable = new IdentityEntry[IDENTITY_TABLE_SIZE];
+  private final ConcurrentMap<CacheKey, TypeCodec<?>> codecs = new ConcurrentHashMap<>();
+
+  /** Creates a new instance that accepts user codecs, with the default built-in codecs. */
+  public LockFreeCodecRegistry(@NonNull String logPrefix) {
+    this(logPrefix, CodecRegistryConstants.PRIMITIVE_CODECS);
+  }
+
+  /** Creates a new instance that accepts user codecs, with the given built-in codecs. */
+  public LockFreeCodecRegistry(
+      @NonNull String logPrefix, @NonNull TypeCodec<?>... primitiveCodecs) {
+    super(logPrefix, primitiveCodecs);
+  }
+
+  // The three methods below probe the identity table before the regular resolution. This is
+  // consistent with it: a lookup always resolves to the same codec, since user codecs that collide
+  // with a previous result are rejected by register().
+
+  @NonNull
+  @Override
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(
+      @NonNull DataType cqlType, @NonNull GenericType<JavaTypeT> javaType) {
+    int slot = slot(cqlType, javaType);
+    TypeCodec<JavaTypeT> codec = probe(slot, cqlType, javaType);
+    if (codec == null) {
+      codec = super.codecFor(cqlType, javaType);
+      identityTable[slot] = new IdentityEntry(cqlType, javaType, codec);
+    }
+    return codec;
+  }
+
+  @NonNull
+  @Override
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(
+      @NonNull DataType cqlType, @NonNull Class<JavaTypeT> javaType) {
+    // Probe with the class itself, the regular resolution wraps it in a new GenericType
+    int slot = slot(cqlType, javaType);
+    TypeCodec<JavaTypeT> codec = probe(slot, cqlType, javaType);
+    if (codec == null) {
+      codec = super.codecFor(cqlType, javaType);
+      identityTable[slot] = new IdentityEntry(cqlType, javaType, codec);
+    }
+    return codec;
+  }
+
+  @NonNull
+  @Override
+  public <JavaTypeT> TypeCodec<JavaTypeT> codecFor(@NonNull DataType cqlType) {
+    int slot = slot(cqlType, null);
+    TypeCodec<JavaTypeT> codec = probe(slot, cqlType, null);
+    if (codec == null) {
+      codec = super.codecFor(cqlType);
+      identityTable[slot] = new IdentityEntry(cqlType, null, codec);
+    }
+    return codec;
+  }
+
+  @Override
+  protected TypeCodec<?> getCachedCodec(
+      @Nullable DataType cqlType, @Nullable GenericType<?> javaType, boolean isJavaCovariant) {
+    LOG.trace("[{}] Checking cache", logPrefix);
+    CacheKey key = new CacheKey(cqlType, javaType, isJavaCovariant);
+    TypeCodec<?> codec = codecs.get(key);
+    if (codec == null) {
+      // Don't use computeIfAbsent: creating a codec recurses into this method for nested types,
+      // which ConcurrentHashMap does not support. If two threads race, they create equivalent
+      // codecs and only the first one is kept.
+      codec = createCodec(cqlType, javaType, isJavaCovariant);
+      TypeCodec<?> previous = codecs.putIfAbsent(key, codec);
+      if (previous != null) {
+        codec = previous;
+      }
+    }
+    return codec;
+  }
+
+  @Nullable
+  private <JavaTypeT> TypeCodec<JavaTypeT> probe(
+      int slot, @NonNull DataType cqlType, @Nullable Object javaType) {
+    IdentityEntry entry = identityTable[slot];
+    if (entry != null && entry.cqlType == cqlType && entry.javaType == javaType) {
+      @SuppressWarnings("unchecked")
+      TypeCodec<JavaTypeT> codec = (TypeCodec<JavaTypeT>) entry.codec;
+      return codec;
+    }
+    return null;
+  }
+
+  private static int slot(@NonNull DataType cqlType, @Nullable Object javaType) {
+    int hash = System.identityHashCode(cqlType) * 31 + System.identityHashCode(javaType);
+    // Spread the high bits, identity hash codes are not necessarily well distributed
+    hash ^= (hash >>> 16);
+    return hash & (IDENTITY_TABLE_SIZE - 1);
+  }
+
+  @Immutable
+  private static class IdentityEntry {
+    private final DataType cqlType;
+    // A Class, a GenericType, or null for the default Java type
+    private final Object javaType;
+    private final TypeCodec<?> codec;
+
+    private IdentityEntry(DataType cqlType, @Nullable Object javaType, TypeCodec<?> codec) {
+      this.cqlType = cqlType;
+      this.javaType = javaType;
+      this.codec = codec;
+    }
+  }
+}
@@ -115,4 +115,10 @@ public abstract class CountingIterator<ElementT> implements Iterator<ElementT> {
     }
     return next;
   }
+
+  // Added to original Guava code: whether the next element was already computed (by hasNext or
+  // peek), but not returned yet
+  protected final boolean isNextComputed() {
+    return state == State.READY;
+  }
 }
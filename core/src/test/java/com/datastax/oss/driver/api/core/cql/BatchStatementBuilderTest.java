@@ -0,0 +1,118 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.context.DriverContext;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.internal.core.cql.PreEncodedBatchStatement;
+import com.datastax.oss.driver.internal.core.util.Sizes;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BatchStatementBuilderTest {
+
+  private DriverContext context;
+
+  @Before
+  public void setup() {
+    context = mock(DriverContext.class);
+    when(context.getProtocolVersion()).thenReturn(DefaultProtocolVersion.V4);
+    when(context.getCodecRegistry()).thenReturn(CodecRegistry.DEFAULT);
+  }
+
+  @Test
+  public void should_encode_children_and_track_size() {
+    SimpleStatement statement1 = SimpleStatement.newInstance("INSERT INTO foo (k) VALUES (?)", 1);
+    SimpleStatement statement2 =
+        SimpleStatement.newInstance("INSERT INTO foo (k, v) VALUES (?, ?)", 2, "bar");
+
+    BatchStatementBuilder builder =
+        new BatchStatementBuilder(BatchType.UNLOGGED, context).addStatements(statement1);
+    int size1 = builder.getSizeInBytes();
+    builder.addStatement(statement2);
+
+    assertThat(size1).isEqualTo(innerSize(statement1));
+    assertThat(builder.getSizeInBytes()).isEqualTo(innerSize(statement1) + innerSize(statement2));
+
+    BatchStatement batch = builder.build();
+    assertThat(batch).isInstanceOf(PreEncodedBatchStatement.class);
+    List<List<ByteBuffer>> encodedValues =
+        ((PreEncodedBatchStatement) batch)
+            .getEncodedValues(DefaultProtocolVersion.V4, CodecRegistry.DEFAULT);
+    assertThat(encodedValues)
+        .containsExactly(
+            ImmutableList.of(TypeCodecs.INT.encode(1, DefaultProtocolVersion.V4)),
+            ImmutableList.of(
+                TypeCodecs.INT.encode(2, DefaultProtocolVersion.V4),
+                TypeCodecs.TEXT.encode("bar", DefaultProtocolVersion.V4)));
+    assertThat(
+            ((PreEncodedBatchStatement) batch)
+                .getEncodedValues(DefaultProtocolVersion.V5, CodecRegistry.DEFAULT))
+        .isNull();
+
+    builder.clearStatements();
+    assertThat(builder.getSizeInBytes()).isZero();
+  }
+
+  @Test
+  public void should_reject_named_values_when_encoding() {
+    BatchStatementBuilder builder = new BatchStatementBuilder(BatchType.UNLOGGED, context);
+    SimpleStatement statement =
+        SimpleStatement.builder("INSERT INTO foo (k) VALUES (:k)").addNamedValue("k", 1).build();
+    assertThatThrownBy(() -> builder.addStatement(statement))
+        .isInstanceOf(IllegalArgumentException.class);
+    assertThat(builder.getStatementsCount()).isZero();
+  }
+
+  @Test
+  public void should_not_add_any_statement_if_one_fails_to_encode() {
+    BatchStatementBuilder builder = new BatchStatementBuilder(BatchType.UNLOGGED, context);
+    SimpleStatement valid = SimpleStatement.newInstance("INSERT INTO foo (k) VALUES (?)", 1);
+    SimpleStatement invalid =
+        SimpleStatement.builder("INSERT INTO foo (k) VALUES (:k)").addNamedValue("k", 1).build();
+
+    assertThatThrownBy(() -> builder.addStatements(valid, invalid))
+        .isInstanceOf(IllegalArgumentException.class);
+
+    assertThat(builder.getStatementsCount()).isZero();
+    assertThat(builder.getSizeInBytes()).isZero();
+    assertThat(builder.addStatement(valid).build().size()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_not_encode_without_context() {
+    BatchStatement batch =
+        new BatchStatementBuilder(BatchType.UNLOGGED)
+            .addStatement(SimpleStatement.newInstance("INSERT INTO foo (k) VALUES (?)", 1))
+            .build();
+    assertThat(batch).isNotInstanceOf(PreEncodedBatchStatement.class);
+  }
+
+  private int innerSize(SimpleStatement statement) {
+    return Sizes.sizeOfInnerBatchStatementInBytes(
+        statement, DefaultProtocolVersion.V4, CodecRegistry.DEFAULT);
+  }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.junit.Before;
+import org.junit.Test;
+
+public class BoundStatementBuilderTest {
+
+  private BoundStatementBuilder builder;
+
+  @Before
+  public void setup() {
+    ColumnDefinition column = mock(ColumnDefinition.class);
+    when(column.getType()).thenReturn(DataTypes.INT);
+    ColumnDefinitions variableDefinitions = mock(ColumnDefinitions.class);
+    when(variableDefinitions.size()).thenReturn(2);
+    when(variableDefinitions.get(0)).thenReturn(column);
+    when(variableDefinitions.get(1)).thenReturn(column);
+
+    builder =
+        new BoundStatementBuilder(
+            mock(PreparedStatement.class),
+            variableDefinitions,
+            new ByteBuffer[] {ProtocolConstants.UNSET_VALUE, ProtocolConstants.UNSET_VALUE},
+            null,
+            null,
+            null,
+            null,
+            null,
+            Collections.emptyMap(),
+            null,
+            false,
+            Statement.NO_DEFAULT_TIMESTAMP,
+            null,
+            Integer.MIN_VALUE,
+            null,
+            null,
+            null,
+            CodecRegistry.DEFAULT,
+            DefaultProtocolVersion.V4);
+  }
+
+  @Test
+  public void should_not_affect_built_statements_when_reused() {
+    BoundStatement statement1 = builder.setInt(0, 1).setInt(1, 2).build();
+    // Only change one value for the next row
+    BoundStatement statement2 = builder.setInt(1, 3).build();
+
+    assertThat(statement1.getInt(0)).isEqualTo(1);
+    assertThat(statement1.getInt(1)).isEqualTo(2);
+    assertThat(statement2.getInt(0)).isEqualTo(1);
+    assertThat(statement2.getInt(1)).isEqualTo(3);
+  }
+
+  @Test
+  public void should_unset_values_on_reset() {
+    BoundStatement statement1 = builder.setInt(0, 1).setInt(1, 2).build();
+    BoundStatement statement2 = builder.reset().setInt(0, 4).build();
+
+    assertThat(statement1.getInt(0)).isEqualTo(1);
+    assertThat(statement1.getInt(1)).isEqualTo(2);
+    assertThat(statement2.getInt(0)).isEqualTo(4);
+    assertThat(statement2.isSet(1)).isFalse();
+  }
+
+  @Test
+  public void should_expose_encoded_values() {
+    BoundStatement statement = builder.setInt(0, 1).setInt(1, 2).build();
+
+    assertThat(statement.getValues())
+        .containsExactly(
+            TypeCodecs.INT.encode(1, DefaultProtocolVersion.V4),
+            TypeCodecs.INT.encode(2, DefaultProtocolVersion.V4));
+  }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.data;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import org.junit.Test;
+
+public class Utf8ViewTest {
+
+  @Test
+  public void should_compare_ascii_values_without_decoding() {
+    Utf8View view = view("xxFRANCExx", 2, 6);
+
+    assertThat(view.isAscii()).isTrue();
+    assertThat(view.byteLength()).isEqualTo(6);
+    assertThat(view.length()).isEqualTo(6);
+    assertThat(view.charAt(1)).isEqualTo('R');
+    assertThat(view.contentEquals("FRANCE")).isTrue();
+    assertThat(view.contentEquals("FRANCA")).isFalse();
+    assertThat(view.contentEquals("FRANC")).isFalse();
+    assertThat(view.subSequence(1, 3).toString()).isEqualTo("RA");
+    assertThat(view).isEqualTo(view("FRANCE", 0, 6));
+    assertThat(view.hashCode()).isEqualTo(view("FRANCE", 0, 6).hashCode());
+    assertThat(view).isNotEqualTo(view("FRANCA", 0, 6));
+  }
+
+  @Test
+  public void should_handle_non_ascii_values() {
+    Utf8View view = view("données", 0, "données".getBytes(StandardCharsets.UTF_8).length);
+
+    assertThat(view.isAscii()).isFalse();
+    assertThat(view.byteLength()).isEqualTo(8);
+    assertThat(view.length()).isEqualTo(7);
+    assertThat(view.charAt(2)).isEqualTo('n');
+    assertThat(view.charAt(4)).isEqualTo('é');
+    assertThat(view.contentEquals("données")).isTrue();
+    assertThat(view.toString()).isEqualTo("données");
+  }
+
+  @Test
+  public void should_order_by_code_points() {
+    assertThat(view("abc", 0, 3).compareTo(view("abd", 0, 3))).isNegative();
+    assertThat(view("ab", 0, 2).compareTo(view("abc", 0, 3))).isNegative();
+    assertThat(view("abc", 0, 3).compareTo(view("abc", 0, 3))).isZero();
+    // Non-ASCII bytes are negative as signed bytes, but must sort after ASCII characters
+    assertThat(view("é", 0, 2).compareTo(view("z", 0, 1))).isPositive();
+  }
+
+  @Test
+  public void should_not_modify_underlying_buffer() {
+    ByteBuffer buffer = ByteBuffer.wrap("hello".getBytes(StandardCharsets.UTF_8));
+    Utf8View view = Utf8View.wrap(buffer);
+
+    view.toString();
+    ByteBuffer bytes = view.asByteBuffer();
+
+    assertThat(buffer.position()).isEqualTo(0);
+    assertThat(bytes.isReadOnly()).isTrue();
+    assertThat(bytes.remaining()).isEqualTo(5);
+  }
+
+  private static Utf8View view(String s, int offset, int length) {
+    byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+    return Utf8View.wrap(ByteBuffer.wrap(bytes, offset, length));
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.api.core.paging;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BatchStatement;
+import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.paging.OffsetPager.Page;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.junit.Before;
+import org.junit.Test;
+
+public class OffsetPagerSessionTest {
+
+  private static final SimpleStatement STATEMENT = SimpleStatement.newInstance("SELECT * FROM foo");
+
+  private CqlSession session;
+  private List<Row> rows;
+  // The offsets that each query execution started from (0 = no paging state)
+  private List<Integer> executionOffsets;
+  private Map<Integer, AsyncResultSet> protocolPages;
+
+  @Before
+  public void setup() {
+    rows = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      rows.add(mock(Row.class));
+    }
+    executionOffsets = new ArrayList<>();
+    protocolPages = new HashMap<>();
+
+    session = mock(CqlSession.class);
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(
+            invocation -> {
+              Statement<?> statement = invocation.getArgument(0);
+              ByteBuffer pagingState = statement.getPagingState();
+              int offset = (pagingState == null) ? 0 : pagingState.getInt(0);
+              executionOffsets.add(offset);
+              return CompletableFuture.completedFuture(
+                  protocolPage(offset, statement.getPageSize()));
+            });
+  }
+
+  @Test
+  public void should_skip_protocol_pages_before_target_page() {
+    OffsetPager pager = new OffsetPager(3);
+
+    Page<Row> page = pager.getPage(session, STATEMENT, 3);
+
+    assertThat(page.getElements()).containsExactlyElementsOf(rows.subList(6, 9));
+    assertThat(page.getPageNumber()).isEqualTo(3);
+    assertThat(page.isLast()).isFalse();
+    verify(protocolPages.get(0), never()).currentPage();
+    verify(protocolPages.get(3), never()).currentPage();
+  }
+
+  @Test
+  public void should_resume_from_cached_paging_state() {
+    OffsetPager pager = new OffsetPager(3, 100);
+
+    CompletableFutures.getCompleted(pager.getPageAsync(session, STATEMENT, 3));
+    Page<Row> page = CompletableFutures.getCompleted(pager.getPageAsync(session, STATEMENT, 4));
+
+    assertThat(page.getElements()).containsExactly(rows.get(9));
+    assertThat(page.getPageNumber()).isEqualTo(4);
+    assertThat(page.isLast()).isTrue();
+    assertThat(executionOffsets).containsExactly(0, 9);
+  }
+
+  @Test
+  public void should_not_share_paging_states_across_statements() {
+    OffsetPager pager = new OffsetPager(3, 100);
+
+    pager.getPage(session, STATEMENT, 3);
+    pager.getPage(session, SimpleStatement.newInstance("SELECT * FROM bar"), 3);
+
+    assertThat(executionOffsets).containsExactly(0, 0);
+  }
+
+  @Test
+  public void should_return_last_page_when_past_the_end() {
+    OffsetPager pager = new OffsetPager(3, 100);
+
+    Page<Row> page = pager.getPage(session, STATEMENT, 6);
+
+    assertThat(page.getElements()).containsExactly(rows.get(9));
+    assertThat(page.getPageNumber()).isEqualTo(4);
+    assertThat(page.isLast()).isTrue();
+    // The last page is extracted from the protocol pages that were already fetched
+    assertThat(executionOffsets).containsExactly(0);
+  }
+
+  @Test
+  public void should_return_last_page_when_past_the_end_without_cache() {
+    OffsetPager pager = new OffsetPager(3);
+
+    Page<Row> page = pager.getPage(session, STATEMENT.setPageSize(6), 6);
+
+    assertThat(page.getElements()).containsExactly(rows.get(9));
+    assertThat(page.getPageNumber()).isEqualTo(4);
+    assertThat(page.isLast()).isTrue();
+    assertThat(executionOffsets).containsExactly(0);
+  }
+
+  @Test
+  public void should_return_full_last_page_when_past_the_end() {
+    rows.remove(9);
+    OffsetPager pager = new OffsetPager(3);
+
+    Page<Row> page = pager.getPage(session, STATEMENT, 5);
+
+    assertThat(page.getElements()).containsExactlyElementsOf(rows.subList(6, 9));
+    assertThat(page.getPageNumber()).isEqualTo(3);
+    assertThat(page.isLast()).isTrue();
+    assertThat(executionOffsets).containsExactly(0);
+    verify(protocolPages.get(0), never()).currentPage();
+  }
+
+  @Test
+  public void should_query_last_page_again_if_cached_paging_state_is_past_the_end() {
+    OffsetPager pager = new OffsetPager(3, 100);
+    pager.getPage(session, STATEMENT, 4);
+    rows.remove(9);
+
+    Page<Row> page = pager.getPage(session, STATEMENT, 4);
+
+    assertThat(page.getElements()).containsExactlyElementsOf(rows.subList(6, 9));
+    assertThat(page.getPageNumber()).isEqualTo(3);
+    assertThat(page.isLast()).isTrue();
+    assertThat(executionOffsets).containsExactly(0, 9, 6);
+  }
+
+  @Test
+  public void should_return_empty_first_page_when_result_is_empty() {
+    rows.clear();
+    OffsetPager pager = new OffsetPager(3);
+
+    Page<Row> page = pager.getPage(session, STATEMENT, 2);
+
+    assertThat(page.getElements()).isEmpty();
+    assertThat(page.getPageNumber()).isEqualTo(1);
+    assertThat(page.isLast()).isTrue();
+    assertThat(executionOffsets).containsExactly(0);
+  }
+
+  @Test
+  public void should_fail_if_statement_cannot_be_cached() {
+    OffsetPager pager = new OffsetPager(3, 100);
+    BatchStatement batch = BatchStatement.newInstance(DefaultBatchType.LOGGED, STATEMENT);
+
+    assertThatThrownBy(() -> pager.getPageAsync(session, batch, 1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  /** Simulates the server: the paging state is the offset of the next row to return. */
+  private AsyncResultSet protocolPage(int offset, int fetchSize) {
+    int end = Math.min(offset + fetchSize, rows.size());
+    boolean hasMorePages = end < rows.size();
+
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+    when(resultSet.remaining()).thenReturn(end - offset);
+    when(resultSet.currentPage()).thenReturn(new ArrayList<>(rows.subList(offset, end)));
+    when(resultSet.hasMorePages()).thenReturn(hasMorePages);
+    when(resultSet.getExecutionInfo()).thenReturn(executionInfo);
+    if (hasMorePages) {
+      ByteBuffer pagingState = ByteBuffer.allocate(4);
+      pagingState.putInt(0, end);
+      when(executionInfo.getPagingState()).thenReturn(pagingState);
+      when(resultSet.fetchNextPage())
+          .thenAnswer(
+              invocation -> CompletableFuture.completedFuture(protocolPage(end, fetchSize)));
+    }
+    protocolPages.put(offset, resultSet);
+    return resultSet;
+  }
+}
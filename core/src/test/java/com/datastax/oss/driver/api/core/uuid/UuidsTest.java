@@ -27,12 +27,17 @@ import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 
@@ -244,6 +249,45 @@ public class UuidsTest {
     }
   }
 
+  @Test
+  public void should_generate_unique_striped_uuids_across_threads() throws Exception {
+    int threadCount = 10;
+    int uuidsPerThread = 10_000;
+    Set<UUID> generated = new ConcurrentSkipListSet<>();
+    // Also mix in UUIDs from the regular generator, they must never collide
+    for (int i = 0; i < uuidsPerThread; i++) {
+      generated.add(Uuids.timeBased());
+    }
+
+    // Run the assertions in futures, so that failures in the generating threads fail the test
+    ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+    try {
+      List<Future<?>> generators = new ArrayList<>();
+      for (int i = 0; i < threadCount; i++) {
+        generators.add(
+            executor.submit(
+                () -> {
+                  long previous = 0;
+                  for (int j = 0; j < uuidsPerThread; j++) {
+                    UUID uuid = Uuids.stripedTimeBased();
+                    assertThat(uuid.version()).isEqualTo(1);
+                    assertThat(uuid.variant()).isEqualTo(2);
+                    assertThat(uuid.timestamp()).isGreaterThan(previous);
+                    previous = uuid.timestamp();
+                    generated.add(uuid);
+                  }
+                }));
+      }
+      for (Future<?> generator : generators) {
+        generator.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+
+    assertThat(generated).hasSize((threadCount + 1) * uuidsPerThread);
+  }
+
   @Test
   public void should_generate_within_bounds_for_given_timestamp() {
 
@@ -0,0 +1,146 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.session.DefaultSession;
+import com.datastax.oss.driver.internal.core.session.RepreparePayload;
+import com.datastax.oss.protocol.internal.response.result.Prepared;
+import com.datastax.oss.protocol.internal.response.result.RowsMetadata;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class CqlPrepareAsyncProcessorTest {
+
+  @Mock private DefaultSession session;
+  @Mock private InternalDriverContext context;
+
+  private ConcurrentMap<ByteBuffer, RepreparePayload> repreparePayloads;
+
+  @Before
+  public void setup() {
+    repreparePayloads = new ConcurrentHashMap<>();
+    when(session.getRepreparePayloads()).thenReturn(repreparePayloads);
+  }
+
+  @Test
+  public void should_serve_cached_statement_and_record_hit() {
+    CqlPrepareAsyncProcessor processor = new CqlPrepareAsyncProcessor(10);
+    PrepareRequest request = mock(PrepareRequest.class);
+    DefaultPreparedStatement statement = prepared("0x01", request, processor);
+
+    assertThat(processor.process(request, session, context, "test").toCompletableFuture().join())
+        .isSameAs(statement);
+    assertThat(processor.getCache().stats().hitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void should_forget_reprepare_payload_when_statement_is_evicted() {
+    CqlPrepareAsyncProcessor processor = new CqlPrepareAsyncProcessor(1);
+    PrepareRequest request1 = mock(PrepareRequest.class);
+    PrepareRequest request2 = mock(PrepareRequest.class);
+    DefaultPreparedStatement statement1 = prepared("0x01", request1, processor);
+    // Capture the session's payloads
+    processor.process(request1, session, context, "test");
+    assertThat(repreparePayloads).containsKey(statement1.getId());
+
+    prepared("0x02", request2, processor);
+
+    assertThat(processor.getCache().stats().evictionCount()).isEqualTo(1);
+    assertThat(repreparePayloads).doesNotContainKey(statement1.getId());
+    assertThat(repreparePayloads).hasSize(1);
+  }
+
+  @Test
+  public void should_find_reprepare_payload_in_executed_statement() {
+    DefaultPreparedStatement preparedStatement = preparedStatement("0x01");
+    BoundStatement boundStatement = mock(BoundStatement.class);
+    when(boundStatement.getPreparedStatement()).thenReturn(preparedStatement);
+
+    assertThat(
+            Conversions.findRepreparePayload(
+                preparedStatement.getId(), boundStatement, Collections.emptyMap()))
+        .isSameAs(preparedStatement.getRepreparePayload());
+    assertThat(
+            Conversions.findRepreparePayload(
+                Bytes.fromHexString("0x02"), boundStatement, Collections.emptyMap()))
+        .isNull();
+  }
+
+  @Test
+  public void should_serve_persisted_statement_without_contacting_server() {
+    PreparedStatementStore store = mock(PreparedStatementStore.class);
+    PrepareRequest request = new DefaultPrepareRequest("SELECT * FROM foo");
+    when(store.get(request, null))
+        .thenReturn(
+            new Prepared(
+                Bytes.getArray(Bytes.fromHexString("0x01")),
+                null,
+                new RowsMetadata(Collections.emptyList(), null, new int[0], null),
+                new RowsMetadata(Collections.emptyList(), null, null, null)));
+    when(session.getKeyspace()).thenReturn(Optional.empty());
+    when(context.getProtocolVersion()).thenReturn(DefaultProtocolVersion.V4);
+    CqlPrepareAsyncProcessor processor = new CqlPrepareAsyncProcessor(10, store);
+
+    PreparedStatement statement =
+        processor.process(request, session, context, "test").toCompletableFuture().join();
+
+    assertThat(Bytes.toHexString(statement.getId())).isEqualTo("0x01");
+    assertThat(repreparePayloads).containsKey(statement.getId());
+    verify(session, never()).getChannel(any(), any());
+  }
+
+  // Simulates a completed prepare request
+  private DefaultPreparedStatement prepared(
+      String id, PrepareRequest request, CqlPrepareAsyncProcessor processor) {
+    DefaultPreparedStatement preparedStatement = preparedStatement(id);
+    repreparePayloads.put(preparedStatement.getId(), preparedStatement.getRepreparePayload());
+    processor.getCache().put(request, CompletableFuture.completedFuture(preparedStatement));
+    return preparedStatement;
+  }
+
+  private static DefaultPreparedStatement preparedStatement(String id) {
+    ByteBuffer idBytes = Bytes.fromHexString(id);
+    RepreparePayload payload =
+        new RepreparePayload(idBytes, "mock query", null, Collections.emptyMap());
+    DefaultPreparedStatement preparedStatement = mock(DefaultPreparedStatement.class);
+    when(preparedStatement.getId()).thenReturn(idBytes);
+    when(preparedStatement.getRepreparePayload()).thenReturn(payload);
+    return preparedStatement;
+  }
+}
@@ -104,6 +104,72 @@ public class CqlPrepareHandlerTest {
     }
   }
 
+  @Test
+  public void should_complete_before_other_nodes_if_not_waiting() {
+    RequestHandlerTestHarness.Builder harnessBuilder = RequestHandlerTestHarness.builder();
+    PoolBehavior node1Behavior = harnessBuilder.customBehavior(node1);
+    PoolBehavior node2Behavior = harnessBuilder.customBehavior(node2);
+    PoolBehavior node3Behavior = harnessBuilder.customBehavior(node3);
+
+    try (RequestHandlerTestHarness harness = harnessBuilder.build()) {
+
+      DriverExecutionProfile config = harness.getContext().getConfig().getDefaultProfile();
+      when(config.isDefined(DefaultDriverOption.PREPARE_ON_ALL_NODES_WAIT)).thenReturn(true);
+      when(config.getBoolean(DefaultDriverOption.PREPARE_ON_ALL_NODES_WAIT)).thenReturn(false);
+
+      CompletionStage<PreparedStatement> prepareFuture =
+          new CqlPrepareHandler(PREPARE_REQUEST, harness.getSession(), harness.getContext(), "test")
+              .handle();
+
+      node1Behavior.verifyWrite();
+      node1Behavior.setWriteSuccess();
+      node1Behavior.setResponseSuccess(defaultFrameOf(simplePrepared()));
+
+      // The future completes immediately:
+      assertThatStage(prepareFuture).isSuccess(CqlPrepareHandlerTest::assertMatchesSimplePrepared);
+
+      // But the other nodes are still contacted:
+      node2Behavior.verifyWrite();
+      node3Behavior.verifyWrite();
+    }
+  }
+
+  @Test
+  public void should_limit_parallelism_when_repreparing_on_other_nodes() {
+    RequestHandlerTestHarness.Builder harnessBuilder = RequestHandlerTestHarness.builder();
+    PoolBehavior node1Behavior = harnessBuilder.customBehavior(node1);
+    PoolBehavior node2Behavior = harnessBuilder.customBehavior(node2);
+    PoolBehavior node3Behavior = harnessBuilder.customBehavior(node3);
+
+    try (RequestHandlerTestHarness harness = harnessBuilder.build()) {
+
+      DriverExecutionProfile config = harness.getContext().getConfig().getDefaultProfile();
+      when(config.isDefined(DefaultDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM))
+          .thenReturn(true);
+      when(config.getInt(DefaultDriverOption.PREPARE_ON_ALL_NODES_MAX_PARALLELISM)).thenReturn(1);
+
+      CompletionStage<PreparedStatement> prepareFuture =
+          new CqlPrepareHandler(PREPARE_REQUEST, harness.getSession(), harness.getContext(), "test")
+              .handle();
+
+      node1Behavior.verifyWrite();
+      node1Behavior.setWriteSuccess();
+      node1Behavior.setResponseSuccess(defaultFrameOf(simplePrepared()));
+
+      // Only one other node at a time:
+      node2Behavior.verifyWrite();
+      node3Behavior.verifyNoWrite();
+      node2Behavior.setWriteSuccess();
+      node2Behavior.setResponseSuccess(defaultFrameOf(simplePrepared()));
+
+      node3Behavior.verifyWrite();
+      node3Behavior.setWriteSuccess();
+      node3Behavior.setResponseSuccess(defaultFrameOf(simplePrepared()));
+
+      assertThatStage(prepareFuture).isSuccess(CqlPrepareHandlerTest::assertMatchesSimplePrepared);
+    }
+  }
+
   @Test
   public void should_not_reprepare_on_other_nodes_if_disabled_in_config() {
     RequestHandlerTestHarness.Builder harnessBuilder = RequestHandlerTestHarness.builder();
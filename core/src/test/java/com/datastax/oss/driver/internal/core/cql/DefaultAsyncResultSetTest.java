@@ -17,17 +17,22 @@ package com.datastax.oss.driver.internal.core.cql;
 
 import static com.datastax.oss.driver.Assertions.assertThat;
 import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.CqlSession;
 import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
 import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
 import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnarPage;
 import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.cql.Statement;
 import com.datastax.oss.driver.api.core.type.DataTypes;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
@@ -37,6 +42,7 @@ import com.datastax.oss.driver.shaded.guava.common.collect.Lists;
 import com.datastax.oss.protocol.internal.util.Bytes;
 import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -48,6 +54,8 @@ import org.mockito.MockitoAnnotations;
 
 public class DefaultAsyncResultSetTest {
 
+  private static final ProtocolVersion PROTOCOL_VERSION = DefaultProtocolVersion.DEFAULT;
+
   @Mock private ColumnDefinitions columnDefinitions;
   @Mock private ExecutionInfo executionInfo;
   @Mock private Statement<?> statement;
@@ -103,6 +111,51 @@ public class DefaultAsyncResultSetTest {
     assertThatStage(nextPageFuture).isEqualTo(mockResultFuture);
   }
 
+  @Test
+  public void should_read_ahead_when_prefetch_enabled() {
+    // Given: 4 pages
+    ExecutionInfo info2 = pageInfo(true);
+    ExecutionInfo info3 = pageInfo(true);
+    ExecutionInfo info4 = pageInfo(false);
+    when(executionInfo.getPagingState()).thenReturn(ByteBuffer.allocate(0));
+    when(((Statement) statement).copy(any(ByteBuffer.class))).thenAnswer(i -> statement);
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(page(info2)))
+        .thenReturn(CompletableFuture.completedFuture(page(info3)))
+        .thenReturn(CompletableFuture.completedFuture(page(info4)));
+    DefaultAsyncResultSet page1 = page(executionInfo);
+
+    // When
+    page1.startPrefetch(2);
+
+    // Then: pages 2 and 3 were requested
+    verify(session, times(2)).executeAsync(any(Statement.class));
+
+    // When: the client moves to page 2
+    CompletionStage<AsyncResultSet> page2 = page1.fetchNextPage();
+
+    // Then: page 2 is not requested again, and the window slides to page 4
+    assertThatStage(page2).isSuccess(rs -> assertThat(rs.getExecutionInfo()).isSameAs(info2));
+    verify(session, times(3)).executeAsync(any(Statement.class));
+  }
+
+  @Test
+  public void should_not_keep_next_page_when_prefetch_disabled() {
+    // Given
+    when(executionInfo.getPagingState()).thenReturn(ByteBuffer.allocate(0));
+    when(((Statement) statement).copy(any(ByteBuffer.class))).thenAnswer(i -> statement);
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(i -> CompletableFuture.completedFuture(page(pageInfo(false))));
+    DefaultAsyncResultSet page1 = page(executionInfo);
+
+    // When
+    page1.fetchNextPage();
+    page1.fetchNextPage();
+
+    // Then: each call executes the query, like without read-ahead support
+    verify(session, times(2)).executeAsync(any(Statement.class));
+  }
+
   @Test
   public void should_report_applied_if_column_not_present_and_empty() {
     // Given
@@ -190,4 +243,84 @@ public class DefaultAsyncResultSetTest {
     // Then
     resultSet.wasApplied();
   }
+
+  @Test
+  public void should_decode_current_page_by_column() {
+    // Given
+    ColumnDefinition idDefinition = mock(ColumnDefinition.class);
+    when(idDefinition.getType()).thenReturn(DataTypes.BIGINT);
+    ColumnDefinition nameDefinition = mock(ColumnDefinition.class);
+    when(nameDefinition.getType()).thenReturn(DataTypes.TEXT);
+    when(columnDefinitions.size()).thenReturn(2);
+    when(columnDefinitions.get(0)).thenReturn(idDefinition);
+    when(columnDefinitions.get(1)).thenReturn(nameDefinition);
+
+    Queue<List<ByteBuffer>> data = new ArrayDeque<>();
+    data.add(Lists.newArrayList(encodeLong(1), TypeCodecs.TEXT.encode("foo", PROTOCOL_VERSION)));
+    data.add(Lists.newArrayList(null, TypeCodecs.TEXT.encode("", PROTOCOL_VERSION)));
+    data.add(Lists.newArrayList(encodeLong(3), null));
+
+    // When
+    DefaultAsyncResultSet resultSet =
+        new DefaultAsyncResultSet(columnDefinitions, executionInfo, data, session, context);
+    ColumnarPage page = resultSet.currentColumnarPage().get();
+
+    // Then
+    assertThat(page.getRowCount()).isEqualTo(3);
+    assertThat(page.getLongs(0)).containsExactly(1, 0, 3);
+    assertThat(page.isNull(0, 1)).isTrue();
+    assertThat(page.getNulls(0).cardinality()).isEqualTo(1);
+    assertThat(page.getOffsets(1)).containsExactly(0, 3, 3, 3);
+    assertThat(page.getString(1, 0)).isEqualTo("foo");
+    assertThat(page.getString(1, 1)).isEmpty();
+    assertThat(page.getString(1, 2)).isNull();
+    assertThatThrownBy(() -> page.getInts(0)).isInstanceOf(IllegalArgumentException.class);
+    assertThat(resultSet.remaining()).isEqualTo(0);
+    assertThat(resultSet.currentPage()).isEmpty();
+    assertThat(data).isEmpty();
+  }
+
+  @Test
+  public void should_include_peeked_row_in_columnar_page() {
+    // Given
+    ColumnDefinition idDefinition = mock(ColumnDefinition.class);
+    when(idDefinition.getType()).thenReturn(DataTypes.BIGINT);
+    when(columnDefinitions.size()).thenReturn(1);
+    when(columnDefinitions.get(0)).thenReturn(idDefinition);
+
+    Queue<List<ByteBuffer>> data = new ArrayDeque<>();
+    data.add(Lists.newArrayList(encodeLong(1)));
+    data.add(Lists.newArrayList(encodeLong(2)));
+    data.add(Lists.newArrayList(encodeLong(3)));
+    DefaultAsyncResultSet resultSet =
+        new DefaultAsyncResultSet(columnDefinitions, executionInfo, data, session, context);
+    Iterator<Row> rows = resultSet.currentPage().iterator();
+    assertThat(rows.next().getLong(0)).isEqualTo(1);
+    // Computes the second row, but doesn't consume it
+    assertThat(rows.hasNext()).isTrue();
+
+    // When
+    ColumnarPage page = resultSet.currentColumnarPage().get();
+
+    // Then
+    assertThat(page.getRowCount()).isEqualTo(2);
+    assertThat(page.getLongs(0)).containsExactly(2, 3);
+    assertThat(resultSet.remaining()).isEqualTo(0);
+    assertThat(rows.hasNext()).isFalse();
+  }
+
+  private static ByteBuffer encodeLong(long value) {
+    return TypeCodecs.BIGINT.encodePrimitive(value, PROTOCOL_VERSION);
+  }
+
+  private ExecutionInfo pageInfo(boolean hasMorePages) {
+    ExecutionInfo info = mock(ExecutionInfo.class);
+    when(info.getRequest()).thenAnswer(i -> statement);
+    when(info.getPagingState()).thenReturn(hasMorePages ? ByteBuffer.allocate(0) : null);
+    return info;
+  }
+
+  private DefaultAsyncResultSet page(ExecutionInfo info) {
+    return new DefaultAsyncResultSet(columnDefinitions, info, new ArrayDeque<>(), session, context);
+  }
 }
@@ -0,0 +1,107 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ColumnReader;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.junit.Test;
+
+public class DefaultColumnReaderTest {
+
+  @Test
+  public void should_read_columns_by_name_and_identifier() {
+    ColumnDefinitions definitions = definitions("id", "name");
+    Row row = row(definitions, 1, "foo");
+
+    assertThat(ColumnReader.of("id", Integer.class).read(row)).isEqualTo(1);
+    assertThat(ColumnReader.of("NAME", String.class).read(row)).isEqualTo("foo");
+    assertThat(ColumnReader.of(CqlIdentifier.fromInternal("name"), GenericType.STRING).read(row))
+        .isEqualTo("foo");
+  }
+
+  @Test
+  public void should_resolve_column_once_per_column_definitions() {
+    ColumnDefinitions definitions = spy(definitions("id", "name"));
+    ColumnReader<String> reader = ColumnReader.of("name", String.class);
+
+    assertThat(reader.read(row(definitions, 1, "foo"))).isEqualTo("foo");
+    assertThat(reader.read(row(definitions, 2, "bar"))).isEqualTo("bar");
+    assertThat(reader.read(row(definitions, 3, "baz"))).isEqualTo("baz");
+
+    verify(definitions, times(1)).firstIndexOf("name");
+  }
+
+  @Test
+  public void should_rebind_if_column_definitions_change() {
+    ColumnReader<String> reader = ColumnReader.of("name", String.class);
+
+    assertThat(reader.read(row(definitions("id", "name"), 1, "foo"))).isEqualTo("foo");
+    assertThat(reader.read(row(definitions("name", "id"), "bar", 2))).isEqualTo("bar");
+  }
+
+  @Test
+  public void should_fail_if_column_does_not_exist() {
+    ColumnReader<String> reader = ColumnReader.of("missing", String.class);
+    Row row = row(definitions("id", "name"), 1, "foo");
+    assertThatThrownBy(() -> reader.read(row))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("missing is not a column in this row");
+  }
+
+  private static ColumnDefinitions definitions(String... names) {
+    ImmutableList.Builder<ColumnDefinition> definitions = ImmutableList.builder();
+    for (int i = 0; i < names.length; i++) {
+      int typeCode =
+          names[i].equals("id")
+              ? ProtocolConstants.DataType.INT
+              : ProtocolConstants.DataType.VARCHAR;
+      definitions.add(
+          new DefaultColumnDefinition(
+              new ColumnSpec("ks", "table", names[i], i, RawType.PRIMITIVES.get(typeCode)),
+              AttachmentPoint.NONE));
+    }
+    return DefaultColumnDefinitions.valueOf(definitions.build());
+  }
+
+  private static Row row(ColumnDefinitions definitions, Object value1, Object value2) {
+    return new DefaultRow(definitions, Arrays.asList(encode(value1), encode(value2)));
+  }
+
+  private static ByteBuffer encode(Object value) {
+    return (value instanceof Integer)
+        ? TypeCodecs.INT.encode((Integer) value, ProtocolVersion.DEFAULT)
+        : TypeCodecs.TEXT.encode((String) value, ProtocolVersion.DEFAULT);
+  }
+}
@@ -0,0 +1,307 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.NoNodeAvailableException;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.cql.Statement;
+import com.datastax.oss.driver.api.core.cql.TableScan;
+import com.datastax.oss.driver.api.core.cql.TableScanListener;
+import com.datastax.oss.driver.api.core.loadbalancing.NodeDistance;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metadata.TokenMap;
+import com.datastax.oss.driver.api.core.metadata.schema.ColumnMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.KeyspaceMetadata;
+import com.datastax.oss.driver.api.core.metadata.schema.TableMetadata;
+import com.datastax.oss.driver.api.core.metadata.token.TokenRange;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3Token;
+import com.datastax.oss.driver.internal.core.metadata.token.Murmur3TokenRange;
+import com.datastax.oss.driver.internal.core.util.concurrent.CompletableFutures;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableSet;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class DefaultTableScanTest {
+
+  private static final CqlIdentifier KS_ID = CqlIdentifier.fromInternal("ks");
+  private static final CqlIdentifier TABLE_ID = CqlIdentifier.fromInternal("foo");
+
+  // The ring is split in two ranges, the second one wraps around
+  private static final TokenRange RANGE1 = range(-4611686018427387904L, 4611686018427387904L);
+  private static final TokenRange RANGE2 = range(4611686018427387904L, -4611686018427387904L);
+
+  @Mock private CqlSession session;
+  @Mock private Metadata metadata;
+  @Mock private TokenMap tokenMap;
+  @Mock private KeyspaceMetadata keyspaceMetadata;
+  @Mock private TableMetadata tableMetadata;
+  @Mock private ColumnMetadata partitionKey;
+  @Mock private PreparedStatement preparedStatement;
+  @Mock private Node node1;
+  @Mock private Node node2;
+
+  @Before
+  public void setup() {
+    when(session.getMetadata()).thenReturn(metadata);
+    when(metadata.getTokenMap()).thenReturn(Optional.of(tokenMap));
+    when(metadata.getKeyspace(KS_ID)).thenReturn(Optional.of(keyspaceMetadata));
+    when(keyspaceMetadata.getTable(TABLE_ID)).thenReturn(Optional.of(tableMetadata));
+    when(tableMetadata.getPartitionKey()).thenReturn(ImmutableList.of(partitionKey));
+    when(partitionKey.getName()).thenReturn(CqlIdentifier.fromInternal("k"));
+
+    when(tokenMap.getTokenRanges()).thenReturn(ImmutableSet.of(RANGE1, RANGE2));
+    when(tokenMap.getReplicas(any(CqlIdentifier.class), any(TokenRange.class)))
+        .thenReturn(ImmutableSet.of(node1, node2));
+    when(node1.getState()).thenReturn(NodeState.UP);
+    when(node2.getState()).thenReturn(NodeState.UP);
+    when(node1.getDistance()).thenReturn(NodeDistance.LOCAL);
+    when(node2.getDistance()).thenReturn(NodeDistance.LOCAL);
+
+    when(session.prepareAsync(anyString()))
+        .thenReturn(CompletableFuture.completedFuture(preparedStatement));
+    when(preparedStatement.bind()).thenAnswer(i -> mock(BoundStatement.class, RETURNS_SELF));
+  }
+
+  @Test
+  public void should_split_and_unwrap_ranges() {
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).withSplitsPerRange(2).build();
+
+    List<TokenRange> ranges = scan.computeRanges(session);
+
+    assertThat(ranges)
+        .containsExactlyInAnyOrder(
+            range(-4611686018427387904L, 0),
+            range(0, 4611686018427387904L),
+            // The split point of the second range falls just after the end of the ring, so the
+            // first half wraps around and gets unwrapped
+            range(4611686018427387904L, Long.MIN_VALUE),
+            range(Long.MIN_VALUE, Long.MIN_VALUE + 1),
+            range(Long.MIN_VALUE + 1, -4611686018427387904L));
+  }
+
+  @Test
+  public void should_skip_completed_ranges() {
+    TableScan scan =
+        TableScan.builder(KS_ID, TABLE_ID).withCompletedRanges(ImmutableList.of(RANGE1)).build();
+
+    List<TokenRange> ranges = scan.computeRanges(session);
+
+    assertThat(ranges)
+        .containsExactlyInAnyOrder(
+            range(4611686018427387904L, Long.MIN_VALUE),
+            range(Long.MIN_VALUE, -4611686018427387904L));
+  }
+
+  @Test
+  public void should_scan_all_ranges() {
+    Row row = mock(Row.class);
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.currentPage()).thenReturn(ImmutableList.of(row));
+    when(resultSet.hasMorePages()).thenReturn(false);
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(resultSet));
+    Set<TokenRange> scanned = ConcurrentHashMap.newKeySet();
+    Set<TokenRange> completed = ConcurrentHashMap.newKeySet();
+
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).withMaxConcurrencyPerNode(2).build();
+    assertThatStage(
+            scan.executeAsync(
+                session,
+                new TableScanListener() {
+                  @Override
+                  public void onRow(TokenRange range, Row r) {
+                    scanned.add(range);
+                  }
+
+                  @Override
+                  public void onRangeCompleted(TokenRange range) {
+                    completed.add(range);
+                  }
+                }))
+        .isSuccess();
+
+    assertThat(scanned).hasSize(3);
+    assertThat(completed).isEqualTo(scanned);
+  }
+
+  @Test
+  public void should_send_queries_to_assigned_replica() {
+    // Given
+    List<BoundStatement> statements = new ArrayList<>();
+    when(preparedStatement.bind())
+        .thenAnswer(
+            i -> {
+              BoundStatement statement = mock(BoundStatement.class, RETURNS_SELF);
+              statements.add(statement);
+              return statement;
+            });
+    when(node2.getState()).thenReturn(NodeState.DOWN);
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.currentPage()).thenReturn(ImmutableList.of());
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(resultSet));
+
+    // When
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).build();
+    assertThatStage(scan.executeAsync(session, (range, row) -> {})).isSuccess();
+
+    // Then: all subranges go to the only replica that is up
+    assertThat(statements).hasSize(3);
+    for (BoundStatement statement : statements) {
+      verify(statement).setNode(node1);
+    }
+  }
+
+  @Test
+  public void should_not_send_queries_to_remote_replica() {
+    // Given
+    List<BoundStatement> statements = new ArrayList<>();
+    when(preparedStatement.bind())
+        .thenAnswer(
+            i -> {
+              BoundStatement statement = mock(BoundStatement.class, RETURNS_SELF);
+              statements.add(statement);
+              return statement;
+            });
+    when(node2.getDistance()).thenReturn(NodeDistance.REMOTE);
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.currentPage()).thenReturn(ImmutableList.of());
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(CompletableFuture.completedFuture(resultSet));
+
+    // When
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).build();
+    assertThatStage(scan.executeAsync(session, (range, row) -> {})).isSuccess();
+
+    // Then: all subranges go to the local replica, even if the remote one is up
+    assertThat(statements).hasSize(3);
+    for (BoundStatement statement : statements) {
+      verify(statement).setNode(node1);
+      verify(statement, never()).setNode(node2);
+    }
+  }
+
+  @Test
+  public void should_resume_range_on_other_local_replica_if_node_fails() {
+    // Given
+    Map<Statement<?>, Node> targets = new ConcurrentHashMap<>();
+    when(preparedStatement.bind())
+        .thenAnswer(
+            i -> {
+              BoundStatement statement = mock(BoundStatement.class, RETURNS_SELF);
+              when(statement.setNode(any(Node.class)))
+                  .thenAnswer(
+                      j -> {
+                        targets.put(statement, j.getArgument(0));
+                        return statement;
+                      });
+              return statement;
+            });
+    // node3 would be the next candidate, but it's in a remote DC
+    Node node3 = mock(Node.class);
+    when(node3.getState()).thenReturn(NodeState.UP);
+    when(node3.getDistance()).thenReturn(NodeDistance.REMOTE);
+    when(tokenMap.getReplicas(any(CqlIdentifier.class), any(TokenRange.class)))
+        .thenReturn(ImmutableSet.of(node1, node3, node2));
+    AsyncResultSet resultSet = mock(AsyncResultSet.class);
+    when(resultSet.currentPage()).thenReturn(ImmutableList.of(mock(Row.class)));
+    when(session.executeAsync(any(Statement.class)))
+        .thenAnswer(
+            i ->
+                (targets.get(i.<Statement<?>>getArgument(0)) == node1)
+                    ? CompletableFutures.failedFuture(new NoNodeAvailableException())
+                    : CompletableFuture.completedFuture(resultSet));
+    Set<TokenRange> completed = ConcurrentHashMap.newKeySet();
+
+    // When
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).build();
+    assertThatStage(
+            scan.executeAsync(
+                session,
+                new TableScanListener() {
+                  @Override
+                  public void onRow(TokenRange range, Row row) {}
+
+                  @Override
+                  public void onRangeCompleted(TokenRange range) {
+                    completed.add(range);
+                  }
+                }))
+        .isSuccess();
+
+    // Then: the subranges assigned to node1 were scanned on node2
+    assertThat(completed).hasSize(3);
+    assertThat(targets.values()).contains(node1, node2).doesNotContain(node3);
+  }
+
+  @Test
+  public void should_fail_if_no_other_local_replica_for_failed_node() {
+    when(tokenMap.getReplicas(any(CqlIdentifier.class), any(TokenRange.class)))
+        .thenReturn(ImmutableSet.of(node1));
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(
+            CompletableFutures.<AsyncResultSet>failedFuture(new NoNodeAvailableException()));
+
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).build();
+    assertThatStage(scan.executeAsync(session, (range, row) -> {}))
+        .isFailed(error -> assertThat(error).isInstanceOf(NoNodeAvailableException.class));
+  }
+
+  @Test
+  public void should_fail_if_query_fails() {
+    when(session.executeAsync(any(Statement.class)))
+        .thenReturn(
+            CompletableFutures.<AsyncResultSet>failedFuture(
+                new IllegalStateException("mock error")));
+
+    TableScan scan = TableScan.builder(KS_ID, TABLE_ID).build();
+    assertThatStage(scan.executeAsync(session, (range, row) -> {}))
+        .isFailed(error -> assertThat(error).hasMessage("mock error"));
+  }
+
+  private static TokenRange range(long start, long end) {
+    return new Murmur3TokenRange(new Murmur3Token(start), new Murmur3Token(end));
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.cql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.Version;
+import com.datastax.oss.driver.api.core.cql.PrepareRequest;
+import com.datastax.oss.driver.api.core.cql.SimpleStatement;
+import com.datastax.oss.driver.api.core.metadata.Metadata;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.internal.core.context.NettyOptions;
+import com.datastax.oss.driver.internal.core.metadata.MetadataManager;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.Prepared;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.datastax.oss.protocol.internal.response.result.RowsMetadata;
+import com.datastax.oss.protocol.internal.util.Bytes;
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.EventExecutorGroup;
+import java.nio.file.Path;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class PreparedStatementStoreTest {
+
+  private static final PrepareRequest REQUEST =
+      new DefaultPrepareRequest("SELECT message FROM ks.table WHERE key = ?");
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Mock private InternalDriverContext context;
+  @Mock private NettyOptions nettyOptions;
+  @Mock private EventExecutorGroup blockingEventExecutorGroup;
+  @Mock private EventExecutor blockingExecutor;
+  @Mock private MetadataManager metadataManager;
+  @Mock private Metadata metadata;
+  @Mock private Node node;
+
+  private Path path;
+
+  @Before
+  public void setup() {
+    when(context.getSessionName()).thenReturn("test");
+    when(context.getProtocolVersion()).thenReturn(DefaultProtocolVersion.V4);
+    when(context.getNettyOptions()).thenReturn(nettyOptions);
+    when(nettyOptions.blockingEventExecutorGroup()).thenReturn(blockingEventExecutorGroup);
+    when(blockingEventExecutorGroup.next()).thenReturn(blockingExecutor);
+    when(context.getMetadataManager()).thenReturn(metadataManager);
+    when(metadataManager.getMetadata()).thenReturn(metadata);
+    when(metadata.getNodes()).thenReturn(ImmutableMap.of(UUID.randomUUID(), node));
+    when(node.getCassandraVersion()).thenReturn(Version.V4_0_0);
+
+    path = folder.getRoot().toPath().resolve("prepared").resolve("statements.cache");
+  }
+
+  @Test
+  public void should_save_and_load_entries() {
+    // Given
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+    store.put(REQUEST, null, simplePrepared());
+    store.put(REQUEST, CqlIdentifier.fromInternal("ks"), simplePrepared());
+    // Only one save is scheduled for successive puts
+    verify(blockingExecutor, times(1))
+        .schedule(any(Runnable.class), anyLong(), eq(TimeUnit.MILLISECONDS));
+
+    // When
+    store.save();
+    Prepared loaded = loadedStore().get(REQUEST, null);
+
+    // Then
+    assertThat(loaded).isNotNull();
+    assertThat(Bytes.toHexString(loaded.preparedQueryId)).isEqualTo("0xffff");
+    assertThat(loaded.resultMetadataId).isNull();
+    assertThat(loaded.variablesMetadata.columnSpecs).hasSize(1);
+    assertThat(loaded.variablesMetadata.columnSpecs.get(0).name).isEqualTo("key");
+    assertThat(loaded.variablesMetadata.columnSpecs.get(0).type.id)
+        .isEqualTo(ProtocolConstants.DataType.VARCHAR);
+    assertThat(loaded.variablesMetadata.pkIndices).containsExactly(0);
+    assertThat(loaded.resultMetadata.columnSpecs).hasSize(1);
+    assertThat(loaded.resultMetadata.columnSpecs.get(0).name).isEqualTo("message");
+    assertThat(loaded.resultMetadata.pkIndices).isNull();
+  }
+
+  @Test
+  public void should_not_match_different_session_keyspace() {
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+    store.put(REQUEST, CqlIdentifier.fromInternal("ks1"), simplePrepared());
+    store.save();
+
+    PreparedStatementStore newStore = loadedStore();
+    assertThat(newStore.get(REQUEST, CqlIdentifier.fromInternal("ks1"))).isNotNull();
+    assertThat(newStore.get(REQUEST, CqlIdentifier.fromInternal("ks2"))).isNull();
+    assertThat(newStore.get(REQUEST, null)).isNull();
+  }
+
+  @Test
+  public void should_ignore_requests_with_custom_payload() {
+    PrepareRequest request =
+        new DefaultPrepareRequest(
+            SimpleStatement.builder(REQUEST.getQuery())
+                .addCustomPayload("key", Bytes.fromHexString("0x01"))
+                .build());
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+
+    store.put(request, null, simplePrepared());
+
+    assertThat(store.get(request, null)).isNull();
+    verify(blockingExecutor, never()).schedule(any(Runnable.class), anyLong(), any(TimeUnit.class));
+  }
+
+  @Test
+  public void should_discard_file_if_server_version_changed() {
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+    store.put(REQUEST, null, simplePrepared());
+    store.save();
+
+    when(node.getCassandraVersion()).thenReturn(Version.parse("4.0.1"));
+
+    assertThat(loadedStore().get(REQUEST, null)).isNull();
+  }
+
+  @Test
+  public void should_start_empty_if_file_is_missing() {
+    assertThat(loadedStore().get(REQUEST, null)).isNull();
+  }
+
+  @Test
+  public void should_not_read_file_until_loaded() {
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+    store.put(REQUEST, null, simplePrepared());
+    store.save();
+
+    PreparedStatementStore newStore = new PreparedStatementStore(context, path);
+    assertThat(newStore.get(REQUEST, null)).isNull();
+
+    newStore.load();
+    assertThat(newStore.get(REQUEST, null)).isNotNull();
+  }
+
+  private PreparedStatementStore loadedStore() {
+    PreparedStatementStore store = new PreparedStatementStore(context, path);
+    store.load();
+    return store;
+  }
+
+  private static Prepared simplePrepared() {
+    RowsMetadata variablesMetadata =
+        new RowsMetadata(
+            ImmutableList.of(
+                new ColumnSpec(
+                    "ks",
+                    "table",
+                    "key",
+                    0,
+                    RawType.PRIMITIVES.get(ProtocolConstants.DataType.VARCHAR))),
+            null,
+            new int[] {0},
+            null);
+    RowsMetadata resultMetadata =
+        new RowsMetadata(
+            ImmutableList.of(
+                new ColumnSpec(
+                    "ks",
+                    "table",
+                    "message",
+                    0,
+                    RawType.PRIMITIVES.get(ProtocolConstants.DataType.VARCHAR))),
+            null,
+            null,
+            null);
+    return new Prepared(
+        Bytes.getArray(Bytes.fromHexString("0xffff")), null, variablesMetadata, resultMetadata);
+  }
+}
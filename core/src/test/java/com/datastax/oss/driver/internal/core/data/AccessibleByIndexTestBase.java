@@ -16,6 +16,7 @@
 package com.datastax.oss.driver.internal.core.data;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.spy;
@@ -30,6 +31,7 @@ import com.datastax.oss.driver.api.core.data.SettableByIndex;
 import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
 import com.datastax.oss.driver.api.core.type.DataType;
 import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
 import com.datastax.oss.driver.api.core.type.codec.PrimitiveIntCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
@@ -123,6 +125,25 @@ public abstract class AccessibleByIndexTestBase<T extends GettableByIndex & Sett
     assertThat(t.getBytesUnsafe(0)).isEqualTo(Bytes.fromHexString("0x00000001"));
   }
 
+  @Test
+  public void should_get_read_only_blob_by_index() {
+    // Given
+    ByteBuffer blob = Bytes.fromHexString("0xcafebabe");
+    T t =
+        newInstance(ImmutableList.of(DataTypes.BLOB, DataTypes.INT), attachmentPoint)
+            .setBytesUnsafe(0, blob);
+
+    // When
+    ByteBuffer view = t.getReadOnlyByteBuffer(0);
+
+    // Then
+    verifyZeroInteractions(codecRegistry);
+    assertThat(view.isReadOnly()).isTrue();
+    assertThat(view).isEqualTo(blob);
+    assertThatThrownBy(() -> t.getReadOnlyByteBuffer(1))
+        .isInstanceOf(CodecNotFoundException.class);
+  }
+
   @Test
   public void should_set_to_null_by_index() {
     // Given
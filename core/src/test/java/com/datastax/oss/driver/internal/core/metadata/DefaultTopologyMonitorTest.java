@@ -270,6 +270,10 @@ public class DefaultTopologyMonitorTest {
     AdminRow peer1 = mockPeersRow(2, node1.getHostId());
     topologyMonitor.isSchemaV2 = false;
     topologyMonitor.stubQueries(
+        new StubbedQuery(
+            "SELECT * FROM system.peers WHERE peer = :address",
+            ImmutableMap.of("address", ADDRESS2.getAddress()),
+            mockResult(/*empty*/ )),
         new StubbedQuery("SELECT * FROM system.peers", mockResult(peer3, peer2, peer1)));
 
     // When
@@ -295,6 +299,31 @@ public class DefaultTopologyMonitorTest {
     verify(peer1).getString("data_center");
   }
 
+  @Test
+  public void should_get_new_node_with_targeted_query_if_broadcast_address_matches() {
+    // Given
+    AdminRow peer2 = mockPeersRow(2, node2.getHostId());
+    topologyMonitor.isSchemaV2 = false;
+    topologyMonitor.stubQueries(
+        new StubbedQuery(
+            "SELECT * FROM system.peers WHERE peer = :address",
+            ImmutableMap.of("address", ADDRESS2.getAddress()),
+            mockResult(peer2)));
+
+    // When
+    CompletionStage<Optional<NodeInfo>> futureInfo = topologyMonitor.getNewNodeInfo(ADDRESS2);
+
+    // Then
+    assertThatStage(futureInfo)
+        .isSuccess(
+            maybeInfo -> {
+              assertThat(maybeInfo.isPresent()).isTrue();
+              NodeInfo info = maybeInfo.get();
+              assertThat(info.getDatacenter()).isEqualTo("dc2");
+            });
+    // Only the targeted query was stubbed, a full scan would have failed the future
+  }
+
   @Test
   public void should_get_new_node_from_peers_v2() {
     // Given
@@ -303,6 +332,10 @@ public class DefaultTopologyMonitorTest {
     AdminRow peer1 = mockPeersV2Row(2, node1.getHostId());
     topologyMonitor.isSchemaV2 = true;
     topologyMonitor.stubQueries(
+        new StubbedQuery(
+            "SELECT * FROM system.peers_v2 WHERE peer = :address",
+            ImmutableMap.of("address", ADDRESS2.getAddress()),
+            mockResult(/*empty*/ )),
         new StubbedQuery("SELECT * FROM system.peers_v2", mockResult(peer3, peer2, peer1)));
 
     // When
@@ -21,6 +21,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -406,6 +407,73 @@ public class NodeStateManagerTest {
     assertThat(node2.state).isEqualTo(NodeState.UP);
   }
 
+  @Test
+  public void should_refresh_node_list_once_if_batch_reaches_threshold() {
+    // Given
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW))
+        .thenReturn(Duration.ofDays(1));
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS)).thenReturn(3);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD))
+        .thenReturn(2);
+    when(metadataManager.refreshNodes()).thenReturn(CompletableFuture.completedFuture(null));
+    new NodeStateManager(context);
+    node2.state = NodeState.DOWN;
+
+    // When
+    eventBus.fire(TopologyEvent.suggestAdded(NEW_ADDRESS));
+    eventBus.fire(TopologyEvent.suggestRemoved(node1.getBroadcastRpcAddress().get()));
+    eventBus.fire(TopologyEvent.suggestUp(node2.getBroadcastRpcAddress().get()));
+    waitForPendingAdminTasks();
+
+    // Then
+    verify(metadataManager).refreshNodes();
+    verify(metadataManager, never()).addNode(any(InetSocketAddress.class));
+    verify(metadataManager, never()).removeNode(any(InetSocketAddress.class));
+    verify(metadataManager, never()).refreshNode(any(Node.class));
+    assertThat(node2.state).isEqualTo(NodeState.UP);
+    verify(eventBus).fire(NodeStateEvent.changed(NodeState.DOWN, NodeState.UP, node2));
+  }
+
+  @Test
+  public void should_refresh_nodes_individually_if_batch_is_below_threshold() {
+    // Given
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_WINDOW))
+        .thenReturn(Duration.ofDays(1));
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_MAX_EVENTS)).thenReturn(2);
+    when(defaultProfile.getInt(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_THRESHOLD))
+        .thenReturn(3);
+    new NodeStateManager(context);
+
+    // When
+    eventBus.fire(TopologyEvent.suggestAdded(NEW_ADDRESS));
+    eventBus.fire(TopologyEvent.suggestRemoved(node1.getBroadcastRpcAddress().get()));
+    waitForPendingAdminTasks();
+
+    // Then
+    verify(metadataManager, never()).refreshNodes();
+    verify(metadataManager).addNode(NEW_ADDRESS);
+    verify(metadataManager).removeNode(node1.getBroadcastRpcAddress().get());
+  }
+
+  @Test
+  public void should_refresh_node_list_periodically_once_initialized() {
+    // Given
+    when(defaultProfile.isDefined(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL))
+        .thenReturn(true);
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_TOPOLOGY_FULL_REFRESH_INTERVAL))
+        .thenReturn(Duration.ofMillis(20));
+    when(metadataManager.refreshNodes()).thenReturn(CompletableFuture.completedFuture(null));
+    NodeStateManager manager = new NodeStateManager(context);
+    waitForPendingAdminTasks();
+    verify(metadataManager, never()).refreshNodes();
+
+    // When
+    manager.markInitialized();
+
+    // Then
+    verify(metadataManager, timeout(1000).atLeast(2)).refreshNodes();
+  }
+
   @Test
   public void should_track_open_connections() {
     new NodeStateManager(context);
@@ -19,7 +19,10 @@ import static com.datastax.oss.driver.Assertions.assertThat;
 import static com.datastax.oss.driver.Assertions.assertThatStage;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
@@ -28,14 +31,21 @@ import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
 import com.datastax.oss.driver.api.core.metadata.Metadata;
 import com.datastax.oss.driver.api.core.metadata.Node;
 import com.datastax.oss.driver.api.core.metadata.NodeState;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
+import com.datastax.oss.driver.internal.core.context.EventBus;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
 import com.datastax.oss.driver.internal.core.metrics.MetricsFactory;
+import com.datastax.oss.driver.internal.core.metrics.SessionMetricUpdater;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
 import com.datastax.oss.driver.shaded.guava.common.collect.Iterators;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.event.SchemaChangeEvent;
 import io.netty.channel.EventLoop;
+import io.netty.util.concurrent.ScheduledFuture;
 import java.time.Duration;
 import java.util.ArrayDeque;
 import java.util.Arrays;
@@ -64,13 +74,18 @@ public class SchemaAgreementCheckerTest {
   @Mock private EventLoop eventLoop;
   @Mock private MetadataManager metadataManager;
   @Mock private MetricsFactory metricsFactory;
+  @Mock private SessionMetricUpdater sessionMetricUpdater;
   @Mock private Metadata metadata;
   @Mock private DefaultNode node1;
   @Mock private DefaultNode node2;
+  private EventBus eventBus;
 
   @Before
   public void setup() {
     when(context.getMetricsFactory()).thenReturn(metricsFactory);
+    when(metricsFactory.getSessionUpdater()).thenReturn(sessionMetricUpdater);
+    eventBus = new EventBus("test");
+    when(context.getEventBus()).thenReturn(eventBus);
 
     node1 = TestNodeFactory.newNode(1, context);
     node2 = TestNodeFactory.newNode(2, context);
@@ -79,6 +94,8 @@ public class SchemaAgreementCheckerTest {
         .thenReturn(Duration.ofSeconds(1));
     when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_INTERVAL))
         .thenReturn(Duration.ofMillis(200));
+    when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_MAX_INTERVAL))
+        .thenReturn(Duration.ofMillis(500));
     when(defaultConfig.getDuration(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_TIMEOUT))
         .thenReturn(Duration.ofSeconds(10));
     when(defaultConfig.getBoolean(DefaultDriverOption.CONTROL_CONNECTION_AGREEMENT_WARN))
@@ -98,7 +115,7 @@ public class SchemaAgreementCheckerTest {
             invocation -> { // Ignore delay and run immediately:
               Runnable task = invocation.getArgument(0);
               task.run();
-              return null;
+              return mock(ScheduledFuture.class);
             });
     when(channel.eventLoop()).thenReturn(eventLoop);
   }
@@ -242,6 +259,118 @@ public class SchemaAgreementCheckerTest {
     assertThatStage(future).isSuccess(b -> assertThat(b).isFalse());
   }
 
+  @Test
+  public void should_record_time_to_agreement() {
+    // Given
+    TestSchemaAgreementChecker checker = new TestSchemaAgreementChecker(channel, context);
+    checker.stubQueries(
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION1))));
+
+    // When
+    CompletionStage<Boolean> future = checker.run();
+
+    // Then
+    assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
+    verify(sessionMetricUpdater)
+        .updateTimer(
+            eq(DefaultSessionMetric.SCHEMA_AGREEMENT),
+            isNull(),
+            anyLong(),
+            eq(TimeUnit.NANOSECONDS));
+  }
+
+  @Test
+  public void should_back_off_exponentially_between_attempts() {
+    // Given
+    TestSchemaAgreementChecker checker = new TestSchemaAgreementChecker(channel, context);
+    checker.stubQueries(
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION2))),
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION2))),
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION2))),
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION1))));
+
+    // When
+    CompletionStage<Boolean> future = checker.run();
+
+    // Then
+    assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
+    // 200 ms, doubled once, then capped at 500 ms
+    for (long delayMs : ImmutableList.of(200L, 400L, 500L)) {
+      verify(eventLoop)
+          .schedule(
+              any(Runnable.class),
+              eq(TimeUnit.MILLISECONDS.toNanos(delayMs)),
+              eq(TimeUnit.NANOSECONDS));
+    }
+  }
+
+  @Test
+  public void should_check_immediately_when_schema_change_event_received() {
+    // Given
+    ScheduledFuture<?> nextAttempt = mock(ScheduledFuture.class);
+    when(nextAttempt.cancel(false)).thenReturn(true);
+    // Don't run scheduled tasks, the event must trigger the second attempt
+    when(eventLoop.schedule(any(Runnable.class), anyLong(), any(TimeUnit.class)))
+        .thenAnswer(invocation -> nextAttempt);
+    TestSchemaAgreementChecker checker = new TestSchemaAgreementChecker(channel, context);
+    checker.stubQueries(
+        // First round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION2))),
+
+        // Second round
+        new StubbedQuery(
+            "SELECT schema_version FROM system.local WHERE key='local'",
+            mockResult(mockRow(null, VERSION1))),
+        new StubbedQuery(
+            "SELECT host_id, schema_version FROM system.peers",
+            mockResult(mockRow(node2.getHostId(), VERSION1))));
+    CompletionStage<Boolean> future = checker.run();
+    assertThat(future.toCompletableFuture().isDone()).isFalse();
+
+    // When
+    eventBus.fire(
+        new SchemaChangeEvent(
+            ProtocolConstants.SchemaChangeType.CREATED,
+            ProtocolConstants.SchemaChangeTarget.TABLE,
+            "ks",
+            "foo",
+            ImmutableList.of()));
+
+    // Then
+    verify(nextAttempt).cancel(false);
+    assertThatStage(future).isSuccess(b -> assertThat(b).isTrue());
+  }
+
   /** Extend to mock the query execution logic. */
   private static class TestSchemaAgreementChecker extends SchemaAgreementChecker {
 
@@ -28,7 +28,10 @@ import com.datastax.oss.driver.internal.core.metadata.schema.queries.CassandraSc
 import com.datastax.oss.driver.internal.core.metadata.schema.queries.SchemaRows;
 import com.datastax.oss.driver.internal.core.metadata.schema.refresh.SchemaRefresh;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import io.netty.util.concurrent.DefaultEventExecutorGroup;
+import io.netty.util.concurrent.EventExecutorGroup;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.Test;
 
@@ -136,6 +139,46 @@ public class SchemaParserTest extends SchemaParserTestBase {
     assertThat(ks2.getUserDefinedTypes()).hasSize(1).containsKey(CqlIdentifier.fromInternal("t2"));
   }
 
+  @Test
+  public void should_parse_multiple_keyspaces_in_parallel() throws Exception {
+    CassandraSchemaRows.Builder builder = new CassandraSchemaRows.Builder(NODE_3_0, "test");
+    builder
+        .withKeyspaces(
+            ImmutableList.of(
+                mockModernKeyspaceRow("ks1"),
+                mockModernKeyspaceRow("ks2"),
+                mockModernKeyspaceRow("ks3")))
+        .withTypes(
+            ImmutableList.of(
+                mockTypeRow("ks1", "t1", ImmutableList.of("i"), ImmutableList.of("int")),
+                mockTypeRow("ks3", "t3", ImmutableList.of("i"), ImmutableList.of("int"))));
+    SchemaRows rows = builder.build();
+
+    EventExecutorGroup executors = new DefaultEventExecutorGroup(2);
+    try {
+      SchemaRefresh refresh =
+          new CassandraSchemaParser(rows, context)
+              .parseAsync(executors)
+              .toCompletableFuture()
+              .get(10, TimeUnit.SECONDS);
+
+      // Order is preserved
+      assertThat(refresh.newKeyspaces.keySet())
+          .containsExactly(
+              CqlIdentifier.fromInternal("ks1"),
+              CqlIdentifier.fromInternal("ks2"),
+              CqlIdentifier.fromInternal("ks3"));
+      assertThat(refresh.newKeyspaces.get(CqlIdentifier.fromInternal("ks1")).getUserDefinedTypes())
+          .containsOnlyKeys(CqlIdentifier.fromInternal("t1"));
+      assertThat(refresh.newKeyspaces.get(CqlIdentifier.fromInternal("ks2")).getUserDefinedTypes())
+          .isEmpty();
+      assertThat(refresh.newKeyspaces.get(CqlIdentifier.fromInternal("ks3")).getUserDefinedTypes())
+          .containsOnlyKeys(CqlIdentifier.fromInternal("t3"));
+    } finally {
+      executors.shutdownGracefully();
+    }
+  }
+
   private MetadataRefresh parse(Consumer<CassandraSchemaRows.Builder> builderConfig) {
     CassandraSchemaRows.Builder builder = new CassandraSchemaRows.Builder(NODE_3_0, "test");
     builderConfig.accept(builder);
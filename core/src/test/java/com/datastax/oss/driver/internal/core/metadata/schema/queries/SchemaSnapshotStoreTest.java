@@ -0,0 +1,193 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.schema.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import com.datastax.oss.driver.api.core.CqlIdentifier;
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.Version;
+import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
+import com.datastax.oss.driver.api.core.config.DriverConfig;
+import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.metadata.Node;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.adminrequest.AdminRow;
+import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.Silent.class)
+public class SchemaSnapshotStoreTest {
+
+  private static final CqlIdentifier KS1_ID = CqlIdentifier.fromInternal("ks1");
+  private static final CqlIdentifier FOO_ID = CqlIdentifier.fromInternal("foo");
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Mock private InternalDriverContext context;
+  @Mock private DriverConfig config;
+  @Mock private DriverExecutionProfile defaultProfile;
+  @Mock private Node node;
+
+  private Path path;
+
+  @Before
+  public void setup() {
+    when(context.getSessionName()).thenReturn("test");
+    when(context.getConfig()).thenReturn(config);
+    when(config.getDefaultProfile()).thenReturn(defaultProfile);
+    when(defaultProfile.getDuration(DefaultDriverOption.METADATA_SCHEMA_REQUEST_TIMEOUT))
+        .thenReturn(Duration.ofSeconds(1));
+    when(context.getProtocolVersion()).thenReturn(DefaultProtocolVersion.V4);
+
+    when(node.getCassandraVersion()).thenReturn(Version.V3_0_0);
+    when(node.getExtras()).thenReturn(Collections.emptyMap());
+
+    path = folder.getRoot().toPath().resolve("snapshots").resolve("schema.snapshot");
+  }
+
+  @Test
+  public void should_not_load_if_file_is_missing() {
+    SchemaSnapshotStore store = new SchemaSnapshotStore(context, path);
+    assertThat(store.load(node)).isEmpty();
+  }
+
+  @Test
+  public void should_save_and_load_rows() {
+    // Given
+    SchemaSnapshotStore store = new SchemaSnapshotStore(context, path);
+    UUID schemaVersion = UUID.randomUUID();
+    SchemaRows rows =
+        new CassandraSchemaRows.Builder(node, "test")
+            .withKeyspaces(Collections.singletonList(row("keyspace_name", "ks1")))
+            .withTables(Collections.singletonList(row("keyspace_name", "ks1", "table_name", "foo")))
+            .withColumns(
+                Arrays.asList(
+                    row("keyspace_name", "ks1", "table_name", "foo", "column_name", "k"),
+                    row("keyspace_name", "ks1", "table_name", "foo", "column_name", null)))
+            .build();
+
+    // When
+    store.save(rows, schemaVersion);
+    Optional<SchemaSnapshotStore.Snapshot> maybeSnapshot = store.load(node);
+
+    // Then
+    assertThat(Files.exists(path)).isTrue();
+    assertThat(maybeSnapshot).isPresent();
+    SchemaSnapshotStore.Snapshot snapshot = maybeSnapshot.get();
+    assertThat(snapshot.getSchemaVersion()).isEqualTo(schemaVersion);
+
+    SchemaRows loaded = snapshot.getRows();
+    assertThat(loaded.getNode()).isEqualTo(node);
+    assertThat(loaded.keyspaces()).hasSize(1);
+    assertThat(loaded.keyspaces().get(0).getString("keyspace_name")).isEqualTo("ks1");
+    assertThat(loaded.tables().get(KS1_ID)).hasSize(1);
+    assertThat(loaded.tables().get(KS1_ID).iterator().next().getString("table_name"))
+        .isEqualTo("foo");
+    assertThat(loaded.columns().get(KS1_ID).get(FOO_ID)).hasSize(2);
+    assertThat(loaded.columns().get(KS1_ID).get(FOO_ID))
+        .extracting(row -> row.getString("column_name"))
+        .containsExactly("k", null);
+    assertThat(loaded.views()).isEmpty();
+  }
+
+  @Test
+  public void should_not_load_if_server_version_changed() {
+    // Given
+    SchemaSnapshotStore store = new SchemaSnapshotStore(context, path);
+    SchemaRows rows =
+        new CassandraSchemaRows.Builder(node, "test")
+            .withKeyspaces(Collections.singletonList(row("keyspace_name", "ks1")))
+            .build();
+    store.save(rows, UUID.randomUUID());
+
+    // When
+    when(node.getCassandraVersion()).thenReturn(Version.V4_0_0);
+
+    // Then
+    assertThat(store.load(node)).isEmpty();
+  }
+
+  @Test
+  public void should_not_load_if_keyspace_filter_changed() {
+    // Given
+    when(defaultProfile.isDefined(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES))
+        .thenReturn(true);
+    when(defaultProfile.getStringList(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES))
+        .thenReturn(Arrays.asList("ks1", "ks2"));
+    SchemaRows rows =
+        new CassandraSchemaRows.Builder(node, "test")
+            .withKeyspaces(Collections.singletonList(row("keyspace_name", "ks1")))
+            .build();
+    new SchemaSnapshotStore(context, path).save(rows, UUID.randomUUID());
+
+    // Then
+    // same filter in a different order: still valid
+    when(defaultProfile.getStringList(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES))
+        .thenReturn(Arrays.asList("ks2", "ks1"));
+    assertThat(new SchemaSnapshotStore(context, path).load(node)).isPresent();
+    when(defaultProfile.getStringList(DefaultDriverOption.METADATA_SCHEMA_REFRESHED_KEYSPACES))
+        .thenReturn(Collections.singletonList("ks1"));
+    assertThat(new SchemaSnapshotStore(context, path).load(node)).isEmpty();
+  }
+
+  @Test
+  public void should_not_load_if_file_is_corrupted() throws Exception {
+    Files.createDirectories(path.getParent());
+    Files.write(path, new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9});
+    SchemaSnapshotStore store = new SchemaSnapshotStore(context, path);
+    assertThat(store.load(node)).isEmpty();
+  }
+
+  private static AdminRow row(String... namesAndValues) {
+    ImmutableMap.Builder<String, ColumnSpec> specs = ImmutableMap.builder();
+    ByteBuffer[] data = new ByteBuffer[namesAndValues.length / 2];
+    for (int i = 0; i < data.length; i++) {
+      String name = namesAndValues[i * 2];
+      specs.put(
+          name,
+          new ColumnSpec(
+              "system_schema",
+              "whatever",
+              name,
+              i,
+              RawType.PRIMITIVES.get(ProtocolConstants.DataType.VARCHAR)));
+      data[i] = TypeCodecs.TEXT.encode(namesAndValues[i * 2 + 1], DefaultProtocolVersion.V4);
+    }
+    Map<String, ColumnSpec> columnSpecs = specs.build();
+    return new AdminRow(columnSpecs, Arrays.asList(data), DefaultProtocolVersion.V4);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.metadata.token;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.util.RoutingKey;
+import com.datastax.oss.driver.shaded.guava.common.base.Strings;
+import java.nio.ByteBuffer;
+import org.junit.Test;
+
+public class Murmur3TokenFactoryTest {
+
+  private static final Murmur3TokenFactory FACTORY = new Murmur3TokenFactory();
+
+  @Test
+  public void should_hash_single_component_like_routing_key() {
+    ByteBuffer[] values = {encode("foo"), encode(1)};
+    assertThat(FACTORY.hash(values, new int[] {1})).isEqualTo(FACTORY.hash(encode(1)));
+  }
+
+  @Test
+  public void should_hash_composite_key_like_routing_key() {
+    ByteBuffer[] values = {encode("foo"), encode(1), encode("bar")};
+    int[] indices = {2, 0};
+
+    assertThat(FACTORY.hash(values, indices))
+        .isEqualTo(FACTORY.hash(RoutingKey.compose(values[2], values[0])));
+    // The scratch buffer is reused between calls
+    assertThat(FACTORY.hash(values, new int[] {1, 2}))
+        .isEqualTo(FACTORY.hash(RoutingKey.compose(values[1], values[2])));
+    // The input buffers are left untouched
+    assertThat(values[0]).isEqualTo(encode("foo"));
+  }
+
+  @Test
+  public void should_hash_large_or_direct_components_like_routing_key() {
+    String large = Strings.repeat("a", 2000);
+    ByteBuffer direct = ByteBuffer.allocateDirect(4);
+    direct.putInt(42).flip();
+    ByteBuffer[] values = {encode(large), direct, encode("bar")};
+
+    assertThat(FACTORY.hash(values, new int[] {0, 2}))
+        .isEqualTo(FACTORY.hash(RoutingKey.compose(values[0], values[2])));
+    assertThat(FACTORY.hash(values, new int[] {1, 2}))
+        .isEqualTo(FACTORY.hash(RoutingKey.compose(values[1], values[2])));
+  }
+
+  private static ByteBuffer encode(String s) {
+    return TypeCodecs.TEXT.encode(s, DefaultProtocolVersion.V4);
+  }
+
+  private static ByteBuffer encode(int i) {
+    return TypeCodecs.INT.encode(i, DefaultProtocolVersion.V4);
+  }
+}
@@ -174,6 +174,8 @@ public class DefaultSessionPoolsTest {
     when(context.getNodeStateListener()).thenReturn(nodeStateListener);
     when(context.getSchemaChangeListener()).thenReturn(schemaChangeListener);
     when(context.getRequestTracker()).thenReturn(requestTracker);
+    when(context.getRequestProcessorRegistry())
+        .thenReturn(new RequestProcessorRegistry("test"));
 
     when(metadataManager.closeAsync()).thenReturn(CompletableFuture.completedFuture(null));
     when(metadataManager.forceCloseAsync()).thenReturn(CompletableFuture.completedFuture(null));
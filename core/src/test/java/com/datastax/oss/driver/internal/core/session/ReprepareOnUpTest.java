@@ -17,12 +17,15 @@ package com.datastax.oss.driver.internal.core.session;
 
 import static com.datastax.oss.driver.Assertions.assertThat;
 import static com.datastax.oss.driver.Assertions.assertThatStage;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.datastax.oss.driver.api.core.DefaultProtocolVersion;
 import com.datastax.oss.driver.api.core.config.DefaultDriverOption;
 import com.datastax.oss.driver.api.core.config.DriverConfig;
 import com.datastax.oss.driver.api.core.config.DriverExecutionProfile;
+import com.datastax.oss.driver.api.core.metrics.DefaultSessionMetric;
 import com.datastax.oss.driver.internal.core.adminrequest.AdminResult;
 import com.datastax.oss.driver.internal.core.channel.DriverChannel;
 import com.datastax.oss.driver.internal.core.context.InternalDriverContext;
@@ -335,6 +338,85 @@ public class ReprepareOnUpTest {
     assertThatStage(done).isSuccess(v -> assertThat(reprepareOnUp.queries).isEmpty());
   }
 
+  @Test
+  public void should_reprepare_most_used_statements_first() {
+    when(defaultProfile.getBoolean(DefaultDriverOption.REPREPARE_CHECK_SYSTEM_TABLE))
+        .thenReturn(false);
+    when(defaultProfile.getInt(DefaultDriverOption.REPREPARE_MAX_STATEMENTS)).thenReturn(3);
+
+    Map<ByteBuffer, RepreparePayload> payloads = getMockPayloads('a', 'b', 'c', 'd', 'e', 'f');
+    recordExecutions(payloads, 'e', 3);
+    recordExecutions(payloads, 'c', 2);
+
+    MockReprepareOnUp reprepareOnUp =
+        new MockReprepareOnUp(
+            "test", pool, ImmediateEventExecutor.INSTANCE, payloads, context, whenPrepared);
+
+    reprepareOnUp.start();
+
+    // Most used first, then the others in their original order, until the limit:
+    for (char c : new char[] {'e', 'c', 'a'}) {
+      MockAdminQuery adminQuery = reprepareOnUp.queries.poll();
+      assertThat(adminQuery).isNotNull();
+      assertThat(adminQuery.request).isInstanceOf(Prepare.class);
+      assertThat(((Prepare) adminQuery.request).cqlQuery).isEqualTo("mock query " + c);
+      adminQuery.resultFuture.complete(null);
+    }
+
+    assertThatStage(done).isSuccess(v -> assertThat(reprepareOnUp.queries).isEmpty());
+    verify(metricUpdater).incrementCounter(DefaultSessionMetric.REPREPARE_ON_UP_PENDING, null, 3);
+    verify(metricUpdater, times(3))
+        .incrementCounter(DefaultSessionMetric.REPREPARE_ON_UP_PENDING, null, -1);
+  }
+
+  @Test
+  public void should_complete_when_first_statements_are_reprepared() {
+    when(defaultProfile.getBoolean(DefaultDriverOption.REPREPARE_CHECK_SYSTEM_TABLE))
+        .thenReturn(false);
+    when(defaultProfile.getInt(DefaultDriverOption.REPREPARE_MAX_PARALLELISM)).thenReturn(2);
+    when(defaultProfile.isDefined(DefaultDriverOption.REPREPARE_READY_AFTER)).thenReturn(true);
+    when(defaultProfile.getInt(DefaultDriverOption.REPREPARE_READY_AFTER)).thenReturn(2);
+
+    MockReprepareOnUp reprepareOnUp =
+        new MockReprepareOnUp(
+            "test",
+            pool,
+            ImmediateEventExecutor.INSTANCE,
+            getMockPayloads('a', 'b', 'c', 'd'),
+            context,
+            whenPrepared);
+
+    reprepareOnUp.start();
+
+    // 'b' completes first, but the node must still wait for 'a'
+    MockAdminQuery a = reprepareOnUp.queries.poll();
+    MockAdminQuery b = reprepareOnUp.queries.poll();
+    assertThat(a).isNotNull();
+    assertThat(b).isNotNull();
+    b.resultFuture.complete(null);
+    assertThat(done.toCompletableFuture().isDone()).isFalse();
+    a.resultFuture.completeExceptionally(new RuntimeException("mock error"));
+    assertThatStage(done).isSuccess();
+
+    // The remaining statements are still reprepared in the background
+    for (char c = 'c'; c <= 'd'; c++) {
+      MockAdminQuery adminQuery = reprepareOnUp.queries.poll();
+      assertThat(adminQuery).isNotNull();
+      assertThat(((Prepare) adminQuery.request).cqlQuery).isEqualTo("mock query " + c);
+      adminQuery.resultFuture.complete(null);
+    }
+    assertThat(reprepareOnUp.queries).isEmpty();
+    verify(metricUpdater).incrementCounter(DefaultSessionMetric.REPREPARE_ON_UP_ERRORS, null);
+  }
+
+  private static void recordExecutions(
+      Map<ByteBuffer, RepreparePayload> payloads, char value, int count) {
+    RepreparePayload payload = payloads.get(Bytes.fromHexString("0x0" + value));
+    for (int i = 0; i < count; i++) {
+      payload.recordExecution();
+    }
+  }
+
   private Map<ByteBuffer, RepreparePayload> getMockPayloads(char... values) {
     ImmutableMap.Builder<ByteBuffer, RepreparePayload> builder = ImmutableMap.builder();
     for (char value : values) {
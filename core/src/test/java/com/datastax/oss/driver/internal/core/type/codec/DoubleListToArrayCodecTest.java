@@ -0,0 +1,91 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import org.junit.Test;
+
+public class DoubleListToArrayCodecTest extends CodecTestBase<double[]> {
+
+  public DoubleListToArrayCodecTest() {
+    this.codec = new DoubleListToArrayCodec();
+  }
+
+  @Test
+  public void should_encode() {
+    assertThat(encode(null)).isNull();
+    assertThat(encode(new double[0])).isEqualTo("0x00000000");
+    assertThat(encode(new double[] {1.5, 2.0}))
+        .isEqualTo(
+            "0x"
+                + "00000002" // number of elements
+                + "00000008" // size of element 1
+                + "3ff8000000000000" // contents of element 1
+                + "00000008" // size of element 2
+                + "4000000000000000" // contents of element 2
+            );
+  }
+
+  @Test
+  public void should_decode() {
+    assertThat(decode(null)).isEmpty();
+    assertThat(decode("0x00000000")).isEmpty();
+    assertThat(decode("0x" + "00000002" + "000000083ff8000000000000" + "000000084000000000000000"))
+        .containsExactly(1.5, 2.0);
+  }
+
+  @Test
+  public void should_round_trip() {
+    double[] value = {1.5, 2.0};
+    assertThat(decode(encode(value))).containsExactly(value);
+    assertThat(decode(encode(new double[0]))).isEmpty();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_to_decode_null_element() {
+    decode("0x" + "00000002" + "000000083ff8000000000000" + "FFFFFFFF");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void should_fail_to_decode_element_of_wrong_size() {
+    decode("0x" + "00000001" + "0000000400000001");
+  }
+
+  @Test
+  public void should_format() {
+    assertThat(format(null)).isEqualTo("NULL");
+    assertThat(format(new double[0])).isEqualTo("[]");
+    assertThat(format(new double[] {1.5, 2.0})).isEqualTo("[1.5,2.0]");
+  }
+
+  @Test
+  public void should_parse() {
+    assertThat(parse("[]")).isEmpty();
+    assertThat(parse("[1.5,2.0]")).containsExactly(1.5, 2.0);
+    assertThat(parse("NULL")).isNull();
+  }
+
+  @Test
+  public void should_accept_cql_and_generic_types() {
+    assertThat(codec.accepts(DataTypes.listOf(DataTypes.DOUBLE))).isTrue();
+    assertThat(codec.accepts(DataTypes.setOf(DataTypes.DOUBLE))).isFalse();
+    assertThat(codec.accepts(GenericType.of(double[].class))).isTrue();
+    assertThat(codec.accepts(GenericType.listOf(Double.class))).isFalse();
+  }
+}
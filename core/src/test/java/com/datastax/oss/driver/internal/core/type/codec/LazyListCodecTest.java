@@ -0,0 +1,54 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.junit.Test;
+
+public class LazyListCodecTest {
+
+  @Test
+  public void should_decode_list_elements_on_access() {
+    TypeCodec<String> elementCodec = spy(TypeCodecs.TEXT);
+    TypeCodec<List<String>> codec = TypeCodecs.lazyListOf(elementCodec);
+    ByteBuffer bytes =
+        TypeCodecs.listOf(TypeCodecs.TEXT)
+            .encode(ImmutableList.of("a", "b", "c"), ProtocolVersion.DEFAULT);
+
+    List<String> list = codec.decode(bytes, ProtocolVersion.DEFAULT);
+
+    assertThat(list).hasSize(3);
+    verify(elementCodec, times(0)).decode(any(), any());
+    assertThat(list.get(1)).isEqualTo("b");
+    verify(elementCodec, times(1)).decode(any(), any());
+    assertThat(list).containsExactly("a", "b", "c");
+    assertThat(bytes.position()).isEqualTo(0);
+    // Re-encoding reuses the original bytes
+    assertThat(codec.encode(list, ProtocolVersion.DEFAULT)).isEqualTo(bytes);
+    assertThat(codec.decode(null, ProtocolVersion.DEFAULT)).isEmpty();
+  }
+}
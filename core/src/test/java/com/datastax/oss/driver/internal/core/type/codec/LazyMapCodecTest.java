@@ -0,0 +1,104 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableMap;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Test;
+
+public class LazyMapCodecTest {
+
+  @Test
+  public void should_look_up_map_entries_without_decoding_keys() {
+    TypeCodec<String> keyCodec = spy(TypeCodecs.TEXT);
+    TypeCodec<Map<String, Integer>> codec = TypeCodecs.lazyMapOf(keyCodec, TypeCodecs.INT);
+    ByteBuffer bytes =
+        TypeCodecs.mapOf(TypeCodecs.TEXT, TypeCodecs.INT)
+            .encode(ImmutableMap.of("a", 1, "b", 2), ProtocolVersion.DEFAULT);
+
+    Map<String, Integer> map = codec.decode(bytes, ProtocolVersion.DEFAULT);
+
+    assertThat(map).hasSize(2);
+    assertThat(map.get("b")).isEqualTo(2);
+    assertThat(map.containsKey("c")).isFalse();
+    assertThat(map.get(42)).isNull();
+    verify(keyCodec, times(0)).decode(any(), any());
+    assertThat(map).containsExactly(entry("a", 1), entry("b", 2));
+    assertThat(codec.encode(map, ProtocolVersion.DEFAULT)).isEqualTo(bytes);
+  }
+
+  @Test
+  public void should_iterate_entries_with_null_values() {
+    TypeCodec<Map<String, Integer>> codec =
+        TypeCodecs.lazyMapOf(TypeCodecs.TEXT, TypeCodecs.INT);
+    ByteBuffer bytes = encodeWithNullValue();
+
+    Map<String, Integer> map = codec.decode(bytes, ProtocolVersion.DEFAULT);
+
+    List<Map.Entry<String, Integer>> entries = new ArrayList<>(map.entrySet());
+    assertThat(entries).containsExactly(entry("a", null), entry("b", 2));
+    assertThat(map.containsKey("a")).isTrue();
+    assertThat(map.get("a")).isNull();
+    assertThat(map.get("b")).isEqualTo(2);
+    // The original bytes are reused, even though the eager codec can't encode null values
+    assertThat(codec.encode(map, ProtocolVersion.DEFAULT)).isEqualTo(bytes);
+  }
+
+  @Test
+  public void should_fall_back_to_delegate_when_encoding_with_other_codec() {
+    TypeCodec<Map<String, Integer>> codec =
+        TypeCodecs.lazyMapOf(TypeCodecs.TEXT, TypeCodecs.INT);
+    // Same types, but a different value codec instance
+    TypeCodec<Map<String, Integer>> otherCodec =
+        TypeCodecs.lazyMapOf(TypeCodecs.TEXT, new IntCodec());
+    ByteBuffer bytes =
+        TypeCodecs.mapOf(TypeCodecs.TEXT, TypeCodecs.INT)
+            .encode(ImmutableMap.of("a", 1, "b", 2), ProtocolVersion.DEFAULT);
+    Map<String, Integer> map = codec.decode(bytes, ProtocolVersion.DEFAULT);
+    Map<String, Integer> mapWithNullValue =
+        codec.decode(encodeWithNullValue(), ProtocolVersion.DEFAULT);
+
+    // The contents are re-encoded by the delegate, which rejects the null value
+    assertThat(otherCodec.encode(map, ProtocolVersion.DEFAULT)).isEqualTo(bytes);
+    assertThatThrownBy(() -> otherCodec.encode(mapWithNullValue, ProtocolVersion.DEFAULT))
+        .isInstanceOf(NullPointerException.class)
+        .hasMessage("Map values cannot be null");
+  }
+
+  // {'a': null, 'b': 2} (the eager codec can't produce this, but the server can)
+  private static ByteBuffer encodeWithNullValue() {
+    ByteBuffer bytes = ByteBuffer.allocate(4 + (4 + 1 + 4) + (4 + 1 + 4 + 4));
+    bytes.putInt(2);
+    bytes.putInt(1).put((byte) 'a').putInt(-1);
+    bytes.putInt(1).put((byte) 'b').putInt(4).putInt(2);
+    bytes.flip();
+    return bytes;
+  }
+}
@@ -25,7 +25,9 @@ import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
 import com.datastax.oss.driver.shaded.guava.common.collect.ImmutableList;
 import com.datastax.oss.protocol.internal.util.Bytes;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import org.junit.Before;
 import org.junit.Test;
@@ -72,6 +74,35 @@ public class ListCodecTest extends CodecTestBase<List<Integer>> {
             );
   }
 
+  @Test
+  public void should_encode_nested_lists_in_a_single_pass() {
+    TypeCodec<List<List<Integer>>> nestedCodec =
+        TypeCodecs.listOf(TypeCodecs.listOf(TypeCodecs.INT));
+    assertThat(nestedCodec).isInstanceOf(SizedTypeCodec.class);
+    List<List<Integer>> value = ImmutableList.of(ImmutableList.of(1), ImmutableList.of(2, 3));
+
+    ByteBuffer bytes = nestedCodec.encode(value, ProtocolVersion.DEFAULT);
+
+    assertThat(Bytes.toHexString(bytes))
+        .isEqualTo(
+            "0x"
+                + "00000002" // number of elements
+                + "0000000c" // size of element 1
+                + "00000001" // element 1: number of elements
+                + "0000000400000001" // element 1: size + contents of element 1
+                + "00000014" // size of element 2
+                + "00000002" // element 2: number of elements
+                + "0000000400000002" // element 2: size + contents of element 1
+                + "0000000400000003" // element 2: size + contents of element 2
+            );
+    assertThat(nestedCodec.decode(bytes, ProtocolVersion.DEFAULT)).isEqualTo(value);
+  }
+
+  @Test(expected = NullPointerException.class)
+  public void should_fail_to_encode_null_element_with_sized_element_codec() {
+    TypeCodecs.listOf(TypeCodecs.INT).encode(Arrays.asList(1, null), ProtocolVersion.DEFAULT);
+  }
+
   @Test
   public void should_decode_null_as_empty_list() {
     assertThat(decode(null)).isEmpty();
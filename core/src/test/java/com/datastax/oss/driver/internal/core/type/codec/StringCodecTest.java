@@ -17,8 +17,12 @@ package com.datastax.oss.driver.internal.core.type.codec;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
 import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
 import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import org.junit.Test;
 
 public class StringCodecTest extends CodecTestBase<String> {
@@ -41,6 +45,35 @@ public class StringCodecTest extends CodecTestBase<String> {
     assertThat(decode(null)).isNull();
   }
 
+  @Test
+  public void should_decode_slice_of_larger_buffer() {
+    byte[] array = "xxhéllo wörldxx".getBytes(StandardCharsets.UTF_8);
+    ByteBuffer slice = ByteBuffer.wrap(array, 2, array.length - 4).slice();
+    assertThat(codec.decode(slice, ProtocolVersion.DEFAULT)).isEqualTo("héllo wörld");
+    assertThat(slice.position()).isEqualTo(0);
+
+    ByteBuffer direct = ByteBuffer.allocateDirect(5);
+    direct.put("hello".getBytes(StandardCharsets.US_ASCII)).flip();
+    assertThat(codec.decode(direct, ProtocolVersion.DEFAULT)).isEqualTo("hello");
+    assertThat(direct.position()).isEqualTo(0);
+  }
+
+  @Test
+  public void should_reuse_instances_when_interning() {
+    TypeCodec<String> interning = TypeCodecs.internedText(16);
+
+    String first = interning.decode(utf8("ACTIVE"), ProtocolVersion.DEFAULT);
+    String second = interning.decode(utf8("ACTIVE"), ProtocolVersion.DEFAULT);
+    String other = interning.decode(utf8("INACTIVE"), ProtocolVersion.DEFAULT);
+    String nonAscii = interning.decode(utf8("données"), ProtocolVersion.DEFAULT);
+
+    assertThat(first).isEqualTo("ACTIVE").isSameAs(second);
+    assertThat(other).isEqualTo("INACTIVE");
+    assertThat(nonAscii).isEqualTo("données");
+    assertThat(interning.decode(utf8(""), ProtocolVersion.DEFAULT)).isEmpty();
+    assertThat(interning.decode(null, ProtocolVersion.DEFAULT)).isNull();
+  }
+
   @Test
   public void should_format() {
     assertThat(format("hello")).isEqualTo("'hello'");
@@ -78,4 +111,8 @@ public class StringCodecTest extends CodecTestBase<String> {
     assertThat(codec.accepts("hello")).isTrue();
     assertThat(codec.accepts(Integer.MIN_VALUE)).isFalse();
   }
+
+  private static ByteBuffer utf8(String s) {
+    return ByteBuffer.wrap(s.getBytes(StandardCharsets.UTF_8));
+  }
 }
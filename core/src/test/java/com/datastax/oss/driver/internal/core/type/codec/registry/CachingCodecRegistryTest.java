@@ -37,6 +37,7 @@ import com.datastax.oss.driver.internal.core.data.DefaultTupleValue;
 import com.datastax.oss.driver.internal.core.data.DefaultUdtValue;
 import com.datastax.oss.driver.internal.core.type.codec.CqlIntToStringCodec;
 import com.datastax.oss.driver.internal.core.type.codec.IntCodec;
+import com.datastax.oss.driver.internal.core.type.codec.IntListToArrayCodec;
 import com.datastax.oss.driver.internal.core.type.codec.ListCodec;
 import com.datastax.oss.driver.internal.core.type.codec.registry.CachingCodecRegistryTest.TestCachingCodecRegistry.MockCache;
 import com.datastax.oss.driver.shaded.guava.common.collect.Lists;
@@ -264,6 +265,18 @@ public class CachingCodecRegistryTest {
         .hasMessage(expected);
   }
 
+  @Test
+  public void should_create_primitive_array_codec_only_if_array_type_requested() {
+    TestCachingCodecRegistry registry = new TestCachingCodecRegistry(mockCache);
+    ListType intList = DataTypes.listOf(DataTypes.INT);
+
+    assertThat(registry.codecFor(intList, int[].class)).isInstanceOf(IntListToArrayCodec.class);
+    assertThat(registry.codecFor(int[].class)).isInstanceOf(IntListToArrayCodec.class);
+    assertThat(registry.codecFor(intList)).isInstanceOf(ListCodec.class);
+    assertThat(registry.codecFor(intList, GenericType.listOf(Integer.class)))
+        .isInstanceOf(ListCodec.class);
+  }
+
   @Test
   @UseDataProvider(
       value = "tuplesWithCqlTypes",
@@ -0,0 +1,116 @@
+/*
+ * Copyright DataStax, Inc.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.datastax.oss.driver.internal.core.type.codec.registry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.datastax.oss.driver.api.core.type.DataType;
+import com.datastax.oss.driver.api.core.type.DataTypes;
+import com.datastax.oss.driver.api.core.type.codec.CodecNotFoundException;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodec;
+import com.datastax.oss.driver.api.core.type.reflect.GenericType;
+import com.datastax.oss.driver.internal.core.type.codec.ListCodec;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class LockFreeCodecRegistryTest {
+
+  @Test
+  public void should_return_same_codec_for_same_and_equal_cql_type_instances() {
+    LockFreeCodecRegistry registry = new LockFreeCodecRegistry("test");
+    DataType listOfInt = DataTypes.listOf(DataTypes.INT);
+    GenericType<List<Integer>> javaType = GenericType.listOf(Integer.class);
+
+    TypeCodec<List<Integer>> codec1 = registry.codecFor(listOfInt, javaType);
+    // Equal but not identical Java type
+    TypeCodec<List<Integer>> codec2 =
+        registry.codecFor(listOfInt, GenericType.listOf(Integer.class));
+    // Equal but not identical CQL type
+    TypeCodec<List<Integer>> codec3 = registry.codecFor(DataTypes.listOf(DataTypes.INT), javaType);
+
+    assertThat(codec1).isInstanceOf(ListCodec.class);
+    assertThat(codec2).isSameAs(codec1);
+    assertThat(codec3).isSameAs(codec1);
+  }
+
+  @Test
+  public void should_distinguish_java_types_for_same_cql_type_instance() {
+    LockFreeCodecRegistry registry = new LockFreeCodecRegistry("test");
+    DataType listOfInt = DataTypes.listOf(DataTypes.INT);
+
+    TypeCodec<?> defaultCodec = registry.codecFor(listOfInt);
+    TypeCodec<?> arrayCodec = registry.codecFor(listOfInt, int[].class);
+
+    assertThat(defaultCodec.getJavaType()).isEqualTo(GenericType.listOf(Integer.class));
+    assertThat(arrayCodec.getJavaType()).isEqualTo(GenericType.of(int[].class));
+    assertThat(registry.codecFor(listOfInt)).isSameAs(defaultCodec);
+    assertThat(registry.codecFor(listOfInt, int[].class)).isSameAs(arrayCodec);
+  }
+
+  @Test
+  public void should_not_resolve_again_for_same_instances() {
+    AtomicInteger resolutions = new AtomicInteger();
+    LockFreeCodecRegistry registry =
+        new LockFreeCodecRegistry("test") {
+          @Override
+          protected TypeCodec<?> getCachedCodec(
+              DataType cqlType, GenericType<?> javaType, boolean isJavaCovariant) {
+            resolutions.incrementAndGet();
+            return super.getCachedCodec(cqlType, javaType, isJavaCovariant);
+          }
+        };
+    DataType setOfText = DataTypes.setOf(DataTypes.TEXT);
+    GenericType<Set<String>> javaType = GenericType.setOf(String.class);
+    DataType listOfInt = DataTypes.listOf(DataTypes.INT);
+
+    // One key at a time, different keys might share a slot of the identity table
+    TypeCodec<Set<String>> genericCodec = registry.codecFor(setOfText, javaType);
+    int resolutionCount = resolutions.get();
+    assertThat(registry.codecFor(setOfText, javaType)).isSameAs(genericCodec);
+    assertThat(resolutions.get()).isEqualTo(resolutionCount);
+
+    TypeCodec<Object> defaultCodec = registry.codecFor(setOfText);
+    resolutionCount = resolutions.get();
+    assertThat(registry.<Object>codecFor(setOfText)).isSameAs(defaultCodec);
+    assertThat(resolutions.get()).isEqualTo(resolutionCount);
+
+    TypeCodec<int[]> classCodec = registry.codecFor(listOfInt, int[].class);
+    resolutionCount = resolutions.get();
+    assertThat(registry.codecFor(listOfInt, int[].class)).isSameAs(classCodec);
+    assertThat(resolutions.get()).isEqualTo(resolutionCount);
+  }
+
+  @Test
+  public void should_find_codec_for_java_type_only() {
+    LockFreeCodecRegistry registry = new LockFreeCodecRegistry("test");
+    TypeCodec<List<String>> codec = registry.codecFor(GenericType.listOf(String.class));
+    assertThat(codec.getCqlType()).isEqualTo(DataTypes.listOf(DataTypes.TEXT));
+    assertThat(registry.codecFor(GenericType.listOf(String.class))).isSameAs(codec);
+  }
+
+  @Test
+  public void should_not_cache_lookup_failures() {
+    LockFreeCodecRegistry registry = new LockFreeCodecRegistry("test");
+    DataType listOfText = DataTypes.listOf(DataTypes.TEXT);
+    for (int i = 0; i < 2; i++) {
+      assertThatThrownBy(() -> registry.codecFor(listOfText, GenericType.listOf(Integer.class)))
+          .isInstanceOf(CodecNotFoundException.class);
+    }
+  }
+}
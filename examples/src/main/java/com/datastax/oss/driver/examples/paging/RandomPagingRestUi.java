@@ -62,6 +62,10 @@ import org.glassfish.jersey.server.ResourceConfig;
  * acceptable for some use cases; for example, if you show 10 results per page and you think users
  * are unlikely to browse past page 10, you only need to retrieve at most 100 rows.
  *
+ * <p>To mitigate that cost, the pager executes the query itself: it skips whole protocol pages
+ * that end before the requested offset, and remembers the paging states of the pages it walks
+ * past, so that a later request for the same user resumes from the closest known page.
+ *
  * <p>Preconditions:
  *
  * <ul>
@@ -87,7 +91,10 @@ public class RandomPagingRestUi {
   // This is set artificially low for the sake of this example.
   // Unless your rows are very large, you can probably use a much higher value (the driver's default
   // is 5000).
+  // This is a multiple of ITEMS_PER_PAGE, so that OffsetPager can skip whole protocol pages.
   private static final int FETCH_SIZE = 60;
+  // How many paging states the pager will remember, across all users.
+  private static final int MAX_CACHED_PAGING_STATES = 1000;
 
   private static final URI BASE_URI =
       UriBuilder.fromUri("http://localhost/").path("").port(HTTP_PORT).build();
@@ -210,7 +217,7 @@ public class RandomPagingRestUi {
     @PostConstruct
     @SuppressWarnings("unused")
     public void init() {
-      this.pager = new OffsetPager(ITEMS_PER_PAGE);
+      this.pager = new OffsetPager(ITEMS_PER_PAGE, MAX_CACHED_PAGING_STATES);
       this.videosByUser =
           session.prepare(
               "SELECT videoid, title, added FROM examples.random_paging_rest_ui WHERE userid = ?");
@@ -232,7 +239,7 @@ public class RandomPagingRestUi {
       if (requestedPageNumber == null) {
         requestedPageNumber = 1;
       }
-      Page<Row> page = pager.getPage(session.execute(statement), requestedPageNumber);
+      Page<Row> page = pager.getPage(session, statement, requestedPageNumber);
 
       List<UserVideo> videos = new ArrayList<>(page.getElements().size());
       for (Row row : page.getElements()) {